@@ -0,0 +1,40 @@
+package com.example.russianroulette.benchmark;
+
+import com.example.russianroulette.config.ConfigManager;
+import org.bukkit.configuration.file.YamlConfiguration;
+
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Builds a ConfigManager from the bundled default config.yml and messages.yml,
+ * so benchmarks measure the same data a fresh install runs with.
+ */
+final class BenchmarkConfigs {
+
+    private BenchmarkConfigs() {
+    }
+
+    static ConfigManager defaults() {
+        ConfigManager config = new ConfigManager(null);
+        config.load(loadResource("config.yml"), loadResource("messages.yml"));
+        return config;
+    }
+
+    private static YamlConfiguration loadResource(String name) {
+        InputStream in = BenchmarkConfigs.class.getClassLoader().getResourceAsStream(name);
+        if (in == null) {
+            throw new IllegalStateException("Missing resource " + name);
+        }
+
+        try (Reader reader = new InputStreamReader(in, StandardCharsets.UTF_8)) {
+            return YamlConfiguration.loadConfiguration(reader);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.example.russianroulette.benchmark;
+
+import com.example.russianroulette.engine.EngineListener;
+import com.example.russianroulette.engine.EngineSettings;
+import com.example.russianroulette.engine.ManualClock;
+import com.example.russianroulette.engine.RouletteEngine;
+import com.example.russianroulette.game.GameMode;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A whole game on the headless engine, with idle ticks skipped.
+ * Every turn times out, so this covers the countdown, turn timer and trigger paths.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EngineBenchmark {
+
+    @Param({ "2", "6" })
+    public int players;
+
+    private final Random random = new Random(42L);
+    private List<UUID> playerIds;
+    private EngineSettings settings;
+
+    @Setup
+    public void setup() {
+        playerIds = new ArrayList<>();
+        for (int i = 0; i < players; i++) {
+            playerIds.add(new UUID(0L, i));
+        }
+        settings = new EngineSettings(GameMode.CLASSIC, 2, 6, 30, 10, false, 40L);
+    }
+
+    @Benchmark
+    public long fullGame() {
+        ManualClock clock = new ManualClock();
+        RouletteEngine[] holder = new RouletteEngine[1];
+        RouletteEngine engine = new RouletteEngine(settings, clock, new EngineListener() {
+            @Override
+            public void onGameBegin() {
+                holder[0].startTurn();
+            }
+        }, random);
+        holder[0] = engine;
+        for (UUID playerId : playerIds) {
+            engine.addPlayer(playerId);
+        }
+
+        engine.start();
+        while (clock.skipToNext()) {
+            // Keep going until the game has nothing left scheduled
+        }
+        return clock.getCurrentTick();
+    }
+}
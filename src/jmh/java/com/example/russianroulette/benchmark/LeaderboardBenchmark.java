@@ -0,0 +1,63 @@
+package com.example.russianroulette.benchmark;
+
+import com.example.russianroulette.stats.Leaderboard;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Leaderboard cost of a score change after a game and of a rank lookup on join.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LeaderboardBenchmark {
+
+    @Param({ "1000", "100000" })
+    public int players;
+
+    private Leaderboard board;
+    private UUID[] ids;
+    private int[] wins;
+    private Random random;
+
+    @Setup
+    public void setup() {
+        board = new Leaderboard();
+        ids = new UUID[players];
+        wins = new int[players];
+        random = new Random(42);
+        for (int i = 0; i < players; i++) {
+            ids[i] = UUID.randomUUID();
+            wins[i] = random.nextInt(500);
+            board.update(ids[i], wins[i]);
+        }
+    }
+
+    @Benchmark
+    public int recordWin() {
+        int i = random.nextInt(players);
+        board.update(ids[i], ++wins[i]);
+        return board.size();
+    }
+
+    @Benchmark
+    public int getRank() {
+        return board.getRank(ids[random.nextInt(players)]);
+    }
+}
@@ -0,0 +1,66 @@
+package com.example.russianroulette.benchmark;
+
+import com.example.russianroulette.config.ConfigManager;
+import com.example.russianroulette.utils.MessageUtils;
+import org.bukkit.Material;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Message lookup and formatting done on every broadcast.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MessageBenchmark {
+
+    private ConfigManager config;
+    private String title;
+    private int tick;
+
+    @Setup
+    public void setup() {
+        config = BenchmarkConfigs.defaults();
+        title = MessageUtils.colorize("&c&lRUSSIAN ROULETTE &7- &eBet placed!");
+    }
+
+    @Benchmark
+    public String getMessage() {
+        return config.getMessage("playerSurvived", "player", "Steve");
+    }
+
+    @Benchmark
+    public String getMessageChangingArgs() {
+        // Defeats the last-result memo, like the per-second turn timer
+        return config.getMessage("turnTimer", "time", tick++ & 31);
+    }
+
+    @Benchmark
+    public String getRawMessage() {
+        return config.getRawMessage("scoreboardTurn");
+    }
+
+    @Benchmark
+    public Map<Material, Integer> getAllowedBetItems() {
+        return config.getAllowedBetItems();
+    }
+
+    @Benchmark
+    public String centerMessage() {
+        return MessageUtils.centerMessage(title);
+    }
+}
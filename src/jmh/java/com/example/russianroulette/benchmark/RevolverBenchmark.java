@@ -0,0 +1,56 @@
+package com.example.russianroulette.benchmark;
+
+import com.example.russianroulette.game.Revolver;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cylinder spin and trigger pull. Five bullets is the worst case for the
+ * rejection loop in {@link Revolver#shuffle()}, since most draws hit a loaded chamber.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RevolverBenchmark {
+
+    @Param({ "1", "3", "5" })
+    public int bullets;
+
+    private Revolver revolver;
+
+    @Setup
+    public void setup() {
+        revolver = new Revolver(bullets, new Random(42L));
+    }
+
+    @Benchmark
+    public int shuffle() {
+        revolver.shuffle();
+        return revolver.getCurrentChamberIndex();
+    }
+
+    @Benchmark
+    public boolean pullTrigger() {
+        boolean hit = revolver.pullTrigger();
+        // Reload like the game does, otherwise every pull after the last bullet is a blank
+        if (!revolver.hasBullets()) {
+            revolver.shuffle();
+        }
+        return hit;
+    }
+}
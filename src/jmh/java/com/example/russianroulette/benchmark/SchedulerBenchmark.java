@@ -0,0 +1,61 @@
+package com.example.russianroulette.benchmark;
+
+import com.example.russianroulette.engine.ClockTask;
+import com.example.russianroulette.scheduler.TimingWheel;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Timing wheel cost per tick with many tables running, and the cost of
+ * scheduling and cancelling a turn delay.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SchedulerBenchmark {
+
+    // Number of tables, each with a 1 second turn timer and a 2 tick effect
+    @Param({ "1", "40", "200" })
+    public int tables;
+
+    private TimingWheel wheel;
+    private long counter;
+
+    @Setup
+    public void setup() {
+        wheel = new TimingWheel(e -> {
+            throw e;
+        });
+        for (int i = 0; i < tables; i++) {
+            wheel.scheduleRepeating(i % 20, 20L, () -> counter++);
+            wheel.scheduleRepeating(i % 2, 2L, () -> counter++);
+        }
+    }
+
+    @Benchmark
+    public long tick() {
+        wheel.advanceTo(wheel.getCurrentTick() + 1);
+        return counter;
+    }
+
+    @Benchmark
+    public boolean scheduleAndCancel() {
+        ClockTask task = wheel.schedule(40L, () -> counter++);
+        task.cancel();
+        return task.isCancelled();
+    }
+}
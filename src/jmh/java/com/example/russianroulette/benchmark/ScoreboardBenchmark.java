@@ -0,0 +1,43 @@
+package com.example.russianroulette.benchmark;
+
+import com.example.russianroulette.scoreboard.ScoreboardManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Sidebar line building, which runs once per player every second of a turn.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ScoreboardBenchmark {
+
+    private ScoreboardManager scoreboard;
+    private int tick;
+
+    @Setup
+    public void setup() {
+        scoreboard = new ScoreboardManager(null, BenchmarkConfigs.defaults());
+    }
+
+    @Benchmark
+    public List<String> buildLines() {
+        // Count the timer down like a real turn so no line is constant
+        int time = 30 - (tick++ % 30);
+        return scoreboard.buildLines(4, 2, "Steve", "IN_PROGRESS", time);
+    }
+}
@@ -0,0 +1,263 @@
+package com.example.russianroulette.loadtest;
+
+import be.seeseemelk.mockbukkit.MockBukkit;
+import be.seeseemelk.mockbukkit.MockPlugin;
+import be.seeseemelk.mockbukkit.ServerMock;
+import com.example.russianroulette.RussianRoulettePlugin;
+import com.example.russianroulette.metrics.CounterMetric;
+import com.example.russianroulette.metrics.Histogram;
+import com.example.russianroulette.scheduler.TaskProfiler;
+import net.milkbowl.vault.economy.Economy;
+import org.bukkit.configuration.file.FileConfiguration;
+import org.bukkit.plugin.ServicePriority;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Load test: runs the plugin on a MockBukkit server with many tables of simulated
+ * players playing full games (join, countdown, intro, turns, payout) back to back,
+ * and reports the main-thread cost per tick, allocations and games per minute.
+ * Ticks run in real time, 20 per second, because the plugin's scheduler follows the
+ * wall clock; a tick that overruns its 50 ms is followed straight by the next one,
+ * like on a lagging server. Settings are system properties, see the loadtest profile.
+ */
+public final class LoadTest {
+
+    private static final long TICK_NANOS = 50_000_000L;
+    private static final String WORLD = "loadtest";
+    // Tables on a grid, far enough apart that nobody sees the next table's particles
+    private static final int GRID_WIDTH = 32;
+    private static final double TABLE_SPACING = 64;
+    private static final double TABLE_Y = 64;
+    private static final double SEAT_RADIUS = 2;
+    private static final int SEATS = 6;
+
+    private LoadTest() {
+    }
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        int tables = Integer.getInteger("loadtest.tables", 100);
+        int playersPerTable = Integer.getInteger("loadtest.players", SEATS);
+        int warmupSeconds = Integer.getInteger("loadtest.warmup", 30);
+        int durationSeconds = Integer.getInteger("loadtest.duration", 300);
+        long seed = Long.getLong("loadtest.seed", 1L);
+        Path reportFile = Paths.get(System.getProperty("loadtest.report", "loadtest-report.txt"));
+
+        if (playersPerTable < 2 || playersPerTable > SEATS) {
+            throw new IllegalArgumentException("loadtest.players must be between 2 and " + SEATS);
+        }
+
+        ServerMock server = MockBukkit.mock();
+        try {
+            server.addSimpleWorld(WORLD);
+
+            // Hook an in-memory economy so bets and payouts take the Vault path
+            MockPlugin vault = MockBukkit.createMockPlugin("Vault");
+            server.getServicesManager().register(Economy.class, new LoadTestEconomy(), vault, ServicePriority.Normal);
+
+            RussianRoulettePlugin plugin = MockBukkit.load(RussianRoulettePlugin.class);
+            configure(plugin, tables, playersPerTable);
+
+            Random random = new Random(seed);
+            List<SimulatedPlayer> everyone = new ArrayList<>();
+            List<SimulatedTable> simulated = new ArrayList<>();
+            for (int table = 0; table < tables; table++) {
+                List<SimulatedPlayer> players = new ArrayList<>();
+                for (int seat = 0; seat < playersPerTable; seat++) {
+                    SimulatedPlayer player = new SimulatedPlayer(server, "T" + table + "P" + seat);
+                    server.addPlayer(player);
+                    players.add(player);
+                }
+                // The host opens the table with /rr start
+                players.get(0).setOp(true);
+                everyone.addAll(players);
+                simulated.add(new SimulatedTable(plugin, server, arenaName(table), players, random));
+            }
+
+            String report = run(server, plugin, simulated, everyone,
+                    tables, playersPerTable, warmupSeconds * 20L, durationSeconds * 20L);
+            System.out.println(report);
+            Files.write(reportFile, report.getBytes(StandardCharsets.UTF_8));
+        } finally {
+            MockBukkit.unmock();
+        }
+    }
+
+    /**
+     * Replace the default arena with one per table and size games to the tables.
+     */
+    private static void configure(RussianRoulettePlugin plugin, int tables, int playersPerTable) {
+        FileConfiguration config = plugin.getConfig();
+        // Every player has to be seated before the game starts
+        config.set("game.minPlayers", playersPerTable);
+        config.set("game.maxPlayers", playersPerTable);
+        config.set("game.allowMultipleGames", true);
+        config.set("arena.teleportToArena", true);
+
+        config.set("arenas", null);
+        for (int table = 0; table < tables; table++) {
+            String path = "arenas." + arenaName(table);
+            double centerX = (table % GRID_WIDTH) * TABLE_SPACING;
+            double centerZ = (table / GRID_WIDTH) * TABLE_SPACING;
+
+            config.set(path + ".world", WORLD);
+            config.set(path + ".center.x", centerX);
+            config.set(path + ".center.y", TABLE_Y);
+            config.set(path + ".center.z", centerZ);
+
+            for (int seat = 0; seat < SEATS; seat++) {
+                double angle = 2 * Math.PI * seat / SEATS;
+                double offsetX = SEAT_RADIUS * Math.cos(angle);
+                double offsetZ = SEAT_RADIUS * Math.sin(angle);
+                String seatPath = path + ".seats.seat" + (seat + 1);
+                config.set(seatPath + ".x", centerX + offsetX);
+                config.set(seatPath + ".y", TABLE_Y);
+                config.set(seatPath + ".z", centerZ + offsetZ);
+                // Face the center of the table
+                config.set(seatPath + ".yaw", Math.toDegrees(Math.atan2(-offsetZ, -offsetX)) - 90);
+            }
+        }
+
+        plugin.saveConfig();
+        plugin.reload();
+    }
+
+    private static String run(ServerMock server, RussianRoulettePlugin plugin, List<SimulatedTable> tables,
+            List<SimulatedPlayer> players, int tableCount, int playersPerTable,
+            long warmupTicks, long measuredTicks) throws InterruptedException {
+        com.sun.management.ThreadMXBean threads =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+        Histogram tickCost = new Histogram();
+        long maxTickNanos = 0;
+        long overBudget = 0;
+        long allocatedBytes = 0;
+
+        long gamesBefore = 0;
+        long turnsBefore = 0;
+        long[] trafficBefore = new long[4];
+        long measureStart = 0;
+
+        long next = System.nanoTime();
+        for (long tick = 0; tick < warmupTicks + measuredTicks; tick++) {
+            if (tick == warmupTicks) {
+                gamesBefore = count(plugin, CounterMetric.GAMES_ENDED);
+                turnsBefore = count(plugin, CounterMetric.TURNS);
+                trafficBefore = traffic(players);
+                measureStart = System.nanoTime();
+            }
+
+            long allocatedStart = threads.getCurrentThreadAllocatedBytes();
+            long start = System.nanoTime();
+
+            // Player input first, then the server tick, like the real main loop
+            for (SimulatedTable table : tables) {
+                table.tick(tick);
+            }
+            server.getScheduler().performOneTick();
+
+            long cost = System.nanoTime() - start;
+            if (tick >= warmupTicks) {
+                tickCost.observe(cost);
+                maxTickNanos = Math.max(maxTickNanos, cost);
+                if (cost > TICK_NANOS) {
+                    overBudget++;
+                }
+                allocatedBytes += threads.getCurrentThreadAllocatedBytes() - allocatedStart;
+            }
+
+            next += TICK_NANOS;
+            long sleep = next - System.nanoTime();
+            if (sleep > 0) {
+                TimeUnit.NANOSECONDS.sleep(sleep);
+            } else {
+                // Overran the tick, carry on without trying to catch up
+                next = System.nanoTime();
+            }
+        }
+
+        double minutes = (System.nanoTime() - measureStart) / 60e9;
+        long games = count(plugin, CounterMetric.GAMES_ENDED) - gamesBefore;
+        long turns = count(plugin, CounterMetric.TURNS) - turnsBefore;
+        long[] trafficAfter = traffic(players);
+
+        StringBuilder out = new StringBuilder();
+        out.append("Russian Roulette load test\n");
+        out.append(String.format("  tables            %d x %d players%n", tableCount, playersPerTable));
+        out.append(String.format("  measured          %d ticks after %d warm-up ticks%n", measuredTicks, warmupTicks));
+        out.append('\n');
+        out.append("Throughput\n");
+        out.append(String.format("  games finished    %d (%.1f per minute)%n", games, games / minutes));
+        out.append(String.format("  turns             %d (%.1f per minute)%n", turns, turns / minutes));
+        out.append('\n');
+        out.append("Main thread per tick, plugin work including the simulated input (ms)\n");
+        out.append(String.format("  mean %s  p50 %s  p99 %s  max %s%n",
+                formatMillis(tickCost.getSumNanos() / Math.max(1, tickCost.getCount())),
+                formatBound(tickCost.getQuantileBound(0.5)),
+                formatBound(tickCost.getQuantileBound(0.99)),
+                formatMillis(maxTickNanos)));
+        out.append(String.format("  over 50 ms        %d ticks%n", overBudget));
+        out.append(String.format("  allocated         %.1f KB per tick%n", allocatedBytes / 1024.0 / measuredTicks));
+        out.append('\n');
+        out.append("Sent to clients per tick\n");
+        out.append(String.format("  messages %.1f  titles %.1f  sounds %.1f  particles %.1f%n",
+                (trafficAfter[0] - trafficBefore[0]) / (double) measuredTicks,
+                (trafficAfter[1] - trafficBefore[1]) / (double) measuredTicks,
+                (trafficAfter[2] - trafficBefore[2]) / (double) measuredTicks,
+                (trafficAfter[3] - trafficBefore[3]) / (double) measuredTicks));
+        out.append('\n');
+        out.append("Scheduled tasks, ms per tick over the whole run\n");
+        for (TaskProfiler.TaskProfile profile : plugin.getTickScheduler().getProfiler().getProfiles()) {
+            Histogram perTick = profile.getPerTick();
+            out.append(String.format("  %-22s ticks %-7d p50 %s  p99 %s  max %s%n",
+                    profile.getName(),
+                    perTick.getCount(),
+                    formatBound(perTick.getQuantileBound(0.5)),
+                    formatBound(perTick.getQuantileBound(0.99)),
+                    formatMillis(profile.getMaxNanos())));
+        }
+        return out.toString();
+    }
+
+    private static long count(RussianRoulettePlugin plugin, CounterMetric metric) {
+        return plugin.getMetrics().getCounter(metric).get();
+    }
+
+    /**
+     * Sum what every player received: messages, titles, sounds and particles.
+     */
+    private static long[] traffic(List<SimulatedPlayer> players) {
+        long[] totals = new long[4];
+        for (SimulatedPlayer player : players) {
+            totals[0] += player.getMessages();
+            totals[1] += player.getTitles();
+            totals[2] += player.getSounds();
+            totals[3] += player.getParticles();
+        }
+        return totals;
+    }
+
+    private static String arenaName(int table) {
+        return "table" + table;
+    }
+
+    private static String formatMillis(long nanos) {
+        return String.format("%.3f", nanos / 1_000_000.0);
+    }
+
+    /**
+     * Format a histogram bucket bound, e.g. "<0.250" or ">1000.000".
+     */
+    private static String formatBound(long boundNanos) {
+        return boundNanos < 0 ? ">" + formatMillis(1_000_000_000L) : "<" + formatMillis(boundNanos);
+    }
+}
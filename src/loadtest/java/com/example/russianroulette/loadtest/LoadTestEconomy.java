@@ -0,0 +1,169 @@
+package com.example.russianroulette.loadtest;
+
+import net.milkbowl.vault.economy.AbstractEconomy;
+import net.milkbowl.vault.economy.EconomyResponse;
+import net.milkbowl.vault.economy.EconomyResponse.ResponseType;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory Vault economy, so bets, payouts and refunds go through the plugin's
+ * economy gateway like on a real server. Every account starts out rich enough
+ * that no simulated player ever runs out of money.
+ * Called from the gateway's worker thread, hence the concurrent map.
+ */
+final class LoadTestEconomy extends AbstractEconomy {
+
+    private static final double STARTING_BALANCE = 1_000_000_000;
+
+    private final Map<String, Double> balances = new ConcurrentHashMap<>();
+
+    @Override
+    public boolean isEnabled() {
+        return true;
+    }
+
+    @Override
+    public String getName() {
+        return "LoadTest";
+    }
+
+    @Override
+    public boolean hasBankSupport() {
+        return false;
+    }
+
+    @Override
+    public int fractionalDigits() {
+        return 2;
+    }
+
+    @Override
+    public String format(double amount) {
+        return String.format("%.2f", amount);
+    }
+
+    @Override
+    public String currencyNamePlural() {
+        return "coins";
+    }
+
+    @Override
+    public String currencyNameSingular() {
+        return "coin";
+    }
+
+    @Override
+    public boolean hasAccount(String playerName) {
+        return true;
+    }
+
+    @Override
+    public boolean hasAccount(String playerName, String worldName) {
+        return true;
+    }
+
+    @Override
+    public double getBalance(String playerName) {
+        return balances.getOrDefault(playerName, STARTING_BALANCE);
+    }
+
+    @Override
+    public double getBalance(String playerName, String world) {
+        return getBalance(playerName);
+    }
+
+    @Override
+    public boolean has(String playerName, double amount) {
+        return getBalance(playerName) >= amount;
+    }
+
+    @Override
+    public boolean has(String playerName, String worldName, double amount) {
+        return has(playerName, amount);
+    }
+
+    @Override
+    public EconomyResponse withdrawPlayer(String playerName, double amount) {
+        double balance = balances.merge(playerName, STARTING_BALANCE - amount, (old, ignored) -> old - amount);
+        return new EconomyResponse(amount, balance, ResponseType.SUCCESS, null);
+    }
+
+    @Override
+    public EconomyResponse withdrawPlayer(String playerName, String worldName, double amount) {
+        return withdrawPlayer(playerName, amount);
+    }
+
+    @Override
+    public EconomyResponse depositPlayer(String playerName, double amount) {
+        double balance = balances.merge(playerName, STARTING_BALANCE + amount, (old, ignored) -> old + amount);
+        return new EconomyResponse(amount, balance, ResponseType.SUCCESS, null);
+    }
+
+    @Override
+    public EconomyResponse depositPlayer(String playerName, String worldName, double amount) {
+        return depositPlayer(playerName, amount);
+    }
+
+    @Override
+    public EconomyResponse createBank(String name, String player) {
+        return noBanks();
+    }
+
+    @Override
+    public EconomyResponse deleteBank(String name) {
+        return noBanks();
+    }
+
+    @Override
+    public EconomyResponse bankBalance(String name) {
+        return noBanks();
+    }
+
+    @Override
+    public EconomyResponse bankHas(String name, double amount) {
+        return noBanks();
+    }
+
+    @Override
+    public EconomyResponse bankWithdraw(String name, double amount) {
+        return noBanks();
+    }
+
+    @Override
+    public EconomyResponse bankDeposit(String name, double amount) {
+        return noBanks();
+    }
+
+    @Override
+    public EconomyResponse isBankOwner(String name, String playerName) {
+        return noBanks();
+    }
+
+    @Override
+    public EconomyResponse isBankMember(String name, String playerName) {
+        return noBanks();
+    }
+
+    @Override
+    public List<String> getBanks() {
+        return Collections.emptyList();
+    }
+
+    @Override
+    public boolean createPlayerAccount(String playerName) {
+        return true;
+    }
+
+    @Override
+    public boolean createPlayerAccount(String playerName, String worldName) {
+        return true;
+    }
+
+    private static EconomyResponse noBanks() {
+        return new EconomyResponse(0, 0, ResponseType.NOT_IMPLEMENTED, "Banks are not supported");
+    }
+}
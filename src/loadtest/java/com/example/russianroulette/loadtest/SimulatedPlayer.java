@@ -0,0 +1,82 @@
+package com.example.russianroulette.loadtest;
+
+import be.seeseemelk.mockbukkit.ServerMock;
+import be.seeseemelk.mockbukkit.entity.PlayerMock;
+import org.bukkit.Location;
+import org.bukkit.Particle;
+import org.bukkit.Sound;
+import org.bukkit.entity.Entity;
+
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+/**
+ * A mock player that behaves like a connected client: what the server sends it
+ * is counted and dropped instead of being kept around for assertions, so a long
+ * run doesn't grow the heap, and spectating an entity just remembers the target.
+ */
+final class SimulatedPlayer extends PlayerMock {
+
+    private Entity spectatorTarget;
+
+    private long messages;
+    private long titles;
+    private long sounds;
+    private long particles;
+
+    SimulatedPlayer(ServerMock server, String name) {
+        super(server, name, UUID.nameUUIDFromBytes(("LoadTest:" + name).getBytes(StandardCharsets.UTF_8)));
+    }
+
+    @Override
+    public void sendMessage(String message) {
+        messages++;
+    }
+
+    @Override
+    public void sendTitle(String title, String subtitle, int fadeIn, int stay, int fadeOut) {
+        titles++;
+    }
+
+    @Override
+    public void playSound(Location location, Sound sound, float volume, float pitch) {
+        sounds++;
+    }
+
+    @Override
+    public void playSound(net.kyori.adventure.sound.Sound sound, net.kyori.adventure.sound.Sound.Emitter emitter) {
+        sounds++;
+    }
+
+    @Override
+    public <T> void spawnParticle(Particle particle, Location location, int count,
+            double offsetX, double offsetY, double offsetZ, double extra, T data) {
+        particles += count;
+    }
+
+    @Override
+    public void setSpectatorTarget(Entity entity) {
+        spectatorTarget = entity;
+    }
+
+    @Override
+    public Entity getSpectatorTarget() {
+        return spectatorTarget;
+    }
+
+    long getMessages() {
+        return messages;
+    }
+
+    long getTitles() {
+        return titles;
+    }
+
+    long getSounds() {
+        return sounds;
+    }
+
+    long getParticles() {
+        return particles;
+    }
+}
@@ -0,0 +1,203 @@
+package com.example.russianroulette.loadtest;
+
+import be.seeseemelk.mockbukkit.ServerMock;
+import com.example.russianroulette.RussianRoulettePlugin;
+import com.example.russianroulette.game.Game;
+import com.example.russianroulette.game.GameManager;
+import com.example.russianroulette.gui.RevolverGUI;
+import org.bukkit.block.BlockFace;
+import org.bukkit.event.block.Action;
+import org.bukkit.event.inventory.ClickType;
+import org.bukkit.event.inventory.InventoryAction;
+import org.bukkit.event.inventory.InventoryClickEvent;
+import org.bukkit.event.inventory.InventoryType;
+import org.bukkit.event.player.PlayerInteractEvent;
+import org.bukkit.inventory.ItemStack;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+/**
+ * The regulars of one arena, playing one game after another.
+ * The host opens the table with /rr start, the others drop in with /rr join,
+ * and on their turn players pull the trigger after a human-like pause,
+ * through the revolver item or the trigger GUI, or let the turn timer run out.
+ * Everything goes through the plugin's command and listeners, like real input.
+ */
+final class SimulatedTable {
+
+    // Pause between a game being torn down and the host opening the next one
+    private static final long LOBBY_TICKS = 60L;
+    // Players drop in within 2 seconds of the table opening
+    private static final int MAX_JOIN_DELAY_TICKS = 40;
+    // Reaction time once it's a player's turn
+    private static final int MIN_REACTION_TICKS = 10;
+    private static final int MAX_REACTION_TICKS = 60;
+    // Share of turns a player sits out until the turn timer pulls the trigger
+    private static final double IDLE_TURN_CHANCE = 0.05;
+    // Share of pulls done through the trigger GUI instead of the revolver item
+    private static final double GUI_PULL_CHANCE = 0.5;
+
+    private final RussianRoulettePlugin plugin;
+    private final ServerMock server;
+    private final GameManager gameManager;
+    private final String arena;
+    private final List<SimulatedPlayer> players;
+    private final Random random;
+
+    // Game seen on the previous tick, to notice a new one
+    private Game game;
+    private long openAt;
+    private final long[] joinAt;
+    private UUID turnPlayer;
+    private long pullAt;
+
+    SimulatedTable(RussianRoulettePlugin plugin, ServerMock server, String arena,
+            List<SimulatedPlayer> players, Random random) {
+        this.plugin = plugin;
+        this.server = server;
+        this.gameManager = plugin.getGameManager();
+        this.arena = arena;
+        this.players = players;
+        this.random = random;
+        this.joinAt = new long[players.size()];
+        // Don't open every table on the very first tick
+        this.openAt = random.nextInt(MAX_JOIN_DELAY_TICKS);
+    }
+
+    /**
+     * Act for every player at this table. Called once per server tick, before the scheduler runs.
+     * 
+     * @param now Current tick
+     */
+    void tick(long now) {
+        Game current = gameManager.getArenaGame(arena);
+        if (current == null) {
+            open(now);
+            return;
+        }
+
+        if (current != game) {
+            game = current;
+            turnPlayer = null;
+            Arrays.fill(joinAt, Long.MAX_VALUE);
+            for (int i = 1; i < joinAt.length; i++) {
+                joinAt[i] = now + 1 + random.nextInt(MAX_JOIN_DELAY_TICKS);
+            }
+        }
+
+        switch (current.getState()) {
+            case WAITING:
+                join(now);
+                break;
+            case IN_PROGRESS:
+                playTurn(now);
+                break;
+            default:
+                break;
+        }
+    }
+
+    private void open(long now) {
+        if (game != null) {
+            // The last game was just removed
+            game = null;
+            openAt = now + LOBBY_TICKS;
+        }
+
+        if (now >= openAt) {
+            players.get(0).performCommand("rr start " + arena);
+            // Try again later if the game couldn't be created
+            openAt = now + LOBBY_TICKS;
+        }
+    }
+
+    private void join(long now) {
+        for (int i = 1; i < players.size(); i++) {
+            SimulatedPlayer player = players.get(i);
+            if (now < joinAt[i] || gameManager.isPlayerInGame(player)
+                    || gameManager.isJoining(player.getUniqueId())) {
+                continue;
+            }
+
+            player.performCommand("rr join " + arena);
+            // Only tried again if the join didn't go through
+            joinAt[i] = now + MAX_JOIN_DELAY_TICKS;
+        }
+    }
+
+    private void playTurn(long now) {
+        UUID current = game.getCurrentTurnPlayer();
+        if (current == null) {
+            // Between turns
+            turnPlayer = null;
+            return;
+        }
+
+        if (!current.equals(turnPlayer)) {
+            turnPlayer = current;
+            pullAt = random.nextDouble() < IDLE_TURN_CHANCE
+                    ? Long.MAX_VALUE
+                    : now + MIN_REACTION_TICKS + random.nextInt(MAX_REACTION_TICKS - MIN_REACTION_TICKS + 1);
+        }
+
+        if (now < pullAt) {
+            return;
+        }
+        pullAt = Long.MAX_VALUE;
+
+        SimulatedPlayer player = find(current);
+        if (player == null) {
+            return;
+        }
+
+        if (random.nextDouble() < GUI_PULL_CHANCE) {
+            pullWithGui(player);
+        } else {
+            pullWithRevolver(player);
+        }
+    }
+
+    /**
+     * Right-click the revolver, handled by the player listener.
+     */
+    private void pullWithRevolver(SimulatedPlayer player) {
+        ItemStack revolver = null;
+        for (ItemStack item : player.getInventory().getContents()) {
+            if (plugin.getRevolverItem().isRevolver(item)) {
+                revolver = item;
+                break;
+            }
+        }
+        if (revolver == null) {
+            return;
+        }
+
+        server.getPluginManager().callEvent(
+                new PlayerInteractEvent(player, Action.RIGHT_CLICK_AIR, revolver, null, BlockFace.SELF));
+    }
+
+    /**
+     * Click the trigger in the revolver GUI, handled by the GUI listener.
+     */
+    private void pullWithGui(SimulatedPlayer player) {
+        RevolverGUI.openGUI(player, game);
+        server.getPluginManager().callEvent(new InventoryClickEvent(
+                player.getOpenInventory(),
+                InventoryType.SlotType.CONTAINER,
+                RevolverGUI.getTriggerSlot(),
+                ClickType.LEFT,
+                InventoryAction.PICKUP_ALL));
+    }
+
+    private SimulatedPlayer find(UUID playerId) {
+        for (SimulatedPlayer player : players) {
+            if (player.getUniqueId().equals(playerId)) {
+                return player;
+            }
+        }
+        return null;
+    }
+}
@@ -1,13 +1,21 @@
 package com.example.russianroulette;
 
+import com.example.russianroulette.arena.ArenaManager;
 import com.example.russianroulette.commands.RRCommand;
 import com.example.russianroulette.config.ConfigManager;
 import com.example.russianroulette.effects.EffectsManager;
 import com.example.russianroulette.game.GameManager;
-import com.example.russianroulette.listeners.GUIListener;
-import com.example.russianroulette.listeners.PlayerListener;
+import com.example.russianroulette.game.RevolverItem;
+import com.example.russianroulette.listeners.GameListeners;
+import com.example.russianroulette.listeners.SeatListener;
+import com.example.russianroulette.metrics.Metrics;
+import com.example.russianroulette.metrics.MetricsExporter;
+import com.example.russianroulette.rewards.EconomyGateway;
 import com.example.russianroulette.rewards.RewardManager;
+import com.example.russianroulette.scheduler.TickScheduler;
+import com.example.russianroulette.scheduler.WorkQueue;
 import com.example.russianroulette.scoreboard.ScoreboardManager;
+import com.example.russianroulette.stats.StatsManager;
 import net.milkbowl.vault.economy.Economy;
 import org.bukkit.plugin.RegisteredServiceProvider;
 import org.bukkit.plugin.java.JavaPlugin;
@@ -20,16 +28,32 @@ public class RussianRoulettePlugin extends JavaPlugin {
 
     private static RussianRoulettePlugin instance;
     
+    private Metrics metrics;
+    private MetricsExporter metricsExporter;
+    private TickScheduler tickScheduler;
+    private WorkQueue workQueue;
     private ConfigManager configManager;
+    private ArenaManager arenaManager;
+    private RevolverItem revolverItem;
     private GameManager gameManager;
     private EffectsManager effectsManager;
     private RewardManager rewardManager;
     private ScoreboardManager scoreboardManager;
+    private StatsManager statsManager;
+    private GameListeners gameListeners;
     private Economy economy;
+    private EconomyGateway economyGateway;
 
     @Override
     public void onEnable() {
         instance = this;
+        // Counters first, everything below records into them
+        metrics = new Metrics();
+        
+        // Start the shared game clock
+        tickScheduler = new TickScheduler(this);
+        tickScheduler.start();
+        workQueue = new WorkQueue(this, tickScheduler);
         
         // Initialize configuration
         configManager = new ConfigManager(this);
@@ -39,19 +63,34 @@ public class RussianRoulettePlugin extends JavaPlugin {
         setupEconomy();
         
         // Initialize managers
+        arenaManager = new ArenaManager(this);
+        arenaManager.loadArenas();
+        revolverItem = new RevolverItem(this);
         gameManager = new GameManager(this);
         effectsManager = new EffectsManager(this);
         rewardManager = new RewardManager(this);
         scoreboardManager = new ScoreboardManager(this);
+        statsManager = new StatsManager(this);
+        statsManager.start();
+        scoreboardManager.startLeaderboard();
+        
+        // Refund stakes from games a crash cut short
+        rewardManager.recoverEscrow();
+        
+        // Write metrics for the node exporter
+        metricsExporter = new MetricsExporter(this, metrics);
+        metricsExporter.start();
         
         // Register commands
         RRCommand rrCommand = new RRCommand(this);
         getCommand("rr").setExecutor(rrCommand);
         getCommand("rr").setTabCompleter(rrCommand);
         
-        // Register listeners
-        getServer().getPluginManager().registerEvents(new PlayerListener(this), this);
-        getServer().getPluginManager().registerEvents(new GUIListener(this), this);
+        // Seat stands in chunks loaded later are reconciled as they come in
+        getServer().getPluginManager().registerEvents(new SeatListener(this), this);
+        
+        // Game listeners register themselves once the first game is created
+        gameListeners = new GameListeners(this);
         
         getLogger().info("Russian Roulette has been enabled!");
         getLogger().info("Version: " + getDescription().getVersion());
@@ -67,7 +106,17 @@ public class RussianRoulettePlugin extends JavaPlugin {
     public void onDisable() {
         // End all active games gracefully
         if (gameManager != null) {
-            gameManager.endAllGames();
+            gameManager.shutdown();
+        }
+        
+        // Run the teardown of those games now instead of spreading it over ticks
+        if (workQueue != null) {
+            workQueue.drain();
+        }
+        
+        // On Folia the games hand their settlements to the global region, which may no longer tick
+        if (tickScheduler != null) {
+            tickScheduler.runPending();
         }
         
         // Clean up scoreboards
@@ -75,6 +124,31 @@ public class RussianRoulettePlugin extends JavaPlugin {
             scoreboardManager.removeAllScoreboards();
         }
         
+        // Finish payouts and refunds from the games that just ended
+        if (economyGateway != null) {
+            economyGateway.shutdown();
+        }
+        
+        // Stopping drains the callbacks of those transactions
+        if (tickScheduler != null) {
+            tickScheduler.stop();
+        }
+        
+        // Write outstanding stats after the last games ended
+        if (statsManager != null) {
+            statsManager.shutdown();
+        }
+        
+        // Final metrics, with every game gone
+        if (metricsExporter != null) {
+            metricsExporter.shutdown();
+        }
+        
+        // Sync the escrow journal last, after every settlement above was recorded
+        if (rewardManager != null) {
+            rewardManager.shutdown();
+        }
+        
         getLogger().info("Russian Roulette has been disabled!");
         instance = null;
     }
@@ -91,7 +165,11 @@ public class RussianRoulettePlugin extends JavaPlugin {
             return false;
         }
         economy = rsp.getProvider();
-        return economy != null;
+        if (economy == null) {
+            return false;
+        }
+        economyGateway = new EconomyGateway(this, economy);
+        return true;
     }
 
     /**
@@ -99,6 +177,7 @@ public class RussianRoulettePlugin extends JavaPlugin {
      */
     public void reload() {
         configManager.loadConfigs();
+        arenaManager.loadArenas();
         getLogger().info("Configuration reloaded!");
     }
 
@@ -107,10 +186,30 @@ public class RussianRoulettePlugin extends JavaPlugin {
         return instance;
     }
 
+    public Metrics getMetrics() {
+        return metrics;
+    }
+
+    public TickScheduler getTickScheduler() {
+        return tickScheduler;
+    }
+
+    public WorkQueue getWorkQueue() {
+        return workQueue;
+    }
+
     public ConfigManager getConfigManager() {
         return configManager;
     }
 
+    public ArenaManager getArenaManager() {
+        return arenaManager;
+    }
+
+    public RevolverItem getRevolverItem() {
+        return revolverItem;
+    }
+
     public GameManager getGameManager() {
         return gameManager;
     }
@@ -127,10 +226,27 @@ public class RussianRoulettePlugin extends JavaPlugin {
         return scoreboardManager;
     }
 
+    public StatsManager getStatsManager() {
+        return statsManager;
+    }
+
+    public GameListeners getGameListeners() {
+        return gameListeners;
+    }
+
     public Economy getEconomy() {
         return economy;
     }
 
+    /**
+     * Get the gateway all economy transactions go through.
+     * 
+     * @return The gateway, or null if no economy is hooked
+     */
+    public EconomyGateway getEconomyGateway() {
+        return economyGateway;
+    }
+
     public boolean hasEconomy() {
         return economy != null;
     }
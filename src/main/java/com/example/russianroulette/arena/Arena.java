@@ -0,0 +1,84 @@
+package com.example.russianroulette.arena;
+
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.World;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A named table location: world, table center and the seats around it.
+ * Arena definitions are immutable; editing an arena reloads the registry.
+ */
+public class Arena {
+
+    private final String name;
+    private final String worldName;
+    private final double centerX;
+    private final double centerY;
+    private final double centerZ;
+    private final List<double[]> seats;
+
+    public Arena(String name, String worldName, double centerX, double centerY, double centerZ,
+            List<double[]> seats) {
+        this.name = name;
+        this.worldName = worldName;
+        this.centerX = centerX;
+        this.centerY = centerY;
+        this.centerZ = centerZ;
+        this.seats = Collections.unmodifiableList(seats);
+    }
+
+    /**
+     * Get the world this arena is in.
+     * 
+     * @return The world, or null if it isn't loaded
+     */
+    public World getWorld() {
+        return Bukkit.getWorld(worldName);
+    }
+
+    /**
+     * Build the location of a seat.
+     * 
+     * @param world     World the arena is in
+     * @param seatIndex Zero-based seat index
+     * @return Seat location facing the configured yaw
+     */
+    public Location getSeatLocation(World world, int seatIndex) {
+        double[] seatData = seats.get(seatIndex);
+        Location loc = new Location(world, seatData[0], seatData[1], seatData[2]);
+        loc.setYaw((float) seatData[3]);
+        loc.setPitch(0);
+        return loc;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getWorldName() {
+        return worldName;
+    }
+
+    public double getCenterX() {
+        return centerX;
+    }
+
+    public double getCenterY() {
+        return centerY;
+    }
+
+    public double getCenterZ() {
+        return centerZ;
+    }
+
+    public List<double[]> getSeats() {
+        return seats;
+    }
+
+    public int getSeatCount() {
+        return seats.size();
+    }
+}
@@ -0,0 +1,116 @@
+package com.example.russianroulette.arena;
+
+import org.bukkit.World;
+import org.bukkit.plugin.Plugin;
+
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Keeps the chunks of arenas in play loaded. When a game starts, the chunks around
+ * its table are loaded in the background and then held with plugin chunk tickets until
+ * the game ends, so neither the move to the seats nor the cinematic loads a chunk on the
+ * tick thread. Tables next to each other can share chunks, so every chunk counts its
+ * holders and the ticket is only removed by the last one.
+ * Safe to use from any thread: on Folia, games hold chunks from their own regions.
+ */
+public class ArenaChunks {
+
+    // Blocks around the table center kept loaded, enough for the cinematic orbit
+    private static final int CENTER_MARGIN = 8;
+
+    private final Plugin plugin;
+    // World UUID -> chunk key -> arenas holding that chunk
+    private final Map<UUID, Map<Long, Integer>> holders;
+
+    public ArenaChunks(Plugin plugin) {
+        this.plugin = plugin;
+        this.holders = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Start loading an arena's chunks and hold them once they're loaded.
+     * Returns right away; players can be sent there with an asynchronous teleport meanwhile.
+     * 
+     * @param arena Arena a game is starting in
+     * @param world World the arena is in
+     */
+    public void hold(Arena arena, World world) {
+        Map<Long, Integer> counts = holders.computeIfAbsent(world.getUID(), id -> new ConcurrentHashMap<>());
+        for (long key : getChunkKeys(arena)) {
+            if (counts.merge(key, 1, Integer::sum) > 1) {
+                // Already held or on its way for another arena
+                continue;
+            }
+
+            world.getChunkAtAsync(chunkX(key), chunkZ(key)).thenAccept(chunk ->
+                    // Unless every holder let go while it was loading
+                    counts.computeIfPresent(key, (k, count) -> {
+                        chunk.addPluginChunkTicket(plugin);
+                        return count;
+                    }));
+        }
+    }
+
+    /**
+     * Let go of an arena's chunks. Chunks no other arena holds may unload again.
+     * 
+     * @param arena Arena whose game ended
+     * @param world World the arena is in
+     */
+    public void release(Arena arena, World world) {
+        Map<Long, Integer> counts = holders.get(world.getUID());
+        if (counts == null) {
+            return;
+        }
+
+        for (long key : getChunkKeys(arena)) {
+            counts.computeIfPresent(key, (k, count) -> {
+                if (count > 1) {
+                    return count - 1;
+                }
+                world.removePluginChunkTicket(chunkX(key), chunkZ(key), plugin);
+                return null;
+            });
+        }
+    }
+
+    /**
+     * Get the chunks an arena needs: the table with some room around it and every seat.
+     * 
+     * @param arena Arena to look at
+     * @return Chunk keys, each once
+     */
+    private static Set<Long> getChunkKeys(Arena arena) {
+        Set<Long> keys = new LinkedHashSet<>();
+        int minX = (int) Math.floor(arena.getCenterX() - CENTER_MARGIN) >> 4;
+        int maxX = (int) Math.floor(arena.getCenterX() + CENTER_MARGIN) >> 4;
+        int minZ = (int) Math.floor(arena.getCenterZ() - CENTER_MARGIN) >> 4;
+        int maxZ = (int) Math.floor(arena.getCenterZ() + CENTER_MARGIN) >> 4;
+        for (int x = minX; x <= maxX; x++) {
+            for (int z = minZ; z <= maxZ; z++) {
+                keys.add(chunkKey(x, z));
+            }
+        }
+
+        for (double[] seat : arena.getSeats()) {
+            keys.add(chunkKey((int) Math.floor(seat[0]) >> 4, (int) Math.floor(seat[2]) >> 4));
+        }
+        return keys;
+    }
+
+    private static long chunkKey(int x, int z) {
+        return (long) x & 0xFFFFFFFFL | ((long) z & 0xFFFFFFFFL) << 32;
+    }
+
+    private static int chunkX(long key) {
+        return (int) key;
+    }
+
+    private static int chunkZ(long key) {
+        return (int) (key >>> 32);
+    }
+}
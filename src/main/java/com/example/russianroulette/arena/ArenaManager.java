@@ -0,0 +1,148 @@
+package com.example.russianroulette.arena;
+
+import com.example.russianroulette.RussianRoulettePlugin;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Registry of all configured arenas.
+ * Keeps a queue of free arenas so games can claim a table in constant time.
+ * Claiming and releasing happens on the plugin's scheduler thread; arena lookups are
+ * safe from any thread, e.g. the region threads of Folia.
+ */
+public class ArenaManager {
+
+    private final RussianRoulettePlugin plugin;
+
+    // Arena name (lower case) -> arena definition, replaced as a whole on reload
+    private volatile Map<String, Arena> arenas;
+    // Insertion-ordered so the longest-idle arena is handed out first
+    private final Set<String> freeArenas;
+    private final Set<String> busyArenas;
+    private final SeatPool seatPool;
+    private final ArenaChunks chunks;
+
+    public ArenaManager(RussianRoulettePlugin plugin) {
+        this.plugin = plugin;
+        this.arenas = Collections.emptyMap();
+        this.freeArenas = new LinkedHashSet<>();
+        this.busyArenas = new HashSet<>();
+        this.seatPool = new SeatPool(plugin, this);
+        this.chunks = new ArenaChunks(plugin);
+    }
+
+    /**
+     * Load or reload arena definitions from the config.
+     * Arenas that are currently in use stay claimed until their game ends.
+     */
+    public void loadArenas() {
+        Map<String, Arena> loaded = new LinkedHashMap<>();
+        freeArenas.clear();
+
+        for (Arena arena : plugin.getConfigManager().getArenas()) {
+            String key = key(arena.getName());
+            loaded.put(key, arena);
+            if (!busyArenas.contains(key)) {
+                freeArenas.add(key);
+            }
+        }
+        arenas = loaded;
+
+        if (loaded.isEmpty()) {
+            plugin.getLogger().warning("No arenas configured!");
+        }
+
+        // Pick up the seat stands already in the world and drop those no arena needs anymore
+        seatPool.reconcile();
+    }
+
+    /**
+     * Claim the next free arena.
+     * 
+     * @return The claimed arena, or null if all arenas are busy
+     */
+    public Arena acquire() {
+        Iterator<String> it = freeArenas.iterator();
+        if (!it.hasNext()) {
+            return null;
+        }
+
+        String key = it.next();
+        it.remove();
+        busyArenas.add(key);
+        return arenas.get(key);
+    }
+
+    /**
+     * Claim a specific arena by name.
+     * 
+     * @param name Arena name
+     * @return The claimed arena, or null if it doesn't exist or is busy
+     */
+    public Arena acquire(String name) {
+        String key = key(name);
+        if (!freeArenas.remove(key)) {
+            return null;
+        }
+
+        busyArenas.add(key);
+        return arenas.get(key);
+    }
+
+    /**
+     * Return an arena to the free queue.
+     * 
+     * @param arena Arena to release
+     */
+    public void release(Arena arena) {
+        if (arena == null) {
+            return;
+        }
+
+        String key = key(arena.getName());
+        if (busyArenas.remove(key) && arenas.containsKey(key)) {
+            freeArenas.add(key);
+        }
+    }
+
+    /**
+     * Get an arena by name.
+     * 
+     * @param name Arena name
+     * @return The arena, or null if none is configured with that name
+     */
+    public Arena getArena(String name) {
+        return arenas.get(key(name));
+    }
+
+    public SeatPool getSeatPool() {
+        return seatPool;
+    }
+
+    public ArenaChunks getChunks() {
+        return chunks;
+    }
+
+    public Collection<Arena> getArenas() {
+        return Collections.unmodifiableCollection(arenas.values());
+    }
+
+    public boolean isArenaFree(String name) {
+        return freeArenas.contains(key(name));
+    }
+
+    public int getFreeArenaCount() {
+        return freeArenas.size();
+    }
+
+    private static String key(String name) {
+        return name.toLowerCase();
+    }
+}
@@ -0,0 +1,174 @@
+package com.example.russianroulette.arena;
+
+import com.example.russianroulette.RussianRoulettePlugin;
+import com.example.russianroulette.scheduler.Platform;
+import org.bukkit.Location;
+import org.bukkit.NamespacedKey;
+import org.bukkit.World;
+import org.bukkit.entity.ArmorStand;
+import org.bukkit.entity.Entity;
+import org.bukkit.persistence.PersistentDataType;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Seat entities of all arenas. Every seat is one invisible armor stand, spawned the
+ * first time it's needed and then kept in the world; games borrow and return seats
+ * without spawning or removing entities. Stands are tagged with their arena and seat,
+ * so after a restart or chunk load they are adopted again and strays are removed.
+ * Each seat is only touched by the thread of its arena's region, on Folia as well.
+ */
+public class SeatPool {
+
+    // Lower the stand so a passenger appears seated
+    private static final double SEAT_OFFSET = 0.7;
+    // Name of the stands spawned per game before seats were pooled
+    private static final String LEGACY_NAME_PREFIX = "RR_Seat_";
+
+    private final RussianRoulettePlugin plugin;
+    private final ArenaManager arenaManager;
+    private final NamespacedKey key;
+
+    // "arena:seat" (arena in lower case) -> stand
+    private final Map<String, ArmorStand> seats;
+
+    public SeatPool(RussianRoulettePlugin plugin, ArenaManager arenaManager) {
+        this.plugin = plugin;
+        this.arenaManager = arenaManager;
+        this.key = new NamespacedKey(plugin, "seat");
+        this.seats = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Adopt or remove every tagged stand in the loaded worlds.
+     * Called whenever the arena definitions are (re)loaded.
+     * On Folia no thread may look at every region's entities, so stands are only
+     * reconciled as their chunks load.
+     */
+    public void reconcile() {
+        if (Platform.isFolia()) {
+            return;
+        }
+
+        for (World world : plugin.getServer().getWorlds()) {
+            for (ArmorStand stand : world.getEntitiesByClass(ArmorStand.class)) {
+                adopt(stand);
+            }
+        }
+    }
+
+    /**
+     * Take a stand that was just loaded into the pool, or remove it if no seat needs it.
+     * Entities that aren't seats are ignored.
+     * 
+     * @param entity Loaded entity
+     */
+    public void adopt(Entity entity) {
+        if (!(entity instanceof ArmorStand stand)) {
+            return;
+        }
+
+        String name = stand.getCustomName();
+        if (name != null && name.startsWith(LEGACY_NAME_PREFIX) && stand.getPassengers().isEmpty()) {
+            // Left over from a crash before seats were pooled
+            stand.remove();
+            return;
+        }
+
+        String seat = stand.getPersistentDataContainer().get(key, PersistentDataType.STRING);
+        if (seat == null) {
+            return;
+        }
+
+        if (!isConfigured(seat)) {
+            // The arena was removed or lost seats; a stand still in use goes at the next reconcile
+            if (stand.getPassengers().isEmpty()) {
+                seats.remove(seat, stand);
+                stand.remove();
+            }
+            return;
+        }
+
+        ArmorStand current = seats.get(seat);
+        if (stand.equals(current)) {
+            // Same entity, possibly a new handle after its chunk was reloaded
+            seats.put(seat, stand);
+            return;
+        }
+
+        if (current != null && current.isValid()) {
+            // Duplicate, e.g. a replacement was spawned while this one's chunk was unloaded
+            if (stand.getPassengers().isEmpty()) {
+                stand.remove();
+            }
+            return;
+        }
+
+        seats.put(seat, stand);
+    }
+
+    /**
+     * Borrow the stand of a seat, spawning it if it doesn't exist yet.
+     * 
+     * @param arena     Arena the seat belongs to
+     * @param world     World the arena is in
+     * @param seatIndex Zero-based seat index
+     * @return The seat stand, moved to the seat's location
+     */
+    public ArmorStand borrow(Arena arena, World world, int seatIndex) {
+        String seat = seatKey(arena.getName(), seatIndex);
+        Location location = arena.getSeatLocation(world, seatIndex).subtract(0, SEAT_OFFSET, 0);
+
+        ArmorStand stand = seats.get(seat);
+        if (stand == null || !stand.isValid()) {
+            stand = spawn(location, seat);
+            seats.put(seat, stand);
+        } else if (!stand.getWorld().equals(world) || stand.getLocation().distanceSquared(location) > 0.01) {
+            // The seat was moved since the stand was spawned
+            Platform.teleport(stand, location);
+        }
+        return stand;
+    }
+
+    /**
+     * Return a borrowed seat. The stand stays in the world for the next game.
+     * 
+     * @param stand Seat stand
+     */
+    public void release(ArmorStand stand) {
+        if (stand != null && stand.isValid()) {
+            stand.eject();
+        }
+    }
+
+    private ArmorStand spawn(Location location, String seat) {
+        return location.getWorld().spawn(location, ArmorStand.class, armorStand -> {
+            armorStand.setVisible(false);
+            armorStand.setGravity(false);
+            armorStand.setInvulnerable(true);
+            armorStand.setSmall(true);
+            armorStand.setMarker(true);
+            armorStand.getPersistentDataContainer().set(key, PersistentDataType.STRING, seat);
+        });
+    }
+
+    private boolean isConfigured(String seat) {
+        int split = seat.lastIndexOf(':');
+        if (split < 0) {
+            return false;
+        }
+
+        Arena arena = arenaManager.getArena(seat.substring(0, split));
+        try {
+            int index = Integer.parseInt(seat.substring(split + 1));
+            return arena != null && index >= 0 && index < arena.getSeatCount();
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+
+    private static String seatKey(String arenaName, int seatIndex) {
+        return arenaName.toLowerCase() + ":" + seatIndex;
+    }
+}
@@ -1,9 +1,21 @@
 package com.example.russianroulette.commands;
 
 import com.example.russianroulette.RussianRoulettePlugin;
+import com.example.russianroulette.arena.Arena;
 import com.example.russianroulette.config.ConfigManager;
 import com.example.russianroulette.game.Game;
 import com.example.russianroulette.game.GameManager;
+import com.example.russianroulette.game.GameState;
+import com.example.russianroulette.metrics.CounterMetric;
+import com.example.russianroulette.metrics.Histogram;
+import com.example.russianroulette.metrics.Metrics;
+import com.example.russianroulette.metrics.TimerMetric;
+import com.example.russianroulette.scheduler.TaskProfiler;
+import com.example.russianroulette.stats.Leaderboard;
+import com.example.russianroulette.stats.LeaderboardType;
+import com.example.russianroulette.stats.PlayerStats;
+import com.example.russianroulette.stats.StatsManager;
+import org.bukkit.Location;
 import org.bukkit.command.Command;
 import org.bukkit.command.CommandExecutor;
 import org.bukkit.command.CommandSender;
@@ -16,7 +28,8 @@ import java.util.List;
 
 /**
  * Main command handler for Russian Roulette.
- * Handles all /rr subcommands.
+ * Handles all /rr subcommands on the plugin's scheduler thread; on Folia commands
+ * arrive on the sender's region and are handed over from there.
  */
 public class RRCommand implements CommandExecutor, TabCompleter {
 
@@ -25,10 +38,14 @@ public class RRCommand implements CommandExecutor, TabCompleter {
     private final GameManager gameManager;
 
     private static final List<String> SUBCOMMANDS = Arrays.asList(
-            "start", "join", "leave", "forceend", "reload", "setseat", "setcenter");
+            "start", "join", "leave", "top", "claim", "forceend", "reload", "metrics", "setseat", "setcenter");
+
+    private static final String DEFAULT_ARENA = "default";
+
+    private static final int TOP_PAGE_SIZE = 10;
 
     private static final List<String> ADMIN_SUBCOMMANDS = Arrays.asList(
-            "forceend", "reload", "setseat", "setcenter");
+            "forceend", "reload", "metrics", "setseat", "setcenter");
 
     public RRCommand(RussianRoulettePlugin plugin) {
         this.plugin = plugin;
@@ -43,42 +60,56 @@ public class RRCommand implements CommandExecutor, TabCompleter {
             return true;
         }
 
+        // Read on the sender's own thread, for the setup commands
+        Location location = sender instanceof Player ? ((Player) sender).getLocation() : null;
+        plugin.getTickScheduler().execute(() -> dispatch(sender, args, location));
+        return true;
+    }
+
+    private void dispatch(CommandSender sender, String[] args, Location location) {
         String subCommand = args[0].toLowerCase();
 
         switch (subCommand) {
             case "start":
-                handleStart(sender);
+                handleStart(sender, args);
                 break;
             case "join":
-                handleJoin(sender);
+                handleJoin(sender, args);
                 break;
             case "leave":
                 handleLeave(sender);
                 break;
+            case "top":
+                handleTop(sender, args);
+                break;
+            case "claim":
+                handleClaim(sender);
+                break;
             case "forceend":
                 handleForceEnd(sender);
                 break;
             case "reload":
                 handleReload(sender);
                 break;
+            case "metrics":
+                handleMetrics(sender);
+                break;
             case "setseat":
-                handleSetSeat(sender, args);
+                handleSetSeat(sender, args, location);
                 break;
             case "setcenter":
-                handleSetCenter(sender);
+                handleSetCenter(sender, args, location);
                 break;
             default:
                 sender.sendMessage(config.getMessage("unknownCommand"));
                 break;
         }
-
-        return true;
     }
 
     /**
-     * Handle /rr start command.
+     * Handle /rr start [arena] command.
      */
-    private void handleStart(CommandSender sender) {
+    private void handleStart(CommandSender sender, String[] args) {
         if (!(sender instanceof Player)) {
             sender.sendMessage(config.getMessage("playerOnly"));
             return;
@@ -92,7 +123,7 @@ public class RRCommand implements CommandExecutor, TabCompleter {
         }
 
         // Check if player is already in a game
-        if (gameManager.isPlayerInGame(player)) {
+        if (gameManager.isPlayerInGame(player) || gameManager.isJoining(player.getUniqueId())) {
             player.sendMessage(config.getMessage("alreadyInGame"));
             return;
         }
@@ -107,23 +138,35 @@ public class RRCommand implements CommandExecutor, TabCompleter {
             }
         }
 
-        // Create new game
-        Game game = gameManager.createGame();
+        // Create new game, on the requested arena if one was given
+        String arenaName = args.length >= 2 ? args[1] : null;
+        if (arenaName != null && plugin.getArenaManager().getArena(arenaName) == null) {
+            player.sendMessage(config.getMessage("unknownArena", "arena", arenaName));
+            return;
+        }
+
+        Game game = gameManager.createGame(arenaName);
         if (game == null) {
-            player.sendMessage(config.getMessage("gameAlreadyExists"));
+            if (!config.allowMultipleGames() && gameManager.hasActiveGames()) {
+                player.sendMessage(config.getMessage("gameAlreadyExists"));
+            } else {
+                player.sendMessage(config.getMessage("noFreeArena"));
+            }
             return;
         }
 
         // Add the creator to the game
-        if (gameManager.addPlayerToGame(player, game)) {
-            player.sendMessage(config.getMessage("gameCreated"));
-        }
+        gameManager.addPlayerToGame(player, game, joined -> {
+            if (joined) {
+                player.sendMessage(config.getMessage("gameCreated"));
+            }
+        });
     }
 
     /**
-     * Handle /rr join command.
+     * Handle /rr join [arena] command.
      */
-    private void handleJoin(CommandSender sender) {
+    private void handleJoin(CommandSender sender, String[] args) {
         if (!(sender instanceof Player)) {
             sender.sendMessage(config.getMessage("playerOnly"));
             return;
@@ -137,37 +180,51 @@ public class RRCommand implements CommandExecutor, TabCompleter {
         }
 
         // Check if player is already in a game
-        if (gameManager.isPlayerInGame(player)) {
+        if (gameManager.isPlayerInGame(player) || gameManager.isJoining(player.getUniqueId())) {
             player.sendMessage(config.getMessage("alreadyInGame"));
             return;
         }
 
-        // Find a waiting game
-        Game game = gameManager.getWaitingGame();
-        if (game == null) {
-            player.sendMessage(config.getMessage("noActiveGame"));
+        // Find a waiting game, on the requested arena if one was given
+        Game game = args.length >= 2 ? gameManager.getArenaGame(args[1]) : gameManager.getWaitingGame();
+        if (args.length >= 2 && game != null && game.getState() != GameState.WAITING) {
+            player.sendMessage(config.getMessage("gameAlreadyStarted"));
             return;
         }
 
-        // Check if game is full
-        if (game.getPlayerCount() >= config.getMaxPlayers()) {
-            player.sendMessage(config.getMessage("maxPlayersReached")
-                    .replace("%max%", String.valueOf(config.getMaxPlayers())));
+        if (game == null) {
+            player.sendMessage(config.getMessage("noActiveGame"));
             return;
         }
 
-        // Add player to game
-        if (gameManager.addPlayerToGame(player, game)) {
-            // Check if we have enough players to start
-            if (game.getPlayerCount() >= config.getMinPlayers()) {
-                // Auto-start the game
-                if (!game.start()) {
-                    player.sendMessage(config.getMessage("notEnoughPlayers")
-                            .replace("%min%", String.valueOf(config.getMinPlayers()))
-                            .replace("%players%", String.valueOf(game.getPlayerCount())));
-                }
+        // Check if game is full, counting seats held by players whose bet is in flight
+        game.execute(() -> {
+            if (!game.canJoin(player.getUniqueId())) {
+                player.sendMessage(config.getMessage("maxPlayersReached",
+                        "max", config.getMaxPlayers()));
+                return;
             }
-        }
+
+            // Add player to game once the bet is confirmed
+            plugin.getTickScheduler().execute(() -> gameManager.addPlayerToGame(player, game, joined -> {
+                if (!joined) {
+                    return;
+                }
+
+                game.execute(() -> {
+                    // Check if we have enough players to start
+                    if (game.getState() == GameState.WAITING
+                            && game.getPlayerCount() >= config.getMinPlayers()) {
+                        // Auto-start the game
+                        if (!game.start()) {
+                            player.sendMessage(config.getMessage("notEnoughPlayers",
+                                    "min", config.getMinPlayers(),
+                                    "players", game.getPlayerCount()));
+                        }
+                    }
+                });
+            }));
+        });
     }
 
     /**
@@ -187,12 +244,97 @@ public class RRCommand implements CommandExecutor, TabCompleter {
             return;
         }
 
-        // Try to remove player (will fail if it's their turn)
-        if (!gameManager.removePlayerFromGame(player, false)) {
-            // Message already sent in removePlayer
+        // Try to remove player (will fail if it's their turn, with a message)
+        gameManager.removePlayerFromGame(player, false);
+    }
+
+    /**
+     * Handle /rr top <board> [page] command.
+     */
+    private void handleTop(CommandSender sender, String[] args) {
+        if (!sender.hasPermission("russianroulette.play")) {
+            sender.sendMessage(config.getMessage("noPermission"));
+            return;
+        }
+
+        LeaderboardType type = args.length >= 2 ? LeaderboardType.fromName(args[1]) : null;
+        if (type == null) {
+            sender.sendMessage(config.getMessage("topUsage"));
+            return;
+        }
+
+        StatsManager stats = plugin.getStatsManager();
+        if (!stats.isLoaded()) {
+            sender.sendMessage(config.getMessage("statsLoading"));
+            return;
+        }
+
+        int page = 1;
+        if (args.length >= 3) {
+            try {
+                page = Math.max(1, Integer.parseInt(args[2]));
+            } catch (NumberFormatException e) {
+                sender.sendMessage(config.getMessage("topUsage"));
+                return;
+            }
+        }
+
+        Leaderboard board = stats.getLeaderboard(type);
+        int first = (page - 1) * TOP_PAGE_SIZE + 1;
+        if (first > board.size()) {
+            sender.sendMessage(config.getMessage("topEmpty"));
+            return;
+        }
+
+        String boardName = type.name().toLowerCase();
+        sender.sendMessage(config.getMessage("topHeader", "board", boardName, "page", page));
+        int last = Math.min(board.size(), first + TOP_PAGE_SIZE - 1);
+        for (int rank = first; rank <= last; rank++) {
+            PlayerStats entry = stats.getStats(board.getPlayerAt(rank));
+            sender.sendMessage(config.getRawMessage("topEntry",
+                    "rank", rank,
+                    "player", entry.getPlayerName(),
+                    "value", type.format(board.getScoreAt(rank))));
+        }
+
+        if (sender instanceof Player) {
+            Player player = (Player) sender;
+            int rank = board.getRank(player.getUniqueId());
+            if (rank > 0) {
+                sender.sendMessage(config.getRawMessage("topOwnRank",
+                        "rank", rank,
+                        "value", type.format(board.getScore(player.getUniqueId()))));
+            }
         }
     }
 
+    /**
+     * Handle /rr claim command.
+     */
+    private void handleClaim(CommandSender sender) {
+        if (!(sender instanceof Player)) {
+            sender.sendMessage(config.getMessage("playerOnly"));
+            return;
+        }
+
+        Player player = (Player) sender;
+
+        if (!player.hasPermission("russianroulette.play")) {
+            player.sendMessage(config.getMessage("noPermission"));
+            return;
+        }
+
+        plugin.getRewardManager().claimStash(player, left -> {
+            if (left < 0) {
+                player.sendMessage(config.getMessage("stashEmpty"));
+            } else if (left == 0) {
+                player.sendMessage(config.getMessage("stashClaimed"));
+            } else {
+                player.sendMessage(config.getMessage("stashRemaining", "count", left));
+            }
+        });
+    }
+
     /**
      * Handle /rr forceend command.
      */
@@ -225,6 +367,62 @@ public class RRCommand implements CommandExecutor, TabCompleter {
         sender.sendMessage(config.getMessage("reloadSuccess"));
     }
 
+    /**
+     * Handle /rr metrics command.
+     */
+    private void handleMetrics(CommandSender sender) {
+        if (!sender.hasPermission("russianroulette.admin")) {
+            sender.sendMessage(config.getMessage("noPermission"));
+            return;
+        }
+
+        Metrics metrics = plugin.getMetrics();
+        sender.sendMessage(config.getMessage("metricsHeader"));
+        for (CounterMetric metric : CounterMetric.values()) {
+            sender.sendMessage(config.getRawMessage("metricsCounter",
+                    "name", metric.name().toLowerCase(),
+                    "value", metrics.getCounter(metric).get()));
+        }
+
+        // Only timers that have seen calls, the rest would just be noise
+        for (TimerMetric metric : TimerMetric.values()) {
+            Histogram histogram = metrics.getHistogram(metric);
+            long count = histogram.getCount();
+            if (count == 0) {
+                continue;
+            }
+
+            sender.sendMessage(config.getRawMessage("metricsTimer",
+                    "name", metric.getDisplayName(),
+                    "count", count,
+                    "avg", formatMillis(histogram.getSumNanos() / count),
+                    "p99", formatBound(histogram.getQuantileBound(0.99))));
+        }
+
+        // Main-thread cost of each scheduled task type, per tick it ran in
+        sender.sendMessage(config.getMessage("metricsTasksHeader"));
+        for (TaskProfiler.TaskProfile profile : plugin.getTickScheduler().getProfiler().getProfiles()) {
+            Histogram perTick = profile.getPerTick();
+            sender.sendMessage(config.getRawMessage("metricsTask",
+                    "name", profile.getName(),
+                    "ticks", perTick.getCount(),
+                    "p50", formatBound(perTick.getQuantileBound(0.5)),
+                    "p99", formatBound(perTick.getQuantileBound(0.99)),
+                    "max", formatMillis(profile.getMaxNanos())));
+        }
+    }
+
+    private static String formatMillis(long nanos) {
+        return String.format("%.3f", nanos / 1_000_000.0);
+    }
+
+    /**
+     * Format a histogram bucket bound, e.g. "<0.250" or ">1000.000".
+     */
+    private static String formatBound(long boundNanos) {
+        return boundNanos < 0 ? ">" + formatMillis(1_000_000_000L) : "<" + formatMillis(boundNanos);
+    }
+
     /**
      * Send help message to sender.
      */
@@ -232,22 +430,25 @@ public class RRCommand implements CommandExecutor, TabCompleter {
         sender.sendMessage(config.getMessage("helpHeader"));
         sender.sendMessage(config.getMessage("helpBranding"));
         sender.sendMessage("");
-        sender.sendMessage(config.colorize("&e/rr start &7- Start a new game"));
-        sender.sendMessage(config.colorize("&e/rr join &7- Join a waiting game"));
+        sender.sendMessage(config.colorize("&e/rr start [arena] &7- Start a new game"));
+        sender.sendMessage(config.colorize("&e/rr join [arena] &7- Join a waiting game"));
         sender.sendMessage(config.colorize("&e/rr leave &7- Leave current game"));
+        sender.sendMessage(config.colorize("&e/rr top <wins|survivals|profit|streak> [page] &7- Show leaderboards"));
+        sender.sendMessage(config.colorize("&e/rr claim &7- Claim items from your stash"));
 
         if (sender.hasPermission("russianroulette.admin")) {
             sender.sendMessage(config.colorize("&e/rr forceend &7- Force end all games"));
             sender.sendMessage(config.colorize("&e/rr reload &7- Reload configuration"));
-            sender.sendMessage(config.colorize("&e/rr setseat <1-6> &7- Set seat position"));
-            sender.sendMessage(config.colorize("&e/rr setcenter &7- Set table center"));
+            sender.sendMessage(config.colorize("&e/rr metrics &7- Show performance metrics"));
+            sender.sendMessage(config.colorize("&e/rr setseat <1-6> [arena] &7- Set seat position"));
+            sender.sendMessage(config.colorize("&e/rr setcenter [arena] &7- Set table center"));
         }
     }
 
     /**
-     * Handle /rr setseat <number> command.
+     * Handle /rr setseat <number> [arena] command.
      */
-    private void handleSetSeat(CommandSender sender, String[] args) {
+    private void handleSetSeat(CommandSender sender, String[] args, Location location) {
         if (!(sender instanceof Player)) {
             sender.sendMessage(config.getMessage("playerOnly"));
             return;
@@ -261,7 +462,7 @@ public class RRCommand implements CommandExecutor, TabCompleter {
         }
 
         if (args.length < 2) {
-            player.sendMessage(config.colorize("&cUsage: /rr setseat <1-6>"));
+            player.sendMessage(config.colorize("&cUsage: /rr setseat <1-6> [arena]"));
             return;
         }
 
@@ -277,18 +478,21 @@ public class RRCommand implements CommandExecutor, TabCompleter {
         }
 
         // Save the seat location
-        config.setSeatLocation(seatNumber, player.getLocation());
-        player.sendMessage(config.colorize("&aSeat " + seatNumber + " set to your current location!"));
-        player.sendMessage(config.colorize("&7X: " + String.format("%.1f", player.getLocation().getX()) +
-                ", Y: " + String.format("%.1f", player.getLocation().getY()) +
-                ", Z: " + String.format("%.1f", player.getLocation().getZ()) +
-                ", Yaw: " + String.format("%.0f", player.getLocation().getYaw())));
+        String arenaName = args.length >= 3 ? args[2] : DEFAULT_ARENA;
+        config.setSeatLocation(arenaName, seatNumber, location);
+        plugin.getArenaManager().loadArenas();
+        player.sendMessage(config.colorize("&aSeat " + seatNumber + " of arena " + arenaName
+                + " set to your current location!"));
+        player.sendMessage(config.colorize("&7X: " + String.format("%.1f", location.getX()) +
+                ", Y: " + String.format("%.1f", location.getY()) +
+                ", Z: " + String.format("%.1f", location.getZ()) +
+                ", Yaw: " + String.format("%.0f", location.getYaw())));
     }
 
     /**
-     * Handle /rr setcenter command.
+     * Handle /rr setcenter [arena] command.
      */
-    private void handleSetCenter(CommandSender sender) {
+    private void handleSetCenter(CommandSender sender, String[] args, Location location) {
         if (!(sender instanceof Player)) {
             sender.sendMessage(config.getMessage("playerOnly"));
             return;
@@ -302,11 +506,14 @@ public class RRCommand implements CommandExecutor, TabCompleter {
         }
 
         // Save the center location
-        config.setCenterLocation(player.getLocation());
-        player.sendMessage(config.colorize("&aTable center set to your current location!"));
-        player.sendMessage(config.colorize("&7X: " + String.format("%.1f", player.getLocation().getX()) +
-                ", Y: " + String.format("%.1f", player.getLocation().getY()) +
-                ", Z: " + String.format("%.1f", player.getLocation().getZ())));
+        String arenaName = args.length >= 2 ? args[1] : DEFAULT_ARENA;
+        config.setCenterLocation(arenaName, location);
+        plugin.getArenaManager().loadArenas();
+        player.sendMessage(config.colorize("&aTable center of arena " + arenaName
+                + " set to your current location!"));
+        player.sendMessage(config.colorize("&7X: " + String.format("%.1f", location.getX()) +
+                ", Y: " + String.format("%.1f", location.getY()) +
+                ", Z: " + String.format("%.1f", location.getZ())));
     }
 
     @Override
@@ -327,6 +534,31 @@ public class RRCommand implements CommandExecutor, TabCompleter {
             return completions;
         }
 
+        if ((args.length == 2 && (args[0].equalsIgnoreCase("start") || args[0].equalsIgnoreCase("join")
+                || args[0].equalsIgnoreCase("setcenter")))
+                || (args.length == 3 && args[0].equalsIgnoreCase("setseat"))) {
+            String input = args[args.length - 1].toLowerCase();
+            List<String> completions = new ArrayList<>();
+            for (Arena arena : plugin.getArenaManager().getArenas()) {
+                if (arena.getName().toLowerCase().startsWith(input)) {
+                    completions.add(arena.getName());
+                }
+            }
+            return completions;
+        }
+
+        if (args.length == 2 && args[0].equalsIgnoreCase("top")) {
+            String input = args[1].toLowerCase();
+            List<String> completions = new ArrayList<>();
+            for (LeaderboardType type : LeaderboardType.values()) {
+                String name = type.name().toLowerCase();
+                if (name.startsWith(input)) {
+                    completions.add(name);
+                }
+            }
+            return completions;
+        }
+
         if (args.length == 2 && args[0].equalsIgnoreCase("setseat")) {
             List<String> seatNumbers = Arrays.asList("1", "2", "3", "4", "5", "6");
             String input = args[1];
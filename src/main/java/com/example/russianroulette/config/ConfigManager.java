@@ -1,19 +1,26 @@
 package com.example.russianroulette.config;
 
 import com.example.russianroulette.RussianRoulettePlugin;
+import com.example.russianroulette.arena.Arena;
 import com.example.russianroulette.game.GameMode;
+import com.example.russianroulette.stats.LeaderboardType;
+import com.example.russianroulette.stats.StorageType;
 import org.bukkit.ChatColor;
 import org.bukkit.Material;
 import org.bukkit.Sound;
+import org.bukkit.configuration.ConfigurationSection;
 import org.bukkit.configuration.file.FileConfiguration;
 import org.bukkit.configuration.file.YamlConfiguration;
 
 import java.io.File;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Manages all plugin configuration files.
+ * Settings are read from an immutable {@link ConfigSnapshot} that is rebuilt on every
+ * load and swapped in atomically; the getters here just delegate to the current one.
  */
 public class ConfigManager {
 
@@ -21,6 +28,7 @@ public class ConfigManager {
     private FileConfiguration config;
     private FileConfiguration messages;
     private File messagesFile;
+    private volatile ConfigSnapshot snapshot;
 
     public ConfigManager(RussianRoulettePlugin plugin) {
         this.plugin = plugin;
@@ -34,13 +42,45 @@ public class ConfigManager {
         plugin.saveDefaultConfig();
         plugin.reloadConfig();
         config = plugin.getConfig();
+        migrateLegacyArena();
 
         // Load messages.yml
         messagesFile = new File(plugin.getDataFolder(), "messages.yml");
         if (!messagesFile.exists()) {
             plugin.saveResource("messages.yml", false);
         }
-        messages = YamlConfiguration.loadConfiguration(messagesFile);
+
+        load(config, YamlConfiguration.loadConfiguration(messagesFile));
+    }
+
+    /**
+     * Use already loaded configuration files.
+     * Lets benchmarks and tools build a ConfigManager without a server.
+     * 
+     * @param config   Contents of config.yml
+     * @param messages Contents of messages.yml
+     */
+    public void load(FileConfiguration config, FileConfiguration messages) {
+        this.config = config;
+        this.messages = messages;
+        publish();
+    }
+
+    /**
+     * Build a new snapshot from the loaded files and make it current.
+     */
+    private void publish() {
+        snapshot = new ConfigSnapshot(config, messages);
+    }
+
+    /**
+     * Get the current settings. Hold on to the result to read several
+     * settings that must come from the same load.
+     * 
+     * @return Current snapshot
+     */
+    public ConfigSnapshot getSnapshot() {
+        return snapshot;
     }
 
     /**
@@ -54,140 +94,168 @@ public class ConfigManager {
 
     /**
      * Get a message from messages.yml with prefix.
+     * 
+     * @param key          Message key
+     * @param placeholders Placeholder names (without %) and values, alternating
+     * @return Rendered message
      */
-    public String getMessage(String key) {
-        String prefix = colorize(messages.getString("prefix", "&8[&c&lRR&8] &r"));
-        String message = messages.getString(key, "&cMissing message: " + key);
-        return prefix + colorize(message);
+    public String getMessage(String key, Object... placeholders) {
+        ConfigSnapshot current = snapshot;
+        MessageTemplate template = current.getMessageTemplate(key);
+        if (template == null) {
+            return current.getPrefix() + missingMessage(key);
+        }
+        return template.render(placeholders);
     }
 
     /**
      * Get a raw message without prefix.
+     * 
+     * @param key          Message key
+     * @param placeholders Placeholder names (without %) and values, alternating
+     * @return Rendered message
      */
-    public String getRawMessage(String key) {
-        return colorize(messages.getString(key, "&cMissing message: " + key));
+    public String getRawMessage(String key, Object... placeholders) {
+        MessageTemplate template = snapshot.getRawTemplate(key);
+        if (template == null) {
+            return missingMessage(key);
+        }
+        return template.render(placeholders);
     }
 
     /**
      * Get a list of strings from messages.yml.
+     * 
+     * @param key          Message key
+     * @param placeholders Placeholder names (without %) and values, alternating
+     * @return Rendered lines
      */
-    public List<String> getMessageList(String key) {
-        List<String> list = messages.getStringList(key);
-        List<String> colorized = new ArrayList<>();
-        for (String s : list) {
-            colorized.add(colorize(s));
+    public List<String> getMessageList(String key, Object... placeholders) {
+        List<MessageTemplate> templates = snapshot.getListTemplates(key);
+        List<String> lines = new ArrayList<>(templates.size());
+        for (MessageTemplate template : templates) {
+            lines.add(template.render(placeholders));
         }
-        return colorized;
+        return lines;
+    }
+
+    private String missingMessage(String key) {
+        return colorize("&cMissing message: " + key);
     }
 
     // ==================== GAME SETTINGS ====================
 
     public int getMinPlayers() {
-        return config.getInt("game.minPlayers", 2);
+        return snapshot.getMinPlayers();
     }
 
     public int getMaxPlayers() {
-        int max = config.getInt("game.maxPlayers", 10);
-        return max <= 0 ? Integer.MAX_VALUE : max;
+        return snapshot.getMaxPlayers();
     }
 
     public int getTurnTime() {
-        return config.getInt("game.turnTime", 10);
+        return snapshot.getTurnTime();
     }
 
     public GameMode getGameMode() {
-        String mode = config.getString("game.gameMode", "CLASSIC");
-        try {
-            return GameMode.valueOf(mode.toUpperCase());
-        } catch (IllegalArgumentException e) {
-            return GameMode.CLASSIC;
-        }
+        return snapshot.getGameMode();
     }
 
     public boolean isReshuffleAfterShot() {
-        return config.getBoolean("game.reshuffleAfterShot", false);
+        return snapshot.isReshuffleAfterShot();
     }
 
     public int getStartCountdown() {
-        return config.getInt("game.startCountdown", 5);
+        return snapshot.getStartCountdown();
     }
 
     public boolean allowMultipleGames() {
-        return config.getBoolean("game.allowMultipleGames", false);
+        return snapshot.allowMultipleGames();
     }
 
     // ==================== ARENA SETTINGS ====================
 
-    public String getArenaWorld() {
-        return config.getString("arena.world", "world");
-    }
-
     public boolean isTeleportToArena() {
-        return config.getBoolean("arena.teleportToArena", false);
-    }
-
-    public double getArenaCenterX() {
-        return config.getDouble("arena.center.x", 0);
-    }
-
-    public double getArenaCenterY() {
-        return config.getDouble("arena.center.y", 64);
-    }
-
-    public double getArenaCenterZ() {
-        return config.getDouble("arena.center.z", 0);
+        return snapshot.isTeleportToArena();
     }
 
     /**
-     * Get list of seat locations from config.
-     * Returns locations for seat1 through seat6.
+     * Get all arenas defined under the arenas section.
      */
-    public java.util.List<double[]> getSeatLocations() {
-        java.util.List<double[]> seats = new java.util.ArrayList<>();
-        for (int i = 1; i <= 6; i++) {
-            String path = "arena.seats.seat" + i;
-            if (config.contains(path + ".x")) {
-                double x = config.getDouble(path + ".x", 0);
-                double y = config.getDouble(path + ".y", 64);
-                double z = config.getDouble(path + ".z", 0);
-                float yaw = (float) config.getDouble(path + ".yaw", 0);
-                seats.add(new double[] { x, y, z, yaw });
-            }
-        }
-        return seats;
+    public List<Arena> getArenas() {
+        return snapshot.getArenas();
     }
 
     /**
-     * Set a seat location and save to config.
+     * Set a seat location of an arena and save to config.
      */
-    public void setSeatLocation(int seatNumber, org.bukkit.Location location) {
-        String path = "arena.seats.seat" + seatNumber;
+    public void setSeatLocation(String arena, int seatNumber, org.bukkit.Location location) {
+        String path = "arenas." + arena + ".seats.seat" + seatNumber;
         config.set(path + ".x", location.getX());
         config.set(path + ".y", location.getY());
         config.set(path + ".z", location.getZ());
         config.set(path + ".yaw", location.getYaw());
+        if (!config.contains("arenas." + arena + ".world")) {
+            config.set("arenas." + arena + ".world", location.getWorld().getName());
+        }
+        plugin.saveConfig();
+        publish();
+    }
+
+    /**
+     * Set the table center of an arena and save to config.
+     */
+    public void setCenterLocation(String arena, org.bukkit.Location location) {
+        String path = "arenas." + arena;
+        config.set(path + ".center.x", location.getX());
+        config.set(path + ".center.y", location.getY());
+        config.set(path + ".center.z", location.getZ());
+        config.set(path + ".world", location.getWorld().getName());
         plugin.saveConfig();
+        publish();
     }
 
     /**
-     * Set the table center location and save to config.
+     * Move a pre-arenas config (arena.world, arena.center, arena.seats)
+     * into arenas.default so existing servers keep their table.
      */
-    public void setCenterLocation(org.bukkit.Location location) {
-        config.set("arena.center.x", location.getX());
-        config.set("arena.center.y", location.getY());
-        config.set("arena.center.z", location.getZ());
-        config.set("arena.world", location.getWorld().getName());
+    private void migrateLegacyArena() {
+        if (config.contains("arenas", true) || !config.contains("arena.center", true)) {
+            return;
+        }
+
+        config.set("arenas.default.world", config.getString("arena.world", "world"));
+        copySection("arena.center", "arenas.default.center");
+        copySection("arena.seats", "arenas.default.seats");
+
+        config.set("arena.world", null);
+        config.set("arena.center", null);
+        config.set("arena.seats", null);
         plugin.saveConfig();
+        plugin.getLogger().info("Migrated legacy arena settings to arenas.default");
+    }
+
+    private void copySection(String from, String to) {
+        ConfigurationSection section = config.getConfigurationSection(from);
+        if (section == null) {
+            return;
+        }
+
+        for (String key : section.getKeys(true)) {
+            if (!section.isConfigurationSection(key)) {
+                config.set(to + "." + key, section.get(key));
+            }
+        }
     }
 
     // ==================== BETTING SETTINGS ====================
 
     public boolean isBettingEnabled() {
-        return config.getBoolean("betting.enabled", true);
+        return snapshot.isBettingEnabled();
     }
 
     public String getBetType() {
-        return config.getString("betting.type", "MONEY").toUpperCase();
+        return snapshot.getBetType();
     }
 
     public boolean isMoneyBetting() {
@@ -195,126 +263,166 @@ public class ConfigManager {
     }
 
     public double getBetAmount() {
-        return config.getDouble("betting.moneyAmount", 1000);
+        return snapshot.getBetAmount();
     }
 
     public int getMinItemValue() {
-        return config.getInt("betting.minItemValue", 100);
-    }
-
-    public java.util.Map<Material, Integer> getAllowedBetItems() {
-        java.util.Map<Material, Integer> items = new java.util.HashMap<>();
-        List<?> itemList = config.getList("betting.allowedItems");
-        if (itemList != null) {
-            for (Object obj : itemList) {
-                if (obj instanceof java.util.Map) {
-                    @SuppressWarnings("unchecked")
-                    java.util.Map<String, Object> map = (java.util.Map<String, Object>) obj;
-                    String matName = (String) map.getOrDefault("material", "DIAMOND");
-                    Material material = Material.matchMaterial(matName);
-                    int value = 50; // default value
-                    Object valueObj = map.get("valuePerItem");
-                    if (valueObj instanceof Integer) {
-                        value = (Integer) valueObj;
-                    } else if (valueObj instanceof Double) {
-                        value = ((Double) valueObj).intValue();
-                    }
-                    if (material != null) {
-                        items.put(material, value);
-                    }
-                }
-            }
-        }
-        // Add defaults if empty
-        if (items.isEmpty()) {
-            items.put(Material.DIAMOND, 50);
-            items.put(Material.GOLD_INGOT, 10);
-            items.put(Material.NETHERITE_INGOT, 500);
-        }
-        return items;
+        return snapshot.getMinItemValue();
+    }
+
+    /**
+     * Get the allowed bet items and their value per item.
+     * 
+     * @return Unmodifiable map of material to value
+     */
+    public Map<Material, Integer> getAllowedBetItems() {
+        return snapshot.getAllowedBetItems();
+    }
+
+    /**
+     * Get the value added per enchantment level on allowed bet items.
+     * 
+     * @return Unmodifiable map of material to value per level
+     */
+    public Map<Material, Integer> getBetEnchantmentValues() {
+        return snapshot.getBetEnchantmentValues();
+    }
+
+    public int getPayoutStacksPerTick() {
+        return snapshot.getPayoutStacksPerTick();
     }
 
     public double getHouseCut() {
-        return config.getDouble("betting.houseCut", 0) / 100.0; // Convert percentage to decimal
+        return snapshot.getHouseCut();
     }
 
     public boolean isRefundOnCancel() {
-        return config.getBoolean("betting.refundOnCancel", true);
+        return snapshot.isRefundOnCancel();
     }
 
     // ==================== SOUND SETTINGS ====================
 
+    public SoundSetting getSoundSetting(String path) {
+        return snapshot.getSound(path);
+    }
+
     public Sound getSound(String path) {
-        String soundName = config.getString("sounds." + path + ".sound", "BLOCK_LEVER_CLICK");
-        try {
-            return Sound.valueOf(soundName.toUpperCase());
-        } catch (IllegalArgumentException e) {
-            return Sound.BLOCK_LEVER_CLICK;
-        }
+        return snapshot.getSound(path).getSound();
     }
 
     public float getSoundVolume(String path) {
-        return (float) config.getDouble("sounds." + path + ".volume", 1.0);
+        return snapshot.getSound(path).getVolume();
     }
 
     public float getSoundPitch(String path) {
-        return (float) config.getDouble("sounds." + path + ".pitch", 1.0);
+        return snapshot.getSound(path).getPitch();
     }
 
     // ==================== EFFECT SETTINGS ====================
 
     public boolean isBloodParticlesEnabled() {
-        return config.getBoolean("effects.bloodParticles", true);
+        return snapshot.isBloodParticlesEnabled();
     }
 
     public int getBloodParticleCount() {
-        return config.getInt("effects.bloodParticleCount", 50);
+        return snapshot.getBloodParticleCount();
     }
 
     public boolean isSmokeParticlesEnabled() {
-        return config.getBoolean("effects.smokeParticles", true);
+        return snapshot.isSmokeParticlesEnabled();
     }
 
     public boolean isSlowMotionDeathEnabled() {
-        return config.getBoolean("effects.slowMotionDeath", true);
+        return snapshot.isSlowMotionDeathEnabled();
     }
 
     public int getSlowMotionDuration() {
-        return config.getInt("effects.slowMotionDuration", 40);
+        return snapshot.getSlowMotionDuration();
     }
 
     public boolean isShowBangTitle() {
-        return config.getBoolean("effects.showBangTitle", true);
+        return snapshot.isShowBangTitle();
+    }
+
+    public int getParticleBudget() {
+        return snapshot.getParticleBudget();
+    }
+
+    public double getParticleViewDistance() {
+        return snapshot.getParticleViewDistance();
     }
 
     // ==================== REVOLVER ITEM SETTINGS ====================
 
     public Material getRevolverMaterial() {
-        String matName = config.getString("revolverItem.material", "IRON_HORSE_ARMOR");
-        Material material = Material.matchMaterial(matName);
-        return material != null ? material : Material.IRON_HORSE_ARMOR;
+        return snapshot.getRevolverMaterial();
     }
 
     public String getRevolverName() {
-        return colorize(config.getString("revolverItem.name", "&c&l⚡ REVOLVER ⚡"));
+        return snapshot.getRevolverName();
     }
 
     public List<String> getRevolverLore() {
-        List<String> lore = config.getStringList("revolverItem.lore");
-        List<String> colorized = new ArrayList<>();
-        for (String s : lore) {
-            colorized.add(colorize(s));
-        }
-        return colorized;
+        return snapshot.getRevolverLore();
     }
 
     // ==================== SCOREBOARD SETTINGS ====================
 
     public boolean isScoreboardEnabled() {
-        return config.getBoolean("scoreboard.enabled", true);
+        return snapshot.isScoreboardEnabled();
     }
 
     public String getScoreboardTitle() {
-        return colorize(config.getString("scoreboard.title", "&c&l☠ RUSSIAN ROULETTE ☠"));
+        return snapshot.getScoreboardTitle();
+    }
+
+    public boolean isLeaderboardSidebarEnabled() {
+        return snapshot.isLeaderboardSidebarEnabled();
+    }
+
+    public LeaderboardType getLeaderboardSidebarBoard() {
+        return snapshot.getLeaderboardSidebarBoard();
+    }
+
+    public int getLeaderboardSidebarSize() {
+        return snapshot.getLeaderboardSidebarSize();
+    }
+
+    public String getLeaderboardSidebarTitle() {
+        return snapshot.getLeaderboardSidebarTitle();
+    }
+
+    // ==================== STATISTICS SETTINGS ====================
+
+    public boolean isStatsEnabled() {
+        return snapshot.isStatsEnabled();
+    }
+
+    public StorageType getStatsStorage() {
+        return snapshot.getStatsStorage();
+    }
+
+    public int getStatsFlushInterval() {
+        return snapshot.getStatsFlushInterval();
+    }
+
+    // ==================== METRICS SETTINGS ====================
+
+    public boolean isMetricsExportEnabled() {
+        return snapshot.isMetricsExportEnabled();
+    }
+
+    public String getMetricsFile() {
+        return snapshot.getMetricsFile();
+    }
+
+    public int getMetricsExportInterval() {
+        return snapshot.getMetricsExportInterval();
+    }
+
+    // ==================== PERFORMANCE SETTINGS ====================
+
+    public int getTeardownBudgetMs() {
+        return snapshot.getTeardownBudgetMs();
     }
 }
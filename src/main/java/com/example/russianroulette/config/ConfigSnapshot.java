@@ -0,0 +1,498 @@
+package com.example.russianroulette.config;
+
+import com.example.russianroulette.arena.Arena;
+import com.example.russianroulette.game.GameMode;
+import com.example.russianroulette.stats.LeaderboardType;
+import com.example.russianroulette.stats.StorageType;
+import com.example.russianroulette.utils.MessageUtils;
+import org.bukkit.Material;
+import org.bukkit.Sound;
+import org.bukkit.configuration.ConfigurationSection;
+import org.bukkit.configuration.file.FileConfiguration;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Every setting from config.yml and messages.yml, parsed and typed once per load.
+ * Snapshots are immutable; a reload builds a new one and swaps it in,
+ * so readers never see a half-loaded config.
+ */
+public final class ConfigSnapshot {
+
+    // Game settings
+    private final int minPlayers;
+    private final int maxPlayers;
+    private final int turnTime;
+    private final GameMode gameMode;
+    private final boolean reshuffleAfterShot;
+    private final int startCountdown;
+    private final boolean allowMultipleGames;
+
+    // Arena settings
+    private final boolean teleportToArena;
+    private final List<Arena> arenas;
+
+    // Betting settings
+    private final boolean bettingEnabled;
+    private final String betType;
+    private final double betAmount;
+    private final int minItemValue;
+    private final Map<Material, Integer> allowedBetItems;
+    private final Map<Material, Integer> betEnchantmentValues;
+    private final double houseCut;
+    private final boolean refundOnCancel;
+    private final int payoutStacksPerTick;
+
+    // Sounds by key under the sounds section
+    private final Map<String, SoundSetting> sounds;
+
+    // Effect settings
+    private final boolean bloodParticles;
+    private final int bloodParticleCount;
+    private final boolean smokeParticles;
+    private final boolean slowMotionDeath;
+    private final int slowMotionDuration;
+    private final boolean showBangTitle;
+    private final int particleBudget;
+    private final double particleViewDistance;
+
+    // Revolver item settings
+    private final Material revolverMaterial;
+    private final String revolverName;
+    private final List<String> revolverLore;
+
+    // Scoreboard settings
+    private final boolean scoreboardEnabled;
+    private final String scoreboardTitle;
+    private final boolean leaderboardSidebarEnabled;
+    private final LeaderboardType leaderboardSidebarBoard;
+    private final int leaderboardSidebarSize;
+    private final String leaderboardSidebarTitle;
+
+    // Statistics settings
+    private final boolean statsEnabled;
+    private final StorageType statsStorage;
+    private final int statsFlushInterval;
+
+    // Metrics settings
+    private final boolean metricsExportEnabled;
+    private final String metricsFile;
+    private final int metricsExportInterval;
+
+    // Performance settings
+    private final int teardownBudgetMs;
+
+    // Messages, compiled with and without prefix
+    private final String prefix;
+    private final Map<String, MessageTemplate> messageTemplates;
+    private final Map<String, MessageTemplate> rawTemplates;
+    private final Map<String, List<MessageTemplate>> listTemplates;
+
+    public ConfigSnapshot(FileConfiguration config, FileConfiguration messages) {
+        this.minPlayers = config.getInt("game.minPlayers", 2);
+        int max = config.getInt("game.maxPlayers", 10);
+        this.maxPlayers = max <= 0 ? Integer.MAX_VALUE : max;
+        this.turnTime = config.getInt("game.turnTime", 10);
+        this.gameMode = parseGameMode(config.getString("game.gameMode", "CLASSIC"));
+        this.reshuffleAfterShot = config.getBoolean("game.reshuffleAfterShot", false);
+        this.startCountdown = config.getInt("game.startCountdown", 5);
+        this.allowMultipleGames = config.getBoolean("game.allowMultipleGames", false);
+
+        this.teleportToArena = config.getBoolean("arena.teleportToArena", false);
+        this.arenas = Collections.unmodifiableList(parseArenas(config));
+
+        this.bettingEnabled = config.getBoolean("betting.enabled", true);
+        this.betType = config.getString("betting.type", "MONEY").toUpperCase();
+        this.betAmount = config.getDouble("betting.moneyAmount", 1000);
+        this.minItemValue = config.getInt("betting.minItemValue", 100);
+        this.allowedBetItems = Collections.unmodifiableMap(parseAllowedBetItems(config, "valuePerItem"));
+        this.betEnchantmentValues = Collections.unmodifiableMap(parseAllowedBetItems(config, "valuePerEnchantmentLevel"));
+        this.houseCut = config.getDouble("betting.houseCut", 0) / 100.0; // Convert percentage to decimal
+        this.refundOnCancel = config.getBoolean("betting.refundOnCancel", true);
+        this.payoutStacksPerTick = Math.max(1, config.getInt("betting.payoutStacksPerTick", 4));
+
+        this.sounds = Collections.unmodifiableMap(parseSounds(config));
+
+        this.bloodParticles = config.getBoolean("effects.bloodParticles", true);
+        this.bloodParticleCount = config.getInt("effects.bloodParticleCount", 50);
+        this.smokeParticles = config.getBoolean("effects.smokeParticles", true);
+        this.slowMotionDeath = config.getBoolean("effects.slowMotionDeath", true);
+        this.slowMotionDuration = config.getInt("effects.slowMotionDuration", 40);
+        this.showBangTitle = config.getBoolean("effects.showBangTitle", true);
+        this.particleBudget = Math.max(1, config.getInt("effects.particleBudget", 2000));
+        this.particleViewDistance = Math.max(1, config.getDouble("effects.particleViewDistance", 32));
+
+        Material material = Material.matchMaterial(config.getString("revolverItem.material", "IRON_HORSE_ARMOR"));
+        this.revolverMaterial = material != null ? material : Material.IRON_HORSE_ARMOR;
+        this.revolverName = MessageUtils.colorize(config.getString("revolverItem.name", "&c&l⚡ REVOLVER ⚡"));
+        this.revolverLore = Collections.unmodifiableList(colorizeAll(config.getStringList("revolverItem.lore")));
+
+        this.scoreboardEnabled = config.getBoolean("scoreboard.enabled", true);
+        this.scoreboardTitle = MessageUtils.colorize(
+                config.getString("scoreboard.title", "&c&l☠ RUSSIAN ROULETTE ☠"));
+        this.leaderboardSidebarEnabled = config.getBoolean("scoreboard.leaderboard.enabled", false);
+        LeaderboardType board = LeaderboardType.fromName(config.getString("scoreboard.leaderboard.board", "WINS"));
+        this.leaderboardSidebarBoard = board != null ? board : LeaderboardType.WINS;
+        // Two of the 15 sidebar lines are separators
+        this.leaderboardSidebarSize = Math.max(1, Math.min(13, config.getInt("scoreboard.leaderboard.size", 10)));
+        this.leaderboardSidebarTitle = MessageUtils.colorize(
+                config.getString("scoreboard.leaderboard.title", "&6&l☠ TOP %board% ☠"));
+
+        this.statsEnabled = config.getBoolean("stats.enabled", true);
+        this.statsStorage = parseStorageType(config.getString("stats.storage", "FLATFILE"));
+        this.statsFlushInterval = Math.max(1, config.getInt("stats.flushInterval", 30));
+
+        this.metricsExportEnabled = config.getBoolean("metrics.export", true);
+        this.metricsFile = config.getString("metrics.file", "metrics.prom");
+        this.metricsExportInterval = Math.max(1, config.getInt("metrics.exportInterval", 15));
+
+        this.teardownBudgetMs = Math.max(1, config.getInt("performance.teardownBudgetMs", 5));
+
+        this.prefix = MessageUtils.colorize(messages.getString("prefix", "&8[&c&lRR&8] &r"));
+        Map<String, MessageTemplate> prefixed = new HashMap<>();
+        Map<String, MessageTemplate> raw = new HashMap<>();
+        Map<String, List<MessageTemplate>> lists = new HashMap<>();
+        for (String key : messages.getKeys(false)) {
+            if (messages.isList(key)) {
+                List<MessageTemplate> lines = new ArrayList<>();
+                for (String line : colorizeAll(messages.getStringList(key))) {
+                    lines.add(MessageTemplate.compile(line));
+                }
+                lists.put(key, Collections.unmodifiableList(lines));
+            } else if (messages.isString(key)) {
+                String message = MessageUtils.colorize(messages.getString(key));
+                raw.put(key, MessageTemplate.compile(message));
+                prefixed.put(key, MessageTemplate.compile(prefix + message));
+            }
+        }
+        this.messageTemplates = Collections.unmodifiableMap(prefixed);
+        this.rawTemplates = Collections.unmodifiableMap(raw);
+        this.listTemplates = Collections.unmodifiableMap(lists);
+    }
+
+    private static GameMode parseGameMode(String mode) {
+        try {
+            return GameMode.valueOf(mode.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            return GameMode.CLASSIC;
+        }
+    }
+
+    private static StorageType parseStorageType(String type) {
+        try {
+            return StorageType.valueOf(type.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            return StorageType.FLATFILE;
+        }
+    }
+
+    /**
+     * Parse all arenas defined under the arenas section.
+     * Each arena has a world, a table center and seat1 through seat6.
+     */
+    private static List<Arena> parseArenas(FileConfiguration config) {
+        List<Arena> arenas = new ArrayList<>();
+        ConfigurationSection section = config.getConfigurationSection("arenas");
+        if (section == null) {
+            return arenas;
+        }
+
+        for (String name : section.getKeys(false)) {
+            String path = "arenas." + name;
+            arenas.add(new Arena(
+                    name,
+                    config.getString(path + ".world", "world"),
+                    config.getDouble(path + ".center.x", 0),
+                    config.getDouble(path + ".center.y", 64),
+                    config.getDouble(path + ".center.z", 0),
+                    parseSeats(config, path + ".seats")));
+        }
+        return arenas;
+    }
+
+    /**
+     * Parse seat1 through seat6 under a seats section.
+     */
+    private static List<double[]> parseSeats(FileConfiguration config, String seatsPath) {
+        List<double[]> seats = new ArrayList<>();
+        for (int i = 1; i <= 6; i++) {
+            String path = seatsPath + ".seat" + i;
+            if (config.contains(path + ".x")) {
+                double x = config.getDouble(path + ".x", 0);
+                double y = config.getDouble(path + ".y", 64);
+                double z = config.getDouble(path + ".z", 0);
+                float yaw = (float) config.getDouble(path + ".yaw", 0);
+                seats.add(new double[] { x, y, z, yaw });
+            }
+        }
+        return seats;
+    }
+
+    /**
+     * Read one value of every allowed bet item.
+     * 
+     * @param key Key of the value in each item entry
+     */
+    private static Map<Material, Integer> parseAllowedBetItems(FileConfiguration config, String key) {
+        boolean required = key.equals("valuePerItem");
+        Map<Material, Integer> items = new EnumMap<>(Material.class);
+        List<?> itemList = config.getList("betting.allowedItems");
+        if (itemList != null) {
+            for (Object obj : itemList) {
+                if (obj instanceof Map) {
+                    @SuppressWarnings("unchecked")
+                    Map<String, Object> map = (Map<String, Object>) obj;
+                    String matName = (String) map.getOrDefault("material", "DIAMOND");
+                    Material material = Material.matchMaterial(matName);
+                    int value = required ? 50 : 0; // default value
+                    Object valueObj = map.get(key);
+                    if (valueObj instanceof Integer) {
+                        value = (Integer) valueObj;
+                    } else if (valueObj instanceof Double) {
+                        value = ((Double) valueObj).intValue();
+                    }
+                    if (material != null && (required || value > 0)) {
+                        items.put(material, value);
+                    }
+                }
+            }
+        }
+        // Add defaults if empty
+        if (required && items.isEmpty()) {
+            items.put(Material.DIAMOND, 50);
+            items.put(Material.GOLD_INGOT, 10);
+            items.put(Material.NETHERITE_INGOT, 500);
+        }
+        return items;
+    }
+
+    private static Map<String, SoundSetting> parseSounds(FileConfiguration config) {
+        Map<String, SoundSetting> sounds = new HashMap<>();
+        ConfigurationSection section = config.getConfigurationSection("sounds");
+        if (section == null) {
+            return sounds;
+        }
+
+        for (String key : section.getKeys(false)) {
+            String path = "sounds." + key;
+            Sound sound;
+            try {
+                sound = Sound.valueOf(config.getString(path + ".sound", "BLOCK_LEVER_CLICK").toUpperCase());
+            } catch (IllegalArgumentException e) {
+                sound = Sound.BLOCK_LEVER_CLICK;
+            }
+            sounds.put(key, new SoundSetting(
+                    sound,
+                    (float) config.getDouble(path + ".volume", 1.0),
+                    (float) config.getDouble(path + ".pitch", 1.0)));
+        }
+        return sounds;
+    }
+
+    private static List<String> colorizeAll(List<String> lines) {
+        List<String> colorized = new ArrayList<>(lines.size());
+        for (String line : lines) {
+            colorized.add(MessageUtils.colorize(line));
+        }
+        return colorized;
+    }
+
+    public int getMinPlayers() {
+        return minPlayers;
+    }
+
+    public int getMaxPlayers() {
+        return maxPlayers;
+    }
+
+    public int getTurnTime() {
+        return turnTime;
+    }
+
+    public GameMode getGameMode() {
+        return gameMode;
+    }
+
+    public boolean isReshuffleAfterShot() {
+        return reshuffleAfterShot;
+    }
+
+    public int getStartCountdown() {
+        return startCountdown;
+    }
+
+    public boolean allowMultipleGames() {
+        return allowMultipleGames;
+    }
+
+    public boolean isTeleportToArena() {
+        return teleportToArena;
+    }
+
+    public List<Arena> getArenas() {
+        return arenas;
+    }
+
+    public boolean isBettingEnabled() {
+        return bettingEnabled;
+    }
+
+    public String getBetType() {
+        return betType;
+    }
+
+    public double getBetAmount() {
+        return betAmount;
+    }
+
+    public int getMinItemValue() {
+        return minItemValue;
+    }
+
+    public Map<Material, Integer> getAllowedBetItems() {
+        return allowedBetItems;
+    }
+
+    public int getPayoutStacksPerTick() {
+        return payoutStacksPerTick;
+    }
+
+    public Map<Material, Integer> getBetEnchantmentValues() {
+        return betEnchantmentValues;
+    }
+
+    public double getHouseCut() {
+        return houseCut;
+    }
+
+    public boolean isRefundOnCancel() {
+        return refundOnCancel;
+    }
+
+    /**
+     * Get a configured sound.
+     * 
+     * @param key Key under the sounds section
+     * @return The sound, or the default lever click if it isn't configured
+     */
+    public SoundSetting getSound(String key) {
+        return sounds.getOrDefault(key, SoundSetting.DEFAULT);
+    }
+
+    public boolean isBloodParticlesEnabled() {
+        return bloodParticles;
+    }
+
+    public int getBloodParticleCount() {
+        return bloodParticleCount;
+    }
+
+    public boolean isSmokeParticlesEnabled() {
+        return smokeParticles;
+    }
+
+    public boolean isSlowMotionDeathEnabled() {
+        return slowMotionDeath;
+    }
+
+    public int getSlowMotionDuration() {
+        return slowMotionDuration;
+    }
+
+    public boolean isShowBangTitle() {
+        return showBangTitle;
+    }
+
+    public int getParticleBudget() {
+        return particleBudget;
+    }
+
+    public double getParticleViewDistance() {
+        return particleViewDistance;
+    }
+
+    public Material getRevolverMaterial() {
+        return revolverMaterial;
+    }
+
+    public String getRevolverName() {
+        return revolverName;
+    }
+
+    public List<String> getRevolverLore() {
+        return revolverLore;
+    }
+
+    public boolean isScoreboardEnabled() {
+        return scoreboardEnabled;
+    }
+
+    public String getScoreboardTitle() {
+        return scoreboardTitle;
+    }
+
+    public boolean isLeaderboardSidebarEnabled() {
+        return leaderboardSidebarEnabled;
+    }
+
+    public LeaderboardType getLeaderboardSidebarBoard() {
+        return leaderboardSidebarBoard;
+    }
+
+    public int getLeaderboardSidebarSize() {
+        return leaderboardSidebarSize;
+    }
+
+    public String getLeaderboardSidebarTitle() {
+        return leaderboardSidebarTitle;
+    }
+
+    public boolean isStatsEnabled() {
+        return statsEnabled;
+    }
+
+    public StorageType getStatsStorage() {
+        return statsStorage;
+    }
+
+    public int getStatsFlushInterval() {
+        return statsFlushInterval;
+    }
+
+    public boolean isMetricsExportEnabled() {
+        return metricsExportEnabled;
+    }
+
+    public String getMetricsFile() {
+        return metricsFile;
+    }
+
+    public int getMetricsExportInterval() {
+        return metricsExportInterval;
+    }
+
+    public int getTeardownBudgetMs() {
+        return teardownBudgetMs;
+    }
+
+    public String getPrefix() {
+        return prefix;
+    }
+
+    public MessageTemplate getMessageTemplate(String key) {
+        return messageTemplates.get(key);
+    }
+
+    public MessageTemplate getRawTemplate(String key) {
+        return rawTemplates.get(key);
+    }
+
+    public List<MessageTemplate> getListTemplates(String key) {
+        return listTemplates.getOrDefault(key, Collections.emptyList());
+    }
+}
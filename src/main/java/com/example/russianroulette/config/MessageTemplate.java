@@ -0,0 +1,146 @@
+package com.example.russianroulette.config;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * A message compiled once at load time: the literal text split around its
+ * %placeholder% slots. Rendering fills the slots in a single pass and
+ * remembers the last result, so broadcasting the same message to a whole
+ * table renders it once.
+ */
+public final class MessageTemplate {
+
+    private static final ThreadLocal<StringBuilder> BUFFER = ThreadLocal.withInitial(() -> new StringBuilder(128));
+
+    // literals.length == placeholders.length + 1
+    private final String[] literals;
+    private final String[] placeholders;
+    private final int literalLength;
+
+    // Last (args, result) pair; replaced as a whole so readers on any thread see a consistent pair
+    private volatile Rendered last;
+
+    private MessageTemplate(String[] literals, String[] placeholders) {
+        this.literals = literals;
+        this.placeholders = placeholders;
+        int length = 0;
+        for (String literal : literals) {
+            length += literal.length();
+        }
+        this.literalLength = length;
+    }
+
+    /**
+     * Compile a colorized message.
+     * 
+     * @param text Message text with %name% placeholders
+     * @return Compiled template
+     */
+    public static MessageTemplate compile(String text) {
+        List<String> literals = new ArrayList<>();
+        List<String> placeholders = new ArrayList<>();
+
+        int literalStart = 0;
+        int open = text.indexOf('%');
+        while (open >= 0) {
+            int close = text.indexOf('%', open + 1);
+            if (close < 0) {
+                break;
+            }
+
+            if (isPlaceholderName(text, open + 1, close)) {
+                literals.add(text.substring(literalStart, open));
+                placeholders.add(text.substring(open + 1, close));
+                literalStart = close + 1;
+                open = text.indexOf('%', literalStart);
+            } else {
+                // Not a placeholder, the closing % may start the next one
+                open = close;
+            }
+        }
+        literals.add(text.substring(literalStart));
+
+        return new MessageTemplate(literals.toArray(new String[0]), placeholders.toArray(new String[0]));
+    }
+
+    private static boolean isPlaceholderName(String text, int start, int end) {
+        if (start == end) {
+            return false;
+        }
+
+        for (int i = start; i < end; i++) {
+            char c = text.charAt(i);
+            if (!Character.isLetterOrDigit(c) && c != '_') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Render the message.
+     * Placeholders without a value are left as they are.
+     * 
+     * @param args Placeholder names (without %) and values, alternating
+     * @return Rendered message
+     */
+    public String render(Object... args) {
+        if (placeholders.length == 0) {
+            return literals[0];
+        }
+
+        Rendered cached = last;
+        if (cached != null && Arrays.equals(cached.args, args)) {
+            return cached.result;
+        }
+
+        StringBuilder sb = BUFFER.get();
+        sb.setLength(0);
+        sb.ensureCapacity(literalLength + placeholders.length * 16);
+
+        for (int i = 0; i < placeholders.length; i++) {
+            sb.append(literals[i]);
+            Object value = lookup(placeholders[i], args);
+            if (value != null) {
+                sb.append(value);
+            } else {
+                sb.append('%').append(placeholders[i]).append('%');
+            }
+        }
+        sb.append(literals[placeholders.length]);
+
+        String result = sb.toString();
+        last = new Rendered(args.clone(), result);
+        return result;
+    }
+
+    private static Object lookup(String name, Object[] args) {
+        for (int i = 0; i + 1 < args.length; i += 2) {
+            if (name.equals(args[i])) {
+                return args[i + 1];
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Check if the template has any placeholder slots.
+     * 
+     * @return true if rendering depends on arguments
+     */
+    public boolean hasPlaceholders() {
+        return placeholders.length > 0;
+    }
+
+    private static final class Rendered {
+        private final Object[] args;
+        private final String result;
+
+        private Rendered(Object[] args, String result) {
+            this.args = args;
+            this.result = result;
+        }
+    }
+}
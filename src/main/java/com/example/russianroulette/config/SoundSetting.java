@@ -0,0 +1,45 @@
+package com.example.russianroulette.config;
+
+import org.bukkit.Sound;
+
+/**
+ * A configured sound with its volume and pitch.
+ */
+public final class SoundSetting {
+
+    public static final SoundSetting DEFAULT = new SoundSetting(Sound.BLOCK_LEVER_CLICK, 1.0f, 1.0f);
+
+    private final Sound sound;
+    private final float volume;
+    private final float pitch;
+    private final net.kyori.adventure.sound.Sound adventureSound;
+
+    public SoundSetting(Sound sound, float volume, float pitch) {
+        this.sound = sound;
+        this.volume = volume;
+        this.pitch = pitch;
+        this.adventureSound = net.kyori.adventure.sound.Sound.sound(
+                sound.getKey(), net.kyori.adventure.sound.Sound.Source.MASTER, volume, pitch);
+    }
+
+    public Sound getSound() {
+        return sound;
+    }
+
+    public float getVolume() {
+        return volume;
+    }
+
+    public float getPitch() {
+        return pitch;
+    }
+
+    /**
+     * Get this sound as an Adventure sound, built once.
+     * 
+     * @return Sound for playing to an audience
+     */
+    public net.kyori.adventure.sound.Sound getAdventureSound() {
+        return adventureSound;
+    }
+}
@@ -2,45 +2,53 @@ package com.example.russianroulette.effects;
 
 import com.example.russianroulette.RussianRoulettePlugin;
 import com.example.russianroulette.config.ConfigManager;
+import com.example.russianroulette.config.SoundSetting;
+import com.example.russianroulette.scheduler.Platform;
+import com.example.russianroulette.scheduler.TickScheduler;
 import org.bukkit.Color;
 import org.bukkit.Location;
 import org.bukkit.Particle;
 import org.bukkit.entity.Player;
 import org.bukkit.potion.PotionEffect;
 import org.bukkit.potion.PotionEffectType;
-import org.bukkit.scheduler.BukkitRunnable;
 
 /**
  * Manages visual and audio effects for the game.
+ * All particles go through a shared {@link ParticleBudget}.
+ * Effects that last several ticks run on the scheduler of the game that played them.
  */
 public class EffectsManager {
 
     private final RussianRoulettePlugin plugin;
     private final ConfigManager config;
+    private final ParticleBudget particles;
 
     public EffectsManager(RussianRoulettePlugin plugin) {
         this.plugin = plugin;
         this.config = plugin.getConfigManager();
+        this.particles = new ParticleBudget(plugin);
     }
 
     /**
      * Play death effects for a player.
      * 
-     * @param player The player who died
+     * @param player    The player who died
+     * @param scheduler Scheduler of the player's game
      */
-    public void playDeathEffects(Player player) {
+    public void playDeathEffects(Player player, TickScheduler scheduler) {
         Location loc = player.getLocation();
 
         // Play gunshot sound
+        SoundSetting sound = config.getSoundSetting("triggerFire");
         player.getWorld().playSound(
                 loc,
-                config.getSound("triggerFire"),
-                config.getSoundVolume("triggerFire"),
-                config.getSoundPitch("triggerFire"));
+                sound.getSound(),
+                sound.getVolume(),
+                sound.getPitch());
 
         // Blood particles
         if (config.isBloodParticlesEnabled()) {
-            playBloodParticles(player);
+            playBloodParticles(player, scheduler);
         }
 
         // Smoke particles
@@ -71,15 +79,16 @@ public class EffectsManager {
         Location loc = player.getLocation();
 
         // Play empty click sound
+        SoundSetting sound = config.getSoundSetting("triggerEmpty");
         player.getWorld().playSound(
                 loc,
-                config.getSound("triggerEmpty"),
-                config.getSoundVolume("triggerEmpty"),
-                config.getSoundPitch("triggerEmpty"));
+                sound.getSound(),
+                sound.getVolume(),
+                sound.getPitch());
 
         // Small smoke puff
         if (config.isSmokeParticlesEnabled()) {
-            player.getWorld().spawnParticle(
+            particles.spawn(
                     Particle.SMOKE_NORMAL,
                     loc.add(0, 1.5, 0),
                     10,
@@ -91,9 +100,10 @@ public class EffectsManager {
     /**
      * Play blood particle effects.
      * 
-     * @param player Player location
+     * @param player    Player location
+     * @param scheduler Scheduler for the splatter
      */
-    private void playBloodParticles(Player player) {
+    private void playBloodParticles(Player player, TickScheduler scheduler) {
         Location loc = player.getLocation().add(0, 1, 0);
         int count = config.getBloodParticleCount();
 
@@ -101,7 +111,7 @@ public class EffectsManager {
         Particle.DustOptions dustOptions = new Particle.DustOptions(Color.RED, 1.5f);
 
         // Burst of blood particles
-        player.getWorld().spawnParticle(
+        particles.spawn(
                 Particle.REDSTONE,
                 loc,
                 count,
@@ -109,29 +119,21 @@ public class EffectsManager {
                 0.1,
                 dustOptions);
 
-        // Additional splatter effect
-        new BukkitRunnable() {
-            int ticks = 0;
-
-            @Override
-            public void run() {
-                if (ticks >= 5) {
-                    cancel();
-                    return;
-                }
-
-                Location splatterLoc = player.getLocation().add(0, 0.5, 0);
-                player.getWorld().spawnParticle(
-                        Particle.REDSTONE,
-                        splatterLoc,
-                        15,
-                        0.8, 0.2, 0.8,
-                        0.05,
-                        dustOptions);
-
-                ticks++;
+        // Additional splatter effect, 5 bursts 2 ticks apart
+        scheduler.scheduleRepeating("blood-splatter", 0L, 2L, 5, () -> {
+            if (!isNearby(player)) {
+                return;
             }
-        }.runTaskTimer(plugin, 0L, 2L);
+
+            Location splatterLoc = player.getLocation().add(0, 0.5, 0);
+            particles.spawn(
+                    Particle.REDSTONE,
+                    splatterLoc,
+                    15,
+                    0.8, 0.2, 0.8,
+                    0.05,
+                    dustOptions);
+        });
     }
 
     /**
@@ -143,7 +145,7 @@ public class EffectsManager {
         Location loc = player.getLocation().add(0, 1.5, 0);
 
         // Large smoke explosion
-        player.getWorld().spawnParticle(
+        particles.spawn(
                 Particle.EXPLOSION_LARGE,
                 loc,
                 1,
@@ -151,7 +153,7 @@ public class EffectsManager {
                 0);
 
         // Trailing smoke
-        player.getWorld().spawnParticle(
+        particles.spawn(
                 Particle.SMOKE_LARGE,
                 loc,
                 30,
@@ -165,8 +167,10 @@ public class EffectsManager {
      * @param player Player to apply effect to
      */
     private void playSlowMotionEffect(Player player) {
-        int duration = config.getSlowMotionDuration();
+        Platform.runFor(plugin, player, () -> applySlowMotion(player, config.getSlowMotionDuration()));
+    }
 
+    private void applySlowMotion(Player player, int duration) {
         // Apply slowness
         player.addPotionEffect(new PotionEffect(
                 PotionEffectType.SLOW,
@@ -202,13 +206,14 @@ public class EffectsManager {
     /**
      * Play celebration effects for winner.
      * 
-     * @param player The winning player
+     * @param player    The winning player
+     * @param scheduler Scheduler of the player's game
      */
-    public void playWinnerEffects(Player player) {
+    public void playWinnerEffects(Player player, TickScheduler scheduler) {
         Location loc = player.getLocation();
 
         // Firework-like particles
-        player.getWorld().spawnParticle(
+        particles.spawn(
                 Particle.TOTEM,
                 loc.add(0, 2, 0),
                 100,
@@ -222,27 +227,30 @@ public class EffectsManager {
                 1.0f,
                 1.0f);
 
-        // Continuous sparkle effect
-        new BukkitRunnable() {
-            int ticks = 0;
-
-            @Override
-            public void run() {
-                if (ticks >= 40 || !player.isOnline()) {
-                    cancel();
-                    return;
-                }
-
-                Location particleLoc = player.getLocation().add(0, 2, 0);
-                player.getWorld().spawnParticle(
-                        Particle.FIREWORKS_SPARK,
-                        particleLoc,
-                        10,
-                        0.5, 0.5, 0.5,
-                        0.1);
-
-                ticks++;
+        // Continuous sparkle effect, 40 bursts 2 ticks apart
+        scheduler.scheduleRepeating("winner-sparkles", 0L, 2L, 40, () -> {
+            if (!isNearby(player)) {
+                return;
             }
-        }.runTaskTimer(plugin, 0L, 2L);
+
+            Location particleLoc = player.getLocation().add(0, 2, 0);
+            particles.spawn(
+                    Particle.FIREWORKS_SPARK,
+                    particleLoc,
+                    10,
+                    0.5, 0.5, 0.5,
+                    0.1);
+        });
+    }
+
+    /**
+     * Check if a lasting effect can still follow the player. On Folia they may have
+     * left the game's region meanwhile, and then can't be read from its thread.
+     * 
+     * @param player Player the effect follows
+     * @return true if the player is online and owned by the current thread
+     */
+    private boolean isNearby(Player player) {
+        return player.isOnline() && (!Platform.isFolia() || plugin.getServer().isOwnedByCurrentRegion(player));
     }
 }
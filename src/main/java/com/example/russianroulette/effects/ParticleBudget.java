@@ -0,0 +1,107 @@
+package com.example.russianroulette.effects;
+
+import com.example.russianroulette.RussianRoulettePlugin;
+import com.example.russianroulette.config.ConfigManager;
+import org.bukkit.Location;
+import org.bukkit.Particle;
+import org.bukkit.entity.Player;
+
+/**
+ * Plugin-wide particle budget with distance-based level of detail.
+ * Particles are sent only to players near the effect. Far viewers get fewer of them,
+ * and every effect in a busy tick gets a smaller share of what's left of the budget,
+ * so deaths at many tables at once can't flood clients or the server.
+ * On Folia regions spend from the same budget on their own threads, so it is
+ * only approximate there: effects spawning at the same moment may overshoot it a little.
+ */
+public class ParticleBudget {
+
+    // Viewers this close get every particle, farther away counts fall off with the square of the distance
+    private static final double FULL_DETAIL_DISTANCE = 16;
+    private static final double FULL_DETAIL_DISTANCE_SQUARED = FULL_DETAIL_DISTANCE * FULL_DETAIL_DISTANCE;
+
+    private final RussianRoulettePlugin plugin;
+    private final ConfigManager config;
+
+    private long tick = -1;
+    private int spent;
+
+    public ParticleBudget(RussianRoulettePlugin plugin) {
+        this.plugin = plugin;
+        this.config = plugin.getConfigManager();
+    }
+
+    /**
+     * Spawn particles for the players that can see them.
+     * 
+     * @param particle Particle type
+     * @param location Where to spawn them
+     * @param count    Particles at full detail
+     * @param offsetX  Spread on X
+     * @param offsetY  Spread on Y
+     * @param offsetZ  Spread on Z
+     * @param extra    Particle speed
+     */
+    public void spawn(Particle particle, Location location, int count,
+            double offsetX, double offsetY, double offsetZ, double extra) {
+        spawn(particle, location, count, offsetX, offsetY, offsetZ, extra, null);
+    }
+
+    /**
+     * Spawn particles with data for the players that can see them.
+     * 
+     * @param particle Particle type
+     * @param location Where to spawn them
+     * @param count    Particles at full detail
+     * @param offsetX  Spread on X
+     * @param offsetY  Spread on Y
+     * @param offsetZ  Spread on Z
+     * @param extra    Particle speed
+     * @param data     Particle data, e.g. dust options
+     */
+    public <T> void spawn(Particle particle, Location location, int count,
+            double offsetX, double offsetY, double offsetZ, double extra, T data) {
+        int budget = config.getParticleBudget();
+        long now = plugin.getTickScheduler().getCurrentTick();
+        int remaining;
+        synchronized (this) {
+            if (now != tick) {
+                tick = now;
+                spent = 0;
+            }
+            remaining = budget - spent;
+        }
+
+        if (remaining <= 0 || count <= 0) {
+            return;
+        }
+
+        // The busier this tick already is, the smaller the share of this effect
+        int scaled = Math.max(1, (int) ((long) count * remaining / budget));
+        int sent = 0;
+
+        for (Player viewer : location.getNearbyPlayers(config.getParticleViewDistance())) {
+            double distanceSquared = viewer.getLocation().distanceSquared(location);
+            int detail = scaled;
+            if (distanceSquared > FULL_DETAIL_DISTANCE_SQUARED) {
+                // Keep at least one so single-particle effects like explosions still show
+                detail = Math.max(1, (int) (scaled * FULL_DETAIL_DISTANCE_SQUARED / distanceSquared));
+            }
+            detail = Math.min(detail, remaining);
+
+            viewer.spawnParticle(particle, location, detail, offsetX, offsetY, offsetZ, extra, data);
+            sent += detail;
+            remaining -= detail;
+            if (remaining <= 0) {
+                break;
+            }
+        }
+
+        // Sent outside the lock, so effects in other regions don't wait on each other's packets
+        synchronized (this) {
+            if (tick == now) {
+                spent += sent;
+            }
+        }
+    }
+}
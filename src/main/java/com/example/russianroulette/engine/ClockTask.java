@@ -0,0 +1,19 @@
+package com.example.russianroulette.engine;
+
+/**
+ * Handle to a task scheduled on an {@link EngineClock}.
+ */
+public interface ClockTask {
+
+    /**
+     * Cancel the task. Cancelling an already finished task does nothing.
+     */
+    void cancel();
+
+    /**
+     * Check if the task was cancelled.
+     * 
+     * @return true if cancelled
+     */
+    boolean isCancelled();
+}
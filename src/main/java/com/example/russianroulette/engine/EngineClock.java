@@ -0,0 +1,52 @@
+package com.example.russianroulette.engine;
+
+/**
+ * Time source for the engine, measured in game ticks (20 per second).
+ * On a server this is backed by the scheduler; headless runs use {@link ManualClock}.
+ */
+public interface EngineClock {
+
+    /**
+     * Run a task once after a delay.
+     * 
+     * @param delayTicks Delay in ticks
+     * @param task       Task to run
+     * @return Handle to cancel the task
+     */
+    ClockTask schedule(long delayTicks, Runnable task);
+
+    /**
+     * Run a task repeatedly.
+     * 
+     * @param delayTicks  Delay before the first run in ticks
+     * @param periodTicks Ticks between runs
+     * @param task        Task to run
+     * @return Handle to cancel the task
+     */
+    ClockTask scheduleRepeating(long delayTicks, long periodTicks, Runnable task);
+
+    /**
+     * Run a task once after a delay, under a name for clocks that profile their tasks.
+     * 
+     * @param name       Task name, e.g. "next-turn"
+     * @param delayTicks Delay in ticks
+     * @param task       Task to run
+     * @return Handle to cancel the task
+     */
+    default ClockTask schedule(String name, long delayTicks, Runnable task) {
+        return schedule(delayTicks, task);
+    }
+
+    /**
+     * Run a task repeatedly, under a name for clocks that profile their tasks.
+     * 
+     * @param name        Task name, e.g. "turn-timer"
+     * @param delayTicks  Delay before the first run in ticks
+     * @param periodTicks Ticks between runs
+     * @param task        Task to run
+     * @return Handle to cancel the task
+     */
+    default ClockTask scheduleRepeating(String name, long delayTicks, long periodTicks, Runnable task) {
+        return scheduleRepeating(delayTicks, periodTicks, task);
+    }
+}
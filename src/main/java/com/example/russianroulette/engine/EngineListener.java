@@ -0,0 +1,106 @@
+package com.example.russianroulette.engine;
+
+import com.example.russianroulette.game.GameState;
+
+import java.util.UUID;
+
+/**
+ * Receives events from a {@link RouletteEngine}.
+ * All methods default to doing nothing so headless runs only implement what they need.
+ */
+public interface EngineListener {
+
+    /**
+     * Called on every state transition.
+     * 
+     * @param from Previous state
+     * @param to   New state
+     */
+    default void onStateChange(GameState from, GameState to) {
+    }
+
+    /**
+     * Called once per second during the start countdown.
+     * 
+     * @param secondsLeft Seconds until the game begins
+     */
+    default void onCountdown(int secondsLeft) {
+    }
+
+    /**
+     * Called when the countdown is over and the turn order is shuffled.
+     * The listener must call {@link RouletteEngine#startTurn()} when it is ready for the first turn.
+     */
+    default void onGameBegin() {
+    }
+
+    /**
+     * Check whether a player is still connected.
+     * Disconnected players are eliminated when their turn comes up.
+     * 
+     * @param playerId Player to check
+     * @return true if the player can take a turn
+     */
+    default boolean isConnected(UUID playerId) {
+        return true;
+    }
+
+    /**
+     * Called when a player's turn starts.
+     * The player may be removed from here, e.g. if they left since {@link #isConnected(UUID)};
+     * the turn timer then isn't started.
+     * 
+     * @param playerId Player whose turn it is
+     */
+    default void onTurnStart(UUID playerId) {
+    }
+
+    /**
+     * Called every second while a turn is running.
+     * 
+     * @param playerId      Player whose turn it is
+     * @param timeRemaining Seconds left in the turn
+     */
+    default void onTurnTick(UUID playerId, int timeRemaining) {
+    }
+
+    /**
+     * Called when a player runs out of time, right before the trigger is pulled for them.
+     * 
+     * @param playerId Player who timed out
+     */
+    default void onTurnTimeout(UUID playerId) {
+    }
+
+    /**
+     * Called when the trigger is pulled.
+     * 
+     * @param playerId Player who pulled the trigger
+     * @param hit      true if the chamber was loaded
+     */
+    default void onTriggerPulled(UUID playerId, boolean hit) {
+    }
+
+    /**
+     * Called when a player is eliminated by a shot or by disconnecting on their turn.
+     * 
+     * @param playerId     Eliminated player
+     * @param disconnected Whether the player was disconnected
+     */
+    default void onEliminated(UUID playerId, boolean disconnected) {
+    }
+
+    /**
+     * Called when a single player is left standing.
+     * 
+     * @param winnerId The winning player
+     */
+    default void onWinner(UUID winnerId) {
+    }
+
+    /**
+     * Called once when the game ends, before the engine clears its players.
+     */
+    default void onGameEnd() {
+    }
+}
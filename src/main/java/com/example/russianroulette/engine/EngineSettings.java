@@ -0,0 +1,65 @@
+package com.example.russianroulette.engine;
+
+import com.example.russianroulette.game.GameMode;
+
+/**
+ * Rules a {@link RouletteEngine} plays by.
+ */
+public class EngineSettings {
+
+    private final GameMode mode;
+    private final int minPlayers;
+    private final int maxPlayers;
+    private final int turnTime;
+    private final int startCountdown;
+    private final boolean reshuffleAfterShot;
+    private final long turnDelayTicks;
+
+    /**
+     * @param mode               Game mode (bullet count)
+     * @param minPlayers         Players needed to start
+     * @param maxPlayers         Player cap
+     * @param turnTime           Seconds per turn before the trigger is pulled automatically
+     * @param startCountdown     Countdown before the game begins, in seconds
+     * @param reshuffleAfterShot Whether to spin the cylinder after each death
+     * @param turnDelayTicks     Pause between turns in ticks
+     */
+    public EngineSettings(GameMode mode, int minPlayers, int maxPlayers, int turnTime, int startCountdown,
+            boolean reshuffleAfterShot, long turnDelayTicks) {
+        this.mode = mode;
+        this.minPlayers = minPlayers;
+        this.maxPlayers = maxPlayers;
+        this.turnTime = turnTime;
+        this.startCountdown = startCountdown;
+        this.reshuffleAfterShot = reshuffleAfterShot;
+        this.turnDelayTicks = turnDelayTicks;
+    }
+
+    public GameMode getMode() {
+        return mode;
+    }
+
+    public int getMinPlayers() {
+        return minPlayers;
+    }
+
+    public int getMaxPlayers() {
+        return maxPlayers;
+    }
+
+    public int getTurnTime() {
+        return turnTime;
+    }
+
+    public int getStartCountdown() {
+        return startCountdown;
+    }
+
+    public boolean isReshuffleAfterShot() {
+        return reshuffleAfterShot;
+    }
+
+    public long getTurnDelayTicks() {
+        return turnDelayTicks;
+    }
+}
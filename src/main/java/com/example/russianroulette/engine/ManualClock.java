@@ -0,0 +1,125 @@
+package com.example.russianroulette.engine;
+
+import java.util.PriorityQueue;
+
+/**
+ * Clock that only moves when told to. Used to run engines headless,
+ * e.g. in simulations where idle ticks are skipped entirely.
+ */
+public class ManualClock implements EngineClock {
+
+    private final PriorityQueue<Entry> queue = new PriorityQueue<>();
+    private long currentTick;
+    private long sequence;
+
+    @Override
+    public ClockTask schedule(long delayTicks, Runnable task) {
+        return enqueue(delayTicks, 0L, task);
+    }
+
+    @Override
+    public ClockTask scheduleRepeating(long delayTicks, long periodTicks, Runnable task) {
+        return enqueue(delayTicks, Math.max(1L, periodTicks), task);
+    }
+
+    private Entry enqueue(long delayTicks, long periodTicks, Runnable task) {
+        Entry entry = new Entry(currentTick + Math.max(0L, delayTicks), sequence++, periodTicks, task);
+        queue.add(entry);
+        return entry;
+    }
+
+    /**
+     * Advance the clock, running every task that falls due on the way.
+     * 
+     * @param ticks Ticks to advance
+     */
+    public void advance(long ticks) {
+        long target = currentTick + ticks;
+        while (!queue.isEmpty() && queue.peek().dueTick <= target) {
+            runNext();
+        }
+        currentTick = target;
+    }
+
+    /**
+     * Jump straight to the next due task and run everything due at that tick.
+     * 
+     * @return false if nothing is scheduled
+     */
+    public boolean skipToNext() {
+        Entry next = queue.peek();
+        while (next != null && next.cancelled) {
+            queue.poll();
+            next = queue.peek();
+        }
+        if (next == null) {
+            return false;
+        }
+
+        long dueTick = next.dueTick;
+        while (!queue.isEmpty() && queue.peek().dueTick <= dueTick) {
+            runNext();
+        }
+        return true;
+    }
+
+    private void runNext() {
+        Entry entry = queue.poll();
+        if (entry.cancelled) {
+            return;
+        }
+
+        currentTick = Math.max(currentTick, entry.dueTick);
+        if (entry.periodTicks > 0) {
+            // Re-arm from the deadline, not from now, so repeating tasks never drift
+            entry.dueTick += entry.periodTicks;
+            entry.order = sequence++;
+            queue.add(entry);
+        } else {
+            entry.cancelled = true;
+        }
+        entry.task.run();
+    }
+
+    public long getCurrentTick() {
+        return currentTick;
+    }
+
+    public boolean isIdle() {
+        while (!queue.isEmpty() && queue.peek().cancelled) {
+            queue.poll();
+        }
+        return queue.isEmpty();
+    }
+
+    private static final class Entry implements ClockTask, Comparable<Entry> {
+        private long dueTick;
+        private long order;
+        private final long periodTicks;
+        private final Runnable task;
+        private boolean cancelled;
+
+        private Entry(long dueTick, long order, long periodTicks, Runnable task) {
+            this.dueTick = dueTick;
+            this.order = order;
+            this.periodTicks = periodTicks;
+            this.task = task;
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return cancelled;
+        }
+
+        @Override
+        public int compareTo(Entry other) {
+            int byTick = Long.compare(dueTick, other.dueTick);
+            return byTick != 0 ? byTick : Long.compare(order, other.order);
+        }
+    }
+}
@@ -0,0 +1,406 @@
+package com.example.russianroulette.engine;
+
+import com.example.russianroulette.game.GameState;
+import com.example.russianroulette.game.Revolver;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Server-independent Russian Roulette rules: state machine, turn order,
+ * revolver, elimination and winner detection.
+ * Time comes from an {@link EngineClock} and everything visible is reported
+ * to an {@link EngineListener}, so the engine can run without a server.
+ */
+public class RouletteEngine {
+
+    private final EngineSettings settings;
+    private final EngineClock clock;
+    private final EngineListener listener;
+    private final Random random;
+
+    // Read from other threads for a quick check before hopping to the game
+    private volatile GameState state;
+    private Revolver revolver;
+
+    private final Set<UUID> players;
+    private final List<UUID> turnOrder;
+    private int currentTurnIndex;
+    private UUID currentTurnPlayer;
+    // Set when the current player was removed, so the next player already sits at currentTurnIndex
+    private boolean turnIndexAdvanced;
+
+    private ClockTask countdownTask;
+    private ClockTask turnTimerTask;
+    private ClockTask nextTurnTask;
+    private int turnTimeRemaining;
+
+    public RouletteEngine(EngineSettings settings, EngineClock clock, EngineListener listener, Random random) {
+        this.settings = settings;
+        this.clock = clock;
+        this.listener = listener;
+        this.random = random;
+        this.state = GameState.WAITING;
+        this.players = new LinkedHashSet<>();
+        this.turnOrder = new ArrayList<>();
+        this.currentTurnIndex = 0;
+    }
+
+    /**
+     * Check if a player could join right now.
+     * 
+     * @param playerId Player to check
+     * @return true if the game is waiting, has room and doesn't contain the player
+     */
+    public boolean canJoin(UUID playerId) {
+        return state == GameState.WAITING
+                && !players.contains(playerId)
+                && players.size() < settings.getMaxPlayers();
+    }
+
+    /**
+     * Add a player to the game.
+     * 
+     * @param playerId Player to add
+     * @return true if the player was added
+     */
+    public boolean addPlayer(UUID playerId) {
+        if (!canJoin(playerId)) {
+            return false;
+        }
+
+        players.add(playerId);
+        turnOrder.add(playerId);
+        return true;
+    }
+
+    /**
+     * Remove a player from the game. Removing the last but one player
+     * of a running game declares the winner and ends it.
+     * 
+     * @param playerId Player to remove
+     * @return true if the player was in the game
+     */
+    public boolean removePlayer(UUID playerId) {
+        if (!players.remove(playerId)) {
+            return false;
+        }
+
+        boolean wasTurn = playerId.equals(currentTurnPlayer);
+        removeFromTurnOrder(playerId);
+
+        if (state == GameState.IN_PROGRESS && !checkForWinner() && wasTurn) {
+            cancelTurnTimer();
+            nextTurn();
+        }
+
+        return true;
+    }
+
+    /**
+     * Start the countdown.
+     * 
+     * @return true if the game is waiting and has enough players
+     */
+    public boolean start() {
+        if (state != GameState.WAITING || players.size() < settings.getMinPlayers()) {
+            return false;
+        }
+
+        setState(GameState.STARTING);
+        revolver = new Revolver(settings.getMode().getBulletCount(), random);
+
+        final int[] timeLeft = { settings.getStartCountdown() };
+        countdownTask = clock.scheduleRepeating("countdown", 0L, 20L, () -> {
+            if (timeLeft[0] <= 0) {
+                cancelCountdown();
+                begin();
+                return;
+            }
+
+            listener.onCountdown(timeLeft[0]);
+            timeLeft[0]--;
+        });
+
+        return true;
+    }
+
+    /**
+     * Begin the game after the countdown.
+     */
+    private void begin() {
+        setState(GameState.IN_PROGRESS);
+
+        Collections.shuffle(turnOrder, random);
+        currentTurnIndex = 0;
+
+        listener.onGameBegin();
+    }
+
+    /**
+     * Start the current player's turn.
+     */
+    public void startTurn() {
+        if (state != GameState.IN_PROGRESS) {
+            return;
+        }
+
+        if (turnOrder.isEmpty()) {
+            end();
+            return;
+        }
+
+        currentTurnPlayer = turnOrder.get(currentTurnIndex);
+
+        if (!listener.isConnected(currentTurnPlayer)) {
+            // Player disconnected, eliminate and move on
+            UUID gone = currentTurnPlayer;
+            eliminate(gone, true);
+            if (!checkForWinner()) {
+                nextTurn();
+            }
+            return;
+        }
+
+        turnTimeRemaining = settings.getTurnTime();
+        UUID playerId = currentTurnPlayer;
+        listener.onTurnStart(playerId);
+
+        // Unless the listener removed the player meanwhile
+        if (playerId.equals(currentTurnPlayer)) {
+            startTurnTimer();
+        }
+    }
+
+    /**
+     * Start the turn timer; the trigger is pulled automatically when it runs out.
+     */
+    private void startTurnTimer() {
+        cancelTurnTimer();
+
+        turnTimerTask = clock.scheduleRepeating("turn-timer", 20L, 20L, () -> {
+            if (state != GameState.IN_PROGRESS || currentTurnPlayer == null) {
+                cancelTurnTimer();
+                return;
+            }
+
+            turnTimeRemaining--;
+            listener.onTurnTick(currentTurnPlayer, turnTimeRemaining);
+
+            // Time's up - auto pull trigger
+            if (turnTimeRemaining <= 0) {
+                cancelTurnTimer();
+                UUID playerId = currentTurnPlayer;
+                listener.onTurnTimeout(playerId);
+                pullTrigger(playerId);
+            }
+        });
+    }
+
+    /**
+     * Pull the trigger for a player.
+     * 
+     * @param playerId Player pulling the trigger
+     * @return What happened
+     */
+    public TriggerResult pullTrigger(UUID playerId) {
+        if (state != GameState.IN_PROGRESS) {
+            return TriggerResult.NOT_IN_PROGRESS;
+        }
+
+        if (!playerId.equals(currentTurnPlayer)) {
+            return TriggerResult.NOT_YOUR_TURN;
+        }
+
+        cancelTurnTimer();
+
+        boolean hit = revolver.pullTrigger();
+        listener.onTriggerPulled(playerId, hit);
+
+        if (!hit) {
+            nextTurn();
+            return TriggerResult.SURVIVED;
+        }
+
+        eliminate(playerId, false);
+
+        // Reload an empty cylinder so the game can always finish
+        if (!revolver.hasBullets() || settings.isReshuffleAfterShot()) {
+            revolver.shuffle();
+        }
+
+        if (!checkForWinner()) {
+            nextTurn();
+        }
+        return TriggerResult.DIED;
+    }
+
+    /**
+     * Eliminate a player.
+     * 
+     * @param playerId     Player to eliminate
+     * @param disconnected Whether the player disconnected
+     */
+    private void eliminate(UUID playerId, boolean disconnected) {
+        removeFromTurnOrder(playerId);
+        listener.onEliminated(playerId, disconnected);
+    }
+
+    /**
+     * Remove a player from the turn order, keeping the turn index on the right player.
+     */
+    private void removeFromTurnOrder(UUID playerId) {
+        int index = turnOrder.indexOf(playerId);
+        if (index < 0) {
+            return;
+        }
+
+        turnOrder.remove(index);
+        if (index < currentTurnIndex) {
+            currentTurnIndex--;
+        } else if (index == currentTurnIndex && playerId.equals(currentTurnPlayer)) {
+            turnIndexAdvanced = true;
+        }
+
+        if (currentTurnIndex >= turnOrder.size()) {
+            currentTurnIndex = 0;
+        }
+    }
+
+    /**
+     * Move to the next player's turn after a short delay.
+     */
+    private void nextTurn() {
+        if (turnOrder.isEmpty()) {
+            end();
+            return;
+        }
+
+        if (!turnIndexAdvanced) {
+            currentTurnIndex = (currentTurnIndex + 1) % turnOrder.size();
+        }
+        turnIndexAdvanced = false;
+        currentTurnPlayer = null;
+
+        if (nextTurnTask != null) {
+            nextTurnTask.cancel();
+        }
+        nextTurnTask = clock.schedule("next-turn", settings.getTurnDelayTicks(), () -> {
+            nextTurnTask = null;
+            if (state == GameState.IN_PROGRESS) {
+                startTurn();
+            }
+        });
+    }
+
+    /**
+     * End the game if at most one player is left.
+     * 
+     * @return true if the game ended
+     */
+    private boolean checkForWinner() {
+        if (turnOrder.size() > 1) {
+            return false;
+        }
+
+        if (turnOrder.size() == 1) {
+            listener.onWinner(turnOrder.get(0));
+        }
+        end();
+        return true;
+    }
+
+    /**
+     * End the game. Does nothing if it already ended.
+     */
+    public void end() {
+        if (state == GameState.ENDED) {
+            return;
+        }
+
+        setState(GameState.ENDED);
+
+        cancelCountdown();
+        cancelTurnTimer();
+        if (nextTurnTask != null) {
+            nextTurnTask.cancel();
+            nextTurnTask = null;
+        }
+        currentTurnPlayer = null;
+
+        listener.onGameEnd();
+
+        players.clear();
+        turnOrder.clear();
+    }
+
+    private void setState(GameState newState) {
+        GameState oldState = state;
+        state = newState;
+        listener.onStateChange(oldState, newState);
+    }
+
+    private void cancelCountdown() {
+        if (countdownTask != null) {
+            countdownTask.cancel();
+            countdownTask = null;
+        }
+    }
+
+    private void cancelTurnTimer() {
+        if (turnTimerTask != null) {
+            turnTimerTask.cancel();
+            turnTimerTask = null;
+        }
+    }
+
+    /**
+     * Get list of alive player UUIDs in turn order.
+     * 
+     * @return Copy of the alive players
+     */
+    public List<UUID> getAlivePlayers() {
+        return new ArrayList<>(turnOrder);
+    }
+
+    public int getAliveCount() {
+        return turnOrder.size();
+    }
+
+    public GameState getState() {
+        return state;
+    }
+
+    public EngineSettings getSettings() {
+        return settings;
+    }
+
+    public Revolver getRevolver() {
+        return revolver;
+    }
+
+    public int getPlayerCount() {
+        return players.size();
+    }
+
+    public boolean hasPlayer(UUID playerId) {
+        return players.contains(playerId);
+    }
+
+    public UUID getCurrentTurnPlayer() {
+        return currentTurnPlayer;
+    }
+
+    public boolean isPlayerTurn(UUID playerId) {
+        return currentTurnPlayer != null && currentTurnPlayer.equals(playerId);
+    }
+
+    public int getTurnTimeRemaining() {
+        return turnTimeRemaining;
+    }
+}
@@ -0,0 +1,26 @@
+package com.example.russianroulette.engine;
+
+/**
+ * Outcome of a trigger pull request.
+ */
+public enum TriggerResult {
+    /**
+     * The game isn't in progress.
+     */
+    NOT_IN_PROGRESS,
+
+    /**
+     * It isn't this player's turn.
+     */
+    NOT_YOUR_TURN,
+
+    /**
+     * The chamber was empty.
+     */
+    SURVIVED,
+
+    /**
+     * The chamber was loaded.
+     */
+    DIED
+}
@@ -0,0 +1,164 @@
+package com.example.russianroulette.game;
+
+import com.example.russianroulette.scheduler.Platform;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.entity.ArmorStand;
+import org.bukkit.entity.Entity;
+import org.bukkit.entity.Player;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Camera for the intro cinematic: a single invisible stand orbiting the table
+ * that every player spectates. The orbit comes from a precomputed keyframe table,
+ * so each step is one entity teleport no matter how many players are watching.
+ */
+public class CinematicCamera {
+
+    // Camera orbit radius around table
+    private static final double RADIUS = 5;
+    // Eye height of a player standing 2 blocks above the table, where the camera used to be
+    private static final double HEIGHT = 3.6;
+    // Look slightly down at table
+    private static final float PITCH = 15;
+
+    // Keyframes by step count; only the table center differs between games, and games on
+    // Folia build cameras on their own region threads
+    private static final Map<Integer, Keyframes> KEYFRAMES = new ConcurrentHashMap<>();
+
+    private final Keyframes keyframes;
+    private final double centerX;
+    private final double centerZ;
+    // Reused for every step instead of allocating a location per tick
+    private final Location location;
+
+    private ArmorStand entity;
+    private int step;
+
+    /**
+     * Create a camera orbiting a table center once over the given number of steps.
+     * 
+     * @param world   World the table is in
+     * @param centerX Table center X
+     * @param centerY Table center Y
+     * @param centerZ Table center Z
+     * @param steps   Steps for one full orbit
+     */
+    public CinematicCamera(World world, double centerX, double centerY, double centerZ, int steps) {
+        this.keyframes = KEYFRAMES.computeIfAbsent(steps, Keyframes::new);
+        this.centerX = centerX;
+        this.centerZ = centerZ;
+        this.location = new Location(world, 0, centerY + HEIGHT, 0);
+        this.location.setPitch(PITCH);
+        moveTo(0);
+    }
+
+    /**
+     * Spawn the camera entity at the first keyframe.
+     */
+    public void spawn() {
+        entity = location.getWorld().spawn(location, ArmorStand.class, armorStand -> {
+            armorStand.setVisible(false);
+            armorStand.setGravity(false);
+            armorStand.setInvulnerable(true);
+            armorStand.setMarker(true);
+            armorStand.setSilent(true);
+            // Never saved, so a crash mid-intro doesn't leave a stray stand behind
+            armorStand.setPersistent(false);
+        });
+    }
+
+    /**
+     * Make a spectating player look through the camera.
+     * 
+     * @param player Player in spectator mode
+     */
+    public void attach(Player player) {
+        if (entity != null) {
+            player.setSpectatorTarget(entity);
+        }
+    }
+
+    /**
+     * Move the camera to the next keyframe.
+     * 
+     * @return false once the orbit is complete
+     */
+    public boolean advance() {
+        if (step >= keyframes.size()) {
+            return false;
+        }
+
+        moveTo(step++);
+        if (entity != null) {
+            Platform.teleport(entity, location);
+        }
+        return true;
+    }
+
+    private void moveTo(int index) {
+        location.setX(centerX + keyframes.offsetX[index]);
+        location.setZ(centerZ + keyframes.offsetZ[index]);
+        location.setYaw(keyframes.yaw[index]);
+    }
+
+    /**
+     * Check if an entity is this camera.
+     * 
+     * @param other Entity to check
+     * @return true if it is the camera entity
+     */
+    public boolean is(Entity other) {
+        return entity != null && entity.equals(other);
+    }
+
+    /**
+     * Remove the camera entity.
+     */
+    public void remove() {
+        if (entity != null) {
+            if (!entity.isDead()) {
+                entity.remove();
+            }
+            entity = null;
+        }
+    }
+
+    /**
+     * Get the step the camera will show next.
+     * 
+     * @return Zero-based step
+     */
+    public int getStep() {
+        return step;
+    }
+
+    /**
+     * Camera offsets from the table center and the yaw facing it, for each step of one orbit.
+     */
+    private static final class Keyframes {
+        private final double[] offsetX;
+        private final double[] offsetZ;
+        private final float[] yaw;
+
+        private Keyframes(int steps) {
+            offsetX = new double[steps];
+            offsetZ = new double[steps];
+            yaw = new float[steps];
+
+            for (int i = 0; i < steps; i++) {
+                double angle = (2 * Math.PI * i) / steps;
+                offsetX[i] = RADIUS * Math.cos(angle);
+                offsetZ[i] = RADIUS * Math.sin(angle);
+                // Face the center of the table
+                yaw[i] = (float) Math.toDegrees(Math.atan2(-offsetZ[i], -offsetX[i])) - 90;
+            }
+        }
+
+        private int size() {
+            return offsetX.length;
+        }
+    }
+}
@@ -1,99 +1,180 @@
 package com.example.russianroulette.game;
 
 import com.example.russianroulette.RussianRoulettePlugin;
+import com.example.russianroulette.arena.Arena;
+import com.example.russianroulette.arena.SeatPool;
 import com.example.russianroulette.config.ConfigManager;
+import com.example.russianroulette.config.ConfigSnapshot;
+import com.example.russianroulette.config.SoundSetting;
+import com.example.russianroulette.engine.ClockTask;
+import com.example.russianroulette.engine.EngineListener;
+import com.example.russianroulette.engine.EngineSettings;
+import com.example.russianroulette.engine.RouletteEngine;
+import com.example.russianroulette.engine.TriggerResult;
+import com.example.russianroulette.metrics.CounterMetric;
+import com.example.russianroulette.metrics.Metrics;
+import com.example.russianroulette.metrics.TimerMetric;
+import com.example.russianroulette.scheduler.Platform;
+import com.example.russianroulette.scheduler.TickScheduler;
+import com.example.russianroulette.scheduler.WorkQueue;
 import org.bukkit.Bukkit;
 import org.bukkit.Location;
 import org.bukkit.World;
 import org.bukkit.entity.ArmorStand;
+import org.bukkit.entity.Entity;
 import org.bukkit.entity.Player;
 import org.bukkit.inventory.ItemStack;
-import org.bukkit.inventory.meta.ItemMeta;
-import org.bukkit.scheduler.BukkitRunnable;
-import org.bukkit.scheduler.BukkitTask;
 
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
 
 /**
  * Represents a single Russian Roulette game session.
+ * The rules live in {@link RouletteEngine}; this class connects them to the server.
+ * A game only runs on the thread of its scheduler: the main thread, or on Folia the thread
+ * of its arena's region. Other threads hand work over with {@link #execute(Runnable)}, and
+ * players are touched on their own thread, which is the game's once they are seated.
  */
 public class Game {
 
+    // Pause between turns
+    private static final long TURN_DELAY_TICKS = 40L;
+
     private final RussianRoulettePlugin plugin;
     private final ConfigManager config;
     private final UUID gameId;
+    private final Arena arena;
+    private final TickScheduler scheduler;
+    private final WorkQueue work;
 
-    private GameState state;
-    private GameMode mode;
-    private Revolver revolver;
-
+    private final RouletteEngine engine;
     private final Map<UUID, PlayerData> players;
-    private final List<UUID> turnOrder;
-    private int currentTurnIndex;
-    private UUID currentTurnPlayer;
-
-    private BukkitTask countdownTask;
-    private BukkitTask turnTimerTask;
-    private int turnTimeRemaining;
-
-    private final boolean reshuffleAfterShot;
+    // Players whose bet is still being taken; they hold a seat until it completes
+    private final Set<UUID> pendingJoins;
 
     // Chair entities for seating players
     private final Map<UUID, ArmorStand> seatEntities;
 
-    // Cinematic intro task
-    private BukkitTask cinematicTask;
+    // Cinematic intro task and the camera everyone watches through
+    private ClockTask cinematicTask;
+    private CinematicCamera camera;
+    // World whose arena chunks this game holds, null if none
+    private World heldWorld;
+
+    // Batched chat and sounds for everyone at the table
+    private final GameAudience audience;
+    private final Metrics metrics;
 
-    public Game(RussianRoulettePlugin plugin) {
+    /**
+     * Create a game.
+     * 
+     * @param plugin    Plugin instance
+     * @param arena     Arena the game is played on, may be null if players aren't teleported
+     * @param scheduler Scheduler whose thread the game runs on
+     * @param work      Queue for the game's teardown, run on the same thread
+     */
+    public Game(RussianRoulettePlugin plugin, Arena arena, TickScheduler scheduler, WorkQueue work) {
         this.plugin = plugin;
         this.config = plugin.getConfigManager();
         this.gameId = UUID.randomUUID();
-        this.state = GameState.WAITING;
-        this.mode = config.getGameMode();
+        this.arena = arena;
+        this.scheduler = scheduler;
+        this.work = work;
         this.players = new ConcurrentHashMap<>();
-        this.turnOrder = new ArrayList<>();
-        this.currentTurnIndex = 0;
-        this.reshuffleAfterShot = config.isReshuffleAfterShot();
+        this.pendingJoins = new HashSet<>();
         this.seatEntities = new HashMap<>();
+        this.metrics = plugin.getMetrics();
+        this.audience = new GameAudience(scheduler, metrics, players.keySet());
+        ConfigSnapshot settings = config.getSnapshot();
+        this.engine = new RouletteEngine(
+                new EngineSettings(
+                        settings.getGameMode(),
+                        settings.getMinPlayers(),
+                        settings.getMaxPlayers(),
+                        settings.getTurnTime(),
+                        settings.getStartCountdown(),
+                        settings.isReshuffleAfterShot(),
+                        TURN_DELAY_TICKS),
+                scheduler,
+                new EngineEvents(),
+                new Random());
     }
 
     /**
-     * Add a player to the game.
+     * Run a task on the game's thread: right away if that's the current thread,
+     * otherwise at the start of the game's next tick. Safe to call from any thread.
      * 
-     * @param player Player to add
-     * @return true if player was added successfully
+     * @param task Task to run
      */
-    public boolean addPlayer(Player player) {
-        if (state != GameState.WAITING) {
-            return false;
-        }
+    public void execute(Runnable task) {
+        scheduler.execute(task);
+    }
 
-        if (players.containsKey(player.getUniqueId())) {
-            return false;
-        }
+    /**
+     * Check if a player could start joining right now.
+     * 
+     * @param playerId Player to check
+     * @return true if the game is waiting and has a free seat
+     */
+    public boolean canJoin(UUID playerId) {
+        return engine.canJoin(playerId)
+                && !pendingJoins.contains(playerId)
+                && players.size() + pendingJoins.size() < engine.getSettings().getMaxPlayers();
+    }
 
-        if (players.size() >= config.getMaxPlayers()) {
-            return false;
-        }
+    /**
+     * Check if a player whose bet was just taken can still take their seat.
+     * 
+     * @param playerId Player to check
+     * @return true if the player is still joining, online, and the game is still waiting
+     */
+    public boolean canCompleteJoin(UUID playerId) {
+        return pendingJoins.contains(playerId)
+                && engine.canJoin(playerId)
+                && Bukkit.getPlayer(playerId) != null;
+    }
 
-        // Take bet before adding player
-        if (!plugin.getRewardManager().takeBet(player, this)) {
-            return false; // Bet failed (insufficient funds/items)
+    /**
+     * Add a player to the game once their bet is taken.
+     * The seat is held while the bet is in flight.
+     * 
+     * @param player   Player to add
+     * @param callback Called on the game's thread with true if the player joined
+     */
+    public void addPlayer(Player player, Consumer<Boolean> callback) {
+        UUID playerId = player.getUniqueId();
+        if (!canJoin(playerId)) {
+            callback.accept(false);
+            return;
         }
 
+        // Take bet before adding player; the stake is returned if the seat was lost meanwhile
+        pendingJoins.add(playerId);
+        plugin.getRewardManager().takeBet(player, this, taken -> {
+            boolean joined = taken && canCompleteJoin(playerId);
+            pendingJoins.remove(playerId);
+            if (joined) {
+                join(Bukkit.getPlayer(playerId));
+            }
+            callback.accept(joined);
+            return joined;
+        });
+    }
+
+    private void join(Player player) {
+        long start = System.nanoTime();
         PlayerData data = new PlayerData(player);
         data.setTurnPosition(players.size());
         players.put(player.getUniqueId(), data);
-        turnOrder.add(player.getUniqueId());
+        engine.addPlayer(player.getUniqueId());
 
         // Broadcast join message
-        broadcastMessage(config.getMessage("playerJoined")
-                .replace("%player%", player.getName())
-                .replace("%players%", String.valueOf(players.size()))
-                .replace("%max%", String.valueOf(config.getMaxPlayers())));
-
-        return true;
+        broadcastMessage(config.getMessage("playerJoined",
+                "player", player.getName(),
+                "players", players.size(),
+                "max", config.getMaxPlayers()));
+        metrics.observeSince(TimerMetric.GAME_JOIN, start);
     }
 
     /**
@@ -104,54 +185,73 @@ public class Game {
      * @return true if player was removed
      */
     public boolean removePlayer(Player player, boolean forced) {
+        long start = System.nanoTime();
+        boolean removed = leave(player, forced);
+        if (removed) {
+            metrics.observeSince(TimerMetric.GAME_LEAVE, start);
+        }
+        return removed;
+    }
+
+    private boolean leave(Player player, boolean forced) {
         UUID playerId = player.getUniqueId();
 
         if (!players.containsKey(playerId)) {
             return false;
         }
 
+        // The game is already being torn down, just do this player's part now
+        if (getState() == GameState.ENDED) {
+            teardownPlayer(player, players.remove(playerId));
+            return true;
+        }
+
         // Check if it's their turn and not forced
-        if (state == GameState.IN_PROGRESS &&
-                currentTurnPlayer != null &&
-                currentTurnPlayer.equals(playerId) &&
-                !forced) {
+        if (getState() == GameState.IN_PROGRESS && engine.isPlayerTurn(playerId) && !forced) {
             player.sendMessage(config.getMessage("cannotLeaveDuringTurn"));
             return false;
         }
 
+        // Deliver anything queued while they were still at the table
+        audience.flush();
         PlayerData data = players.remove(playerId);
-        turnOrder.remove(playerId);
+
+        // Walking away from a running game ends the win streak
+        if (getState() == GameState.IN_PROGRESS && data != null && data.isAlive()) {
+            plugin.getStatsManager().recordLoss(playerId, player.getName());
+        }
 
         // Return player's inventory to normal
-        player.getInventory().remove(getRevolverItem());
+        int revolverSlot = takeRevolverSlot(data);
 
         // Teleport back if needed
-        if (config.isTeleportToArena() && data != null) {
-            player.teleport(data.getOriginalLocation());
+        boolean teleportBack = config.isTeleportToArena() && data != null;
+        if (teleportBack) {
+            unseatPlayer(player);
         }
 
+        Platform.runFor(plugin, player, () -> {
+            plugin.getRevolverItem().take(player, revolverSlot);
+            if (teleportBack) {
+                // Forced means logging out or respawning, no time to wait for the chunk
+                sendBack(player, data, forced);
+            }
+        });
+
         // Remove scoreboard
-        plugin.getScoreboardManager().removeScoreboard(player);
+        plugin.getScoreboardManager().removeScoreboard(gameId, player);
 
         if (forced) {
-            broadcastMessage(config.getMessage("disconnectedDeath")
-                    .replace("%player%", player.getName()));
+            broadcastMessage(config.getMessage("disconnectedDeath", "player", player.getName()));
         } else {
-            broadcastMessage(config.getMessage("playerLeft")
-                    .replace("%player%", player.getName())
-                    .replace("%players%", String.valueOf(players.size()))
-                    .replace("%max%", String.valueOf(config.getMaxPlayers())));
+            broadcastMessage(config.getMessage("playerLeft",
+                    "player", player.getName(),
+                    "players", players.size(),
+                    "max", config.getMaxPlayers()));
         }
 
-        // Check if game should continue
-        if (state == GameState.IN_PROGRESS) {
-            checkForWinner();
-
-            // If current turn player left, move to next
-            if (currentTurnPlayer != null && currentTurnPlayer.equals(playerId)) {
-                nextTurn();
-            }
-        }
+        // Let the engine decide whether the game goes on
+        engine.removePlayer(playerId);
 
         return true;
     }
@@ -162,50 +262,21 @@ public class Game {
      * @return true if game started successfully
      */
     public boolean start() {
-        if (state != GameState.WAITING) {
+        long start = System.nanoTime();
+        if (!engine.start()) {
             return false;
         }
 
-        if (players.size() < config.getMinPlayers()) {
-            return false;
-        }
-
-        state = GameState.STARTING;
-
-        // Initialize revolver
-        revolver = new Revolver(mode.getBulletCount());
-
         // Teleport players if configured
         if (config.isTeleportToArena()) {
+            holdArenaChunks();
             teleportPlayersToArena();
         }
 
         // Give revolver items to players
         giveRevolverItems();
 
-        // Start countdown
-        final int countdown = config.getStartCountdown();
-        countdownTask = new BukkitRunnable() {
-            int timeLeft = countdown;
-
-            @Override
-            public void run() {
-                if (timeLeft <= 0) {
-                    beginGame();
-                    cancel();
-                    return;
-                }
-
-                broadcastMessage(config.getMessage("gameStarting")
-                        .replace("%time%", String.valueOf(timeLeft)));
-
-                // Play countdown sound
-                playSound("gameStart");
-
-                timeLeft--;
-            }
-        }.runTaskTimer(plugin, 0L, 20L);
-
+        metrics.observeSince(TimerMetric.GAME_START, start);
         return true;
     }
 
@@ -213,14 +284,13 @@ public class Game {
      * Begin the actual game after countdown.
      */
     private void beginGame() {
-        state = GameState.IN_PROGRESS;
-
+        metrics.increment(CounterMetric.GAMES_STARTED);
         broadcastMessage(config.getMessage("gameStarted"));
         playSound("gameStart");
 
-        // Shuffle turn order
-        Collections.shuffle(turnOrder);
-        currentTurnIndex = 0;
+        for (UUID playerId : players.keySet()) {
+            plugin.getStatsManager().recordGamePlayed(playerId, getPlayerName(playerId));
+        }
 
         // Setup scoreboards
         updateScoreboards();
@@ -233,129 +303,116 @@ public class Game {
      * Play cinematic camera intro showing all players around the table.
      */
     private void playCinematicIntro() {
-        if (!config.isTeleportToArena() || players.size() < 2) {
+        if (!config.isTeleportToArena() || arena == null || players.size() < 2) {
             // Skip cinematic if not in arena or too few players
-            startTurn();
+            engine.startTurn();
             return;
         }
 
-        World world = Bukkit.getWorld(config.getArenaWorld());
+        World world = arena.getWorld();
         if (world == null) {
-            startTurn();
+            engine.startTurn();
             return;
         }
 
-        double centerX = config.getArenaCenterX();
-        double centerY = config.getArenaCenterY();
-        double centerZ = config.getArenaCenterZ();
-        double radius = 5; // Camera orbit radius around table
-
         // Store original game modes and set to spectator for cinematic
         Map<UUID, org.bukkit.GameMode> originalModes = new HashMap<>();
         List<UUID> playerList = new ArrayList<>(players.keySet());
 
+        final int totalSteps = playerList.size() * 20 + 40; // 1 second per player + 2 sec intro/outro
+        final int stepsPerPlayer = 20;
+
+        // One camera orbits the table and everyone watches through it
+        camera = new CinematicCamera(world, arena.getCenterX(), arena.getCenterY(), arena.getCenterZ(), totalSteps);
+        camera.spawn();
+
         for (UUID playerId : playerList) {
             Player player = Bukkit.getPlayer(playerId);
             if (player != null) {
                 originalModes.put(playerId, player.getGameMode());
-                player.setGameMode(org.bukkit.GameMode.SPECTATOR);
+                CinematicCamera intro = camera;
+                Platform.runFor(plugin, player, () -> {
+                    player.setGameMode(org.bukkit.GameMode.SPECTATOR);
+                    intro.attach(player);
+                });
             }
         }
 
-        // Cinematic camera rotation
-        final int[] step = { 0 };
-        final int totalSteps = playerList.size() * 20 + 40; // 1 second per player + 2 sec intro/outro
-        final int stepsPerPlayer = 20;
-
-        cinematicTask = new BukkitRunnable() {
-            @Override
-            public void run() {
-                if (step[0] >= totalSteps || state != GameState.IN_PROGRESS) {
-                    // End cinematic
-                    cancel();
-                    endCinematic(originalModes);
-                    return;
-                }
-
-                // Calculate camera position orbiting around center
-                double angle = (2 * Math.PI * step[0]) / totalSteps;
-                double camX = centerX + radius * Math.cos(angle);
-                double camZ = centerZ + radius * Math.sin(angle);
-                double camY = centerY + 2; // Slightly above table level
-
-                Location camLoc = new Location(world, camX, camY, camZ);
-                // Face the center of the table
-                camLoc.setYaw((float) Math.toDegrees(Math.atan2(centerZ - camZ, centerX - camX)) - 90);
-                camLoc.setPitch(15); // Look slightly down at table
-
-                // Move all players' cameras
-                for (UUID playerId : playerList) {
-                    Player player = Bukkit.getPlayer(playerId);
-                    if (player != null && player.isOnline()) {
-                        player.teleport(camLoc);
-                    }
-                }
+        cinematicTask = scheduler.scheduleRepeating("cinematic", 20L, 1L, () -> {
+            int step = camera.getStep();
+            if (getState() != GameState.IN_PROGRESS || !camera.advance()) {
+                // End cinematic
+                cinematicTask.cancel();
+                endCinematic(originalModes);
+                return;
+            }
 
-                // Show player introductions
-                int playerIndex = (step[0] - 20) / stepsPerPlayer;
-                int stepInPlayer = (step[0] - 20) % stepsPerPlayer;
+            // Show player introductions
+            int playerIndex = (step - 20) / stepsPerPlayer;
+            int stepInPlayer = (step - 20) % stepsPerPlayer;
 
-                if (playerIndex >= 0 && playerIndex < playerList.size() && stepInPlayer == 0) {
-                    Player featured = Bukkit.getPlayer(playerList.get(playerIndex));
-                    if (featured != null) {
-                        broadcastMessage(config.getMessage("playerIntro")
-                                .replace("%player%", featured.getName())
-                                .replace("%number%", String.valueOf(playerIndex + 1)));
-                    }
+            if (playerIndex >= 0 && playerIndex < playerList.size() && stepInPlayer == 0) {
+                Player featured = Bukkit.getPlayer(playerList.get(playerIndex));
+                if (featured != null) {
+                    broadcastMessage(config.getMessage("playerIntro",
+                            "player", featured.getName(),
+                            "number", playerIndex + 1));
                 }
-
-                step[0]++;
             }
-        }.runTaskTimer(plugin, 20L, 1L); // Start after 1 second, run every tick
+        }); // Start after 1 second, run every tick
     }
 
     /**
      * End cinematic and restore players to their seats.
      */
     private void endCinematic(Map<UUID, org.bukkit.GameMode> originalModes) {
-        // Restore game modes and teleport back to seats
-        for (UUID playerId : players.keySet()) {
+        // Drop the camera first so leaving spectator mode isn't blocked
+        CinematicCamera finished = camera;
+        camera = null;
+
+        // Restore game modes
+        for (UUID playerId : originalModes.keySet()) {
             Player player = Bukkit.getPlayer(playerId);
             if (player != null && player.isOnline()) {
-                // Restore game mode
                 org.bukkit.GameMode original = originalModes.getOrDefault(playerId, org.bukkit.GameMode.SURVIVAL);
-                player.setGameMode(original);
+                Platform.runFor(plugin, player, () -> player.setGameMode(original));
             }
         }
+        finished.remove();
+
+        // The game ended during the intro, the teardown puts everyone back
+        if (getState() != GameState.IN_PROGRESS) {
+            return;
+        }
 
         // Re-teleport and re-seat players
         teleportPlayersToArena();
 
         // Now start the actual game
         broadcastMessage(config.getMessage("cinematicEnd"));
-        startTurn();
+        engine.startTurn();
     }
 
     /**
-     * Start the current player's turn.
+     * Check if an entity is the camera of this game's intro.
+     * 
+     * @param entity Entity to check
+     * @return true while the intro is playing through that entity
      */
-    private void startTurn() {
-        if (turnOrder.isEmpty()) {
-            endGame();
-            return;
-        }
-
-        currentTurnPlayer = turnOrder.get(currentTurnIndex);
-        Player player = Bukkit.getPlayer(currentTurnPlayer);
+    public boolean isCinematicCamera(Entity entity) {
+        return camera != null && camera.is(entity);
+    }
 
-        if (player == null || !player.isOnline()) {
-            // Player disconnected, eliminate and move on
-            eliminatePlayer(currentTurnPlayer, true);
-            return;
-        }
+    /**
+     * Start the current player's turn.
+     * 
+     * @param player The player whose turn it is
+     */
+    private void startTurn(Player player) {
+        metrics.increment(CounterMetric.TURNS);
 
         // Notify current player
-        player.sendMessage(config.getMessage("yourTurn"));
+        audience.sendMessage(player.getUniqueId(), config.getMessage("yourTurn"));
 
         // Show title
         player.sendTitle(
@@ -367,70 +424,34 @@ public class Game {
         playSound("turnStart", player);
 
         // Tell player to right-click the gun (no auto GUI)
-        player.sendMessage(config.getMessage("rightClickToShoot"));
+        audience.sendMessage(player.getUniqueId(), config.getMessage("rightClickToShoot"));
 
         // Broadcast to others
-        for (UUID otherId : players.keySet()) {
-            if (!otherId.equals(currentTurnPlayer)) {
-                Player other = Bukkit.getPlayer(otherId);
-                if (other != null) {
-                    other.sendMessage(config.getMessage("playerTurn")
-                            .replace("%turn%", player.getName()));
-                }
-            }
-        }
+        audience.sendMessageExcept(player.getUniqueId(),
+                config.getMessage("playerTurn", "turn", player.getName()));
 
         // Update scoreboards
         updateScoreboards();
-
-        // Start turn timer
-        turnTimeRemaining = config.getTurnTime();
-        startTurnTimer();
     }
 
     /**
-     * Start the turn timer task.
+     * Called every second of a turn.
+     * 
+     * @param playerId      Player whose turn it is
+     * @param timeRemaining Seconds left
      */
-    private void startTurnTimer() {
-        if (turnTimerTask != null) {
-            turnTimerTask.cancel();
-        }
-
-        turnTimerTask = new BukkitRunnable() {
-            @Override
-            public void run() {
-                if (state != GameState.IN_PROGRESS || currentTurnPlayer == null) {
-                    cancel();
-                    return;
-                }
-
-                turnTimeRemaining--;
-
-                // Update scoreboards with time
-                updateScoreboards();
-
-                // Play tick sound in last 5 seconds
-                if (turnTimeRemaining <= 5 && turnTimeRemaining > 0) {
-                    Player player = Bukkit.getPlayer(currentTurnPlayer);
-                    if (player != null) {
-                        playSound("timerTick", player);
-                        player.sendMessage(config.getMessage("turnTimer")
-                                .replace("%time%", String.valueOf(turnTimeRemaining)));
-                    }
-                }
+    private void tickTurnTimer(UUID playerId, int timeRemaining) {
+        // Update scoreboards with time
+        updateScoreboards();
 
-                // Time's up - auto pull trigger
-                if (turnTimeRemaining <= 0) {
-                    cancel();
-                    Player player = Bukkit.getPlayer(currentTurnPlayer);
-                    if (player != null) {
-                        broadcastMessage(config.getMessage("autoTriggerPull")
-                                .replace("%player%", player.getName()));
-                        pullTrigger(player);
-                    }
-                }
+        // Play tick sound in last 5 seconds
+        if (timeRemaining <= 5 && timeRemaining > 0) {
+            Player player = Bukkit.getPlayer(playerId);
+            if (player != null) {
+                playSound("timerTick", player);
+                audience.sendMessage(playerId, config.getMessage("turnTimer", "time", timeRemaining));
             }
-        }.runTaskTimer(plugin, 20L, 20L);
+        }
     }
 
     /**
@@ -439,85 +460,64 @@ public class Game {
      * @param player The player pulling the trigger
      */
     public void pullTrigger(Player player) {
-        if (state != GameState.IN_PROGRESS) {
-            return;
-        }
-
-        if (!player.getUniqueId().equals(currentTurnPlayer)) {
+        long start = System.nanoTime();
+        TriggerResult result = engine.pullTrigger(player.getUniqueId());
+        if (result == TriggerResult.NOT_YOUR_TURN) {
             player.sendMessage(config.getMessage("notYourTurn"));
-            return;
-        }
-
-        // Cancel turn timer
-        if (turnTimerTask != null) {
-            turnTimerTask.cancel();
-            turnTimerTask = null;
-        }
-
-        // Close GUI
-        player.closeInventory();
-
-        // Pull trigger on revolver
-        boolean hit = revolver.pullTrigger();
-
-        if (hit) {
-            // Player dies
-            handleDeath(player);
-        } else {
-            // Player survives
-            handleSurvival(player);
+        } else if (result != TriggerResult.NOT_IN_PROGRESS) {
+            // Includes effects, elimination and, on the last shot, the winner and the game's end
+            metrics.observeSince(TimerMetric.TRIGGER, start);
         }
     }
 
     /**
      * Handle a player's death.
      * 
-     * @param player The player who died
+     * @param playerId The player who died
      */
-    private void handleDeath(Player player) {
-        // Play effects
-        plugin.getEffectsManager().playDeathEffects(player);
-
-        // Broadcast death
-        broadcastMessage(config.getMessage("playerDied")
-                .replace("%player%", player.getName()));
-
-        // Eliminate player
-        eliminatePlayer(player.getUniqueId(), false);
+    private void handleDeath(UUID playerId) {
+        Player player = Bukkit.getPlayer(playerId);
+        if (player != null) {
+            // Close GUI
+            Platform.runFor(plugin, player, player::closeInventory);
 
-        // Reshuffle if configured
-        if (reshuffleAfterShot && revolver.hasBullets()) {
-            revolver.shuffle();
+            // Play effects
+            plugin.getEffectsManager().playDeathEffects(player, scheduler);
         }
 
-        // Check for winner
-        if (!checkForWinner()) {
-            // Continue to next turn
-            nextTurn();
-        }
+        plugin.getStatsManager().recordDeath(playerId, getPlayerName(playerId));
+
+        // Broadcast death
+        broadcastMessage(config.getMessage("playerDied", "player", getPlayerName(playerId)));
     }
 
     /**
      * Handle a player's survival.
      * 
-     * @param player The player who survived
+     * @param playerId The player who survived
      */
-    private void handleSurvival(Player player) {
-        // Play effects
-        plugin.getEffectsManager().playSurvivalEffects(player);
+    private void handleSurvival(UUID playerId) {
+        Player player = Bukkit.getPlayer(playerId);
+        if (player != null) {
+            // Close GUI
+            Platform.runFor(plugin, player, player::closeInventory);
+
+            // Play effects
+            plugin.getEffectsManager().playSurvivalEffects(player);
+        }
+
+        plugin.getStatsManager().recordSurvival(playerId, getPlayerName(playerId));
 
         // Broadcast survival
-        broadcastMessage(config.getMessage("playerSurvived")
-                .replace("%player%", player.getName()));
+        broadcastMessage(config.getMessage("playerSurvived", "player", getPlayerName(playerId)));
 
         // Show title
-        player.sendTitle(
-                config.getRawMessage("survivedTitle"),
-                config.getRawMessage("survivedSubtitle"),
-                5, 30, 10);
-
-        // Continue to next turn
-        nextTurn();
+        if (player != null) {
+            player.sendTitle(
+                    config.getRawMessage("survivedTitle"),
+                    config.getRawMessage("survivedSubtitle"),
+                    5, 30, 10);
+        }
     }
 
     /**
@@ -532,70 +532,31 @@ public class Game {
             data.setAlive(false);
         }
 
-        turnOrder.remove(playerId);
+        if (disconnected) {
+            plugin.getStatsManager().recordLoss(playerId, getPlayerName(playerId));
+        }
 
         Player player = Bukkit.getPlayer(playerId);
         if (player != null && player.isOnline()) {
             // Remove revolver
-            player.getInventory().remove(getRevolverItem().getType());
+            int revolverSlot = takeRevolverSlot(data);
 
             // Teleport back if needed
-            if (config.isTeleportToArena() && data != null) {
-                player.teleport(data.getOriginalLocation());
+            boolean teleportBack = config.isTeleportToArena() && data != null;
+            if (teleportBack) {
+                unseatPlayer(player);
             }
 
-            // Remove scoreboard
-            plugin.getScoreboardManager().removeScoreboard(player);
-        }
-
-        // Adjust turn index if needed
-        if (currentTurnIndex >= turnOrder.size() && !turnOrder.isEmpty()) {
-            currentTurnIndex = 0;
-        }
-    }
-
-    /**
-     * Move to the next player's turn.
-     */
-    private void nextTurn() {
-        if (turnOrder.isEmpty()) {
-            endGame();
-            return;
-        }
-
-        currentTurnIndex = (currentTurnIndex + 1) % turnOrder.size();
-
-        // Small delay before next turn
-        new BukkitRunnable() {
-            @Override
-            public void run() {
-                if (state == GameState.IN_PROGRESS) {
-                    startTurn();
+            Platform.runFor(plugin, player, () -> {
+                plugin.getRevolverItem().take(player, revolverSlot);
+                if (teleportBack) {
+                    sendBack(player, data, disconnected);
                 }
-            }
-        }.runTaskLater(plugin, 40L); // 2 second delay
-    }
-
-    /**
-     * Check if there's a winner.
-     * 
-     * @return true if game ended with a winner
-     */
-    private boolean checkForWinner() {
-        List<UUID> alivePlayers = getAlivePlayers();
+            });
 
-        if (alivePlayers.size() <= 1) {
-            if (alivePlayers.size() == 1) {
-                // We have a winner!
-                UUID winnerId = alivePlayers.get(0);
-                Player winner = Bukkit.getPlayer(winnerId);
-                declareWinner(winner);
-            }
-            endGame();
-            return true;
+            // Remove scoreboard
+            plugin.getScoreboardManager().removeScoreboard(gameId, player);
         }
-
-        return false;
     }
 
     /**
@@ -613,68 +574,125 @@ public class Game {
                 config.getRawMessage("winSubtitle"),
                 10, 70, 20);
 
-        winner.sendMessage(config.getMessage("youWin"));
+        audience.sendMessage(winner.getUniqueId(), config.getMessage("youWin"));
 
         // Broadcast winner
-        broadcastMessage(config.getMessage("winnerAnnouncement")
-                .replace("%winner%", winner.getName()));
+        broadcastMessage(config.getMessage("winnerAnnouncement", "winner", winner.getName()));
 
         // Give winnings from pot
         plugin.getRewardManager().giveWinnings(winner, this);
+
+        // Play winner effects
+        if (config.isBettingEnabled()) {
+            plugin.getEffectsManager().playWinnerEffects(winner, scheduler);
+        }
     }
 
     /**
      * End the game.
      */
     public void endGame() {
-        state = GameState.ENDED;
+        engine.end();
+    }
 
-        // Cancel all tasks
-        if (countdownTask != null) {
-            countdownTask.cancel();
-            countdownTask = null;
-        }
-        if (turnTimerTask != null) {
-            turnTimerTask.cancel();
-            turnTimerTask = null;
-        }
+    /**
+     * Clean up players and entities once the engine has ended the game.
+     * The side effects go through the game's work queue, so ending many tables
+     * at once is spread over several ticks; the game is removed after the last step.
+     */
+    private void cleanup() {
+        metrics.increment(CounterMetric.GAMES_ENDED);
 
         // Save player IDs before clearing (for GameManager cleanup)
         Set<UUID> playerIds = new HashSet<>(players.keySet());
 
-        // Clean up all players
+        broadcastMessage(config.getMessage("gameEnded"));
+        audience.flush();
+
+        // Clean up all players, unless they already left while waiting for their turn
         for (UUID playerId : playerIds) {
-            Player player = Bukkit.getPlayer(playerId);
-            if (player != null && player.isOnline()) {
-                // Remove revolver
-                player.getInventory().remove(getRevolverItem().getType());
-
-                // Close any open GUIs
-                player.closeInventory();
-
-                // Teleport back
-                PlayerData data = players.get(playerId);
-                if (config.isTeleportToArena() && data != null) {
-                    // Unseat player first
-                    unseatPlayer(player);
-                    player.teleport(data.getOriginalLocation());
+            work.add(() -> {
+                PlayerData data = players.remove(playerId);
+                Player player = Bukkit.getPlayer(playerId);
+                if (data != null && player != null && player.isOnline()) {
+                    teardownPlayer(player, data);
                 }
+            });
+        }
+
+        work.add(() -> {
+            // Drop the game's sidebar
+            plugin.getScoreboardManager().removeSidebar(gameId);
+
+            // Clean up all seat entities
+            cleanupSeats();
 
-                // Remove scoreboard
-                plugin.getScoreboardManager().removeScoreboard(player);
+            // The table's chunks may unload again
+            if (heldWorld != null) {
+                plugin.getArenaManager().getChunks().release(arena, heldWorld);
+                heldWorld = null;
             }
+
+            players.clear();
+
+            plugin.getTickScheduler().execute(() -> {
+                // Settle whatever is left of the pot, e.g. when the winner left before being paid
+                plugin.getRewardManager().closePot(this);
+
+                // Remove from game manager (pass player IDs for cleanup)
+                plugin.getGameManager().removeGame(this, playerIds);
+            });
+
+            // A game with a scheduler of its own is done with it
+            if (scheduler != plugin.getTickScheduler()) {
+                scheduler.stop();
+            }
+        });
+    }
+
+    /**
+     * Give a player back their inventory, position and scoreboard after the game ended.
+     */
+    private void teardownPlayer(Player player, PlayerData data) {
+        // Remove revolver
+        int revolverSlot = takeRevolverSlot(data);
+
+        // Teleport back
+        boolean teleportBack = config.isTeleportToArena() && data.isAlive();
+        if (teleportBack) {
+            // Unseat player first
+            unseatPlayer(player);
         }
 
-        // Clean up all seat entities
-        cleanupSeats();
+        Platform.runFor(plugin, player, () -> {
+            plugin.getRevolverItem().take(player, revolverSlot);
 
-        players.clear();
-        turnOrder.clear();
+            // Close any open GUIs
+            player.closeInventory();
 
-        broadcastMessage(config.getMessage("gameEnded"));
+            if (teleportBack) {
+                sendBack(player, data, false);
+            }
+        });
+
+        // Remove scoreboard
+        plugin.getScoreboardManager().removeScoreboard(gameId, player);
+    }
 
-        // Remove from game manager (pass player IDs for cleanup)
-        plugin.getGameManager().removeGame(this, playerIds);
+    /**
+     * Send a player back to where they were before the game. Call on the player's thread.
+     * 
+     * @param player  Player to move
+     * @param data    The player's game data
+     * @param leaving Whether the player is logging out; also assumed while the plugin shuts down,
+     *                since the server no longer ticks and an asynchronous teleport would never finish
+     */
+    private void sendBack(Player player, PlayerData data, boolean leaving) {
+        if (leaving || plugin.getGameManager().isShuttingDown()) {
+            Platform.teleportNow(player, data.getOriginalLocation());
+        } else {
+            Platform.teleportAsync(player, data.getOriginalLocation());
+        }
     }
 
     /**
@@ -687,33 +705,58 @@ public class Game {
         endGame();
     }
 
+    /**
+     * Load the table in the background during the countdown and keep it loaded until
+     * the game is cleaned up. Taken once per game, released in {@link #cleanup()}.
+     */
+    private void holdArenaChunks() {
+        if (arena == null || heldWorld != null) {
+            return;
+        }
+
+        World world = arena.getWorld();
+        if (world != null) {
+            heldWorld = world;
+            plugin.getArenaManager().getChunks().hold(arena, world);
+        }
+    }
+
     /**
      * Teleport all players to their assigned seats.
+     * Their chunks load in the background; each player is seated on arrival.
      */
     private void teleportPlayersToArena() {
-        World world = Bukkit.getWorld(config.getArenaWorld());
+        if (arena == null)
+            return;
+
+        World world = arena.getWorld();
         if (world == null)
             return;
 
-        java.util.List<double[]> seats = config.getSeatLocations();
-        if (seats.isEmpty()) {
-            plugin.getLogger().warning("No seat locations configured!");
+        if (arena.getSeatCount() == 0) {
+            plugin.getLogger().warning("No seat locations configured for arena " + arena.getName() + "!");
             return;
         }
 
         int seatIndex = 0;
         for (UUID playerId : players.keySet()) {
             Player player = Bukkit.getPlayer(playerId);
-            if (player != null && seatIndex < seats.size()) {
-                double[] seatData = seats.get(seatIndex);
-                Location loc = new Location(world, seatData[0], seatData[1], seatData[2]);
-                loc.setYaw((float) seatData[3]);
-                loc.setPitch(0);
-
-                player.teleport(loc);
-
-                // Seat the player in an invisible chair
-                seatPlayer(player, loc);
+            if (player != null && seatIndex < arena.getSeatCount()) {
+                Location loc = arena.getSeatLocation(world, seatIndex);
+                int seat = seatIndex;
+
+                // A seated player can't be teleported
+                unseatPlayer(player);
+                Platform.runFor(plugin, player, () -> Platform.teleportAsync(player, loc).thenAccept(moved -> {
+                    // Seat the player in an invisible chair, unless they left while on the way
+                    if (moved) {
+                        execute(() -> {
+                            if (players.containsKey(playerId) && getState() != GameState.ENDED) {
+                                seatPlayer(player, world, seat);
+                            }
+                        });
+                    }
+                }));
 
                 seatIndex++;
             }
@@ -721,22 +764,10 @@ public class Game {
     }
 
     /**
-     * Seat a player in an invisible armor stand (chair).
+     * Seat a player in their arena seat, an invisible armor stand (chair) borrowed from the seat pool.
      */
-    private void seatPlayer(Player player, Location location) {
-        // Create invisible armor stand as seat
-        ArmorStand seat = location.getWorld().spawn(
-                location.clone().subtract(0, 0.7, 0), // Lower so player appears seated
-                ArmorStand.class,
-                armorStand -> {
-                    armorStand.setVisible(false);
-                    armorStand.setGravity(false);
-                    armorStand.setInvulnerable(true);
-                    armorStand.setSmall(true);
-                    armorStand.setMarker(true);
-                    armorStand.setCustomName("RR_Seat_" + player.getUniqueId());
-                    armorStand.setCustomNameVisible(false);
-                });
+    private void seatPlayer(Player player, World world, int seatIndex) {
+        ArmorStand seat = plugin.getArenaManager().getSeatPool().borrow(arena, world, seatIndex);
 
         // Make player sit on it
         seat.addPassenger(player);
@@ -744,25 +775,19 @@ public class Game {
     }
 
     /**
-     * Unseat a player and remove their chair entity.
+     * Unseat a player and return their chair to the pool.
      */
     private void unseatPlayer(Player player) {
-        ArmorStand seat = seatEntities.remove(player.getUniqueId());
-        if (seat != null && !seat.isDead()) {
-            seat.eject();
-            seat.remove();
-        }
+        plugin.getArenaManager().getSeatPool().release(seatEntities.remove(player.getUniqueId()));
     }
 
     /**
-     * Clean up all seat entities.
+     * Return all seats to the pool.
      */
     private void cleanupSeats() {
+        SeatPool seatPool = plugin.getArenaManager().getSeatPool();
         for (ArmorStand seat : seatEntities.values()) {
-            if (seat != null && !seat.isDead()) {
-                seat.eject();
-                seat.remove();
-            }
+            seatPool.release(seat);
         }
         seatEntities.clear();
     }
@@ -771,32 +796,38 @@ public class Game {
      * Give revolver items to all players.
      */
     private void giveRevolverItems() {
-        ItemStack revolver = getRevolverItem();
-
-        for (UUID playerId : players.keySet()) {
-            Player player = Bukkit.getPlayer(playerId);
+        for (PlayerData data : players.values()) {
+            Player player = Bukkit.getPlayer(data.getPlayerId());
             if (player != null) {
-                player.getInventory().addItem(revolver.clone());
+                Platform.runFor(plugin, player, () -> {
+                    int slot = plugin.getRevolverItem().give(player);
+                    execute(() -> data.setRevolverSlot(slot));
+                });
             }
         }
     }
 
+    /**
+     * Forget the slot a player's revolver was given in, to take it away.
+     * 
+     * @return Slot to look in first, or -1 if unknown
+     */
+    private int takeRevolverSlot(PlayerData data) {
+        if (data == null) {
+            return -1;
+        }
+        int slot = data.getRevolverSlot();
+        data.setRevolverSlot(-1);
+        return slot;
+    }
+
     /**
      * Get the revolver item.
      * 
      * @return ItemStack representing the revolver
      */
     public ItemStack getRevolverItem() {
-        ItemStack item = new ItemStack(config.getRevolverMaterial());
-        ItemMeta meta = item.getItemMeta();
-
-        if (meta != null) {
-            meta.setDisplayName(config.getRevolverName());
-            meta.setLore(config.getRevolverLore());
-            item.setItemMeta(meta);
-        }
-
-        return item;
+        return plugin.getRevolverItem().getPrototype().clone();
     }
 
     /**
@@ -806,7 +837,11 @@ public class Game {
         if (!config.isScoreboardEnabled())
             return;
 
+        long start = System.nanoTime();
+        metrics.increment(CounterMetric.SCOREBOARD_UPDATES);
+
         String turnPlayerName = "N/A";
+        UUID currentTurnPlayer = engine.getCurrentTurnPlayer();
         if (currentTurnPlayer != null) {
             Player turnPlayer = Bukkit.getPlayer(currentTurnPlayer);
             if (turnPlayer != null) {
@@ -814,18 +849,16 @@ public class Game {
             }
         }
 
-        for (UUID playerId : players.keySet()) {
-            Player player = Bukkit.getPlayer(playerId);
-            if (player != null) {
-                plugin.getScoreboardManager().updateScoreboard(
-                        player,
-                        getAlivePlayers().size(),
-                        revolver != null ? revolver.getBulletsRemaining() : mode.getBulletCount(),
-                        turnPlayerName,
-                        state.name(),
-                        turnTimeRemaining);
-            }
-        }
+        Revolver revolver = engine.getRevolver();
+        plugin.getScoreboardManager().updateScoreboard(
+                gameId,
+                players.keySet(),
+                engine.getAliveCount(),
+                revolver != null ? revolver.getBulletsRemaining() : getMode().getBulletCount(),
+                turnPlayerName,
+                getState().name(),
+                engine.getTurnTimeRemaining());
+        metrics.observeSince(TimerMetric.GAME_SCOREBOARD, start);
     }
 
     /**
@@ -834,12 +867,7 @@ public class Game {
      * @param message Message to broadcast
      */
     private void broadcastMessage(String message) {
-        for (UUID playerId : players.keySet()) {
-            Player player = Bukkit.getPlayer(playerId);
-            if (player != null) {
-                player.sendMessage(message);
-            }
-        }
+        audience.sendMessage(message);
     }
 
     /**
@@ -848,12 +876,7 @@ public class Game {
      * @param soundKey Config key for the sound
      */
     private void playSound(String soundKey) {
-        for (UUID playerId : players.keySet()) {
-            Player player = Bukkit.getPlayer(playerId);
-            if (player != null) {
-                playSound(soundKey, player);
-            }
-        }
+        audience.playSound(config.getSoundSetting(soundKey));
     }
 
     /**
@@ -863,11 +886,24 @@ public class Game {
      * @param player   Player to play sound to
      */
     private void playSound(String soundKey, Player player) {
+        SoundSetting sound = config.getSoundSetting(soundKey);
         player.playSound(
                 player.getLocation(),
-                config.getSound(soundKey),
-                config.getSoundVolume(soundKey),
-                config.getSoundPitch(soundKey));
+                sound.getSound(),
+                sound.getVolume(),
+                sound.getPitch());
+    }
+
+    /**
+     * Get the display name of a player in this game, online or not.
+     */
+    private String getPlayerName(UUID playerId) {
+        Player player = Bukkit.getPlayer(playerId);
+        if (player != null) {
+            return player.getName();
+        }
+        PlayerData data = players.get(playerId);
+        return data != null ? data.getPlayerName() : "?";
     }
 
     /**
@@ -876,7 +912,7 @@ public class Game {
      * @return List of alive player UUIDs
      */
     public List<UUID> getAlivePlayers() {
-        return new ArrayList<>(turnOrder);
+        return engine.getAlivePlayers();
     }
 
     // Getters
@@ -885,11 +921,15 @@ public class Game {
     }
 
     public GameState getState() {
-        return state;
+        return engine.getState();
+    }
+
+    public Arena getArena() {
+        return arena;
     }
 
     public GameMode getMode() {
-        return mode;
+        return engine.getSettings().getMode();
     }
 
     public Map<UUID, PlayerData> getPlayers() {
@@ -901,11 +941,11 @@ public class Game {
     }
 
     public UUID getCurrentTurnPlayer() {
-        return currentTurnPlayer;
+        return engine.getCurrentTurnPlayer();
     }
 
     public Revolver getRevolver() {
-        return revolver;
+        return engine.getRevolver();
     }
 
     public boolean hasPlayer(UUID playerId) {
@@ -913,6 +953,126 @@ public class Game {
     }
 
     public boolean isPlayerTurn(UUID playerId) {
-        return currentTurnPlayer != null && currentTurnPlayer.equals(playerId);
+        return engine.isPlayerTurn(playerId);
+    }
+
+    public GameAudience getAudience() {
+        return audience;
+    }
+
+    /**
+     * Get the scheduler the game runs on.
+     * 
+     * @return The plugin's scheduler, or on Folia the game's own on its arena's region
+     */
+    public TickScheduler getScheduler() {
+        return scheduler;
+    }
+
+    /**
+     * Get the queue the game's teardown runs through.
+     * 
+     * @return The plugin's work queue, or on Folia the game's own
+     */
+    public WorkQueue getWorkQueue() {
+        return work;
+    }
+
+    public RouletteEngine getEngine() {
+        return engine;
+    }
+
+    /**
+     * Translates engine events into messages, effects and teleports.
+     */
+    private class EngineEvents implements EngineListener {
+
+        @Override
+        public void onStateChange(GameState from, GameState to) {
+            // The game indexes live on the plugin's thread
+            plugin.getTickScheduler().execute(() -> plugin.getGameManager().onStateChange(Game.this, from, to));
+        }
+
+        @Override
+        public void onCountdown(int secondsLeft) {
+            broadcastMessage(config.getMessage("gameStarting", "time", secondsLeft));
+
+            // Play countdown sound
+            playSound("gameStart");
+        }
+
+        @Override
+        public void onGameBegin() {
+            long start = System.nanoTime();
+            beginGame();
+            metrics.observeSince(TimerMetric.GAME_BEGIN, start);
+        }
+
+        @Override
+        public boolean isConnected(UUID playerId) {
+            Player player = Bukkit.getPlayer(playerId);
+            return player != null && player.isOnline();
+        }
+
+        @Override
+        public void onTurnStart(UUID playerId) {
+            long start = System.nanoTime();
+            Player player = Bukkit.getPlayer(playerId);
+            if (player == null) {
+                // Left after the engine checked; skip them now, their quit does the rest
+                engine.removePlayer(playerId);
+                return;
+            }
+            startTurn(player);
+            metrics.observeSince(TimerMetric.GAME_TURN_START, start);
+        }
+
+        @Override
+        public void onTurnTick(UUID playerId, int timeRemaining) {
+            long start = System.nanoTime();
+            tickTurnTimer(playerId, timeRemaining);
+            metrics.observeSince(TimerMetric.GAME_TURN_TICK, start);
+        }
+
+        @Override
+        public void onTurnTimeout(UUID playerId) {
+            broadcastMessage(config.getMessage("autoTriggerPull",
+                    "player", getPlayerName(playerId)));
+        }
+
+        @Override
+        public void onTriggerPulled(UUID playerId, boolean hit) {
+            long start = System.nanoTime();
+            if (hit) {
+                handleDeath(playerId);
+                metrics.observeSince(TimerMetric.GAME_DEATH, start);
+            } else {
+                handleSurvival(playerId);
+                metrics.observeSince(TimerMetric.GAME_SURVIVAL, start);
+            }
+        }
+
+        @Override
+        public void onEliminated(UUID playerId, boolean disconnected) {
+            long start = System.nanoTime();
+            eliminatePlayer(playerId, disconnected);
+            metrics.observeSince(TimerMetric.GAME_ELIMINATE, start);
+        }
+
+        @Override
+        public void onWinner(UUID winnerId) {
+            long start = System.nanoTime();
+            // Record by UUID so a winner who just logged out still gets the win
+            plugin.getStatsManager().recordWin(winnerId, getPlayerName(winnerId));
+            declareWinner(Bukkit.getPlayer(winnerId));
+            metrics.observeSince(TimerMetric.GAME_WINNER, start);
+        }
+
+        @Override
+        public void onGameEnd() {
+            long start = System.nanoTime();
+            cleanup();
+            metrics.observeSince(TimerMetric.GAME_CLEANUP, start);
+        }
     }
 }
@@ -0,0 +1,208 @@
+package com.example.russianroulette.game;
+
+import com.example.russianroulette.config.SoundSetting;
+import com.example.russianroulette.engine.ClockTask;
+import com.example.russianroulette.metrics.CounterMetric;
+import com.example.russianroulette.metrics.Metrics;
+import com.example.russianroulette.scheduler.TickScheduler;
+import net.kyori.adventure.audience.Audience;
+import net.kyori.adventure.sound.Sound;
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.JoinConfiguration;
+import net.kyori.adventure.text.serializer.legacy.LegacyComponentSerializer;
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Player;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Chat and sound output for everyone in one game.
+ * Messages are converted to components once, queued, and flushed on the next tick
+ * with everything queued in between joined into a single chat message per player.
+ * Queue order is kept, including messages aimed at one player.
+ */
+public class GameAudience {
+
+    private static final LegacyComponentSerializer LEGACY = LegacyComponentSerializer.legacySection();
+
+    private final TickScheduler scheduler;
+    private final Metrics metrics;
+    // Live view of the game's players
+    private final Collection<UUID> members;
+    private final List<Entry> pending;
+    private ClockTask flushTask;
+
+    // Rendered messages are memoized, so repeats usually arrive as the same String
+    private String lastText;
+    private Component lastComponent;
+
+    public GameAudience(TickScheduler scheduler, Metrics metrics, Collection<UUID> members) {
+        this.scheduler = scheduler;
+        this.metrics = metrics;
+        this.members = members;
+        this.pending = new ArrayList<>();
+    }
+
+    /**
+     * Queue a message for every player in the game.
+     * 
+     * @param message Message with legacy color codes
+     */
+    public void sendMessage(String message) {
+        queue(new Entry(null, false, toComponent(message)));
+    }
+
+    /**
+     * Queue a message for one player.
+     * 
+     * @param playerId Player to send to
+     * @param message  Message with legacy color codes
+     */
+    public void sendMessage(UUID playerId, String message) {
+        queue(new Entry(playerId, false, toComponent(message)));
+    }
+
+    /**
+     * Queue a message for every player in the game except one.
+     * 
+     * @param excluded Player to leave out
+     * @param message  Message with legacy color codes
+     */
+    public void sendMessageExcept(UUID excluded, String message) {
+        queue(new Entry(excluded, true, toComponent(message)));
+    }
+
+    /**
+     * Play a sound to every player in the game, at their own position.
+     * 
+     * @param sound Sound to play
+     */
+    public void playSound(SoundSetting sound) {
+        Audience audience = onlineMembers();
+        if (audience != null) {
+            audience.playSound(sound.getAdventureSound(), Sound.Emitter.self());
+        }
+    }
+
+    private Component toComponent(String message) {
+        if (message != lastText) {
+            lastComponent = LEGACY.deserialize(message);
+            lastText = message;
+        }
+        return lastComponent;
+    }
+
+    private void queue(Entry entry) {
+        pending.add(entry);
+        if (flushTask == null) {
+            flushTask = scheduler.schedule("audience-flush", 0L, this::flush);
+        }
+    }
+
+    /**
+     * Send everything queued right now.
+     * Call before the set of players changes so queued messages reach who they were meant for.
+     */
+    public void flush() {
+        if (flushTask != null) {
+            flushTask.cancel();
+            flushTask = null;
+        }
+        if (pending.isEmpty()) {
+            return;
+        }
+        metrics.add(CounterMetric.MESSAGES_SENT, pending.size());
+
+        if (allBroadcasts()) {
+            // Common case: one joined component for the whole table
+            Audience audience = onlineMembers();
+            if (audience != null) {
+                audience.sendMessage(join(pending));
+            }
+        } else {
+            for (UUID memberId : members) {
+                Player player = Bukkit.getPlayer(memberId);
+                if (player == null) {
+                    continue;
+                }
+
+                List<Entry> entries = new ArrayList<>(pending.size());
+                for (Entry entry : pending) {
+                    if (entry.isFor(memberId)) {
+                        entries.add(entry);
+                    }
+                }
+                if (!entries.isEmpty()) {
+                    player.sendMessage(join(entries));
+                }
+            }
+
+            // Players who left the game still get what was aimed at them
+            for (Entry entry : pending) {
+                if (entry.target != null && !entry.exclude && !members.contains(entry.target)) {
+                    Player player = Bukkit.getPlayer(entry.target);
+                    if (player != null) {
+                        player.sendMessage(entry.message);
+                    }
+                }
+            }
+        }
+
+        pending.clear();
+    }
+
+    private boolean allBroadcasts() {
+        for (Entry entry : pending) {
+            if (entry.target != null) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static Component join(List<Entry> entries) {
+        if (entries.size() == 1) {
+            return entries.get(0).message;
+        }
+
+        List<Component> components = new ArrayList<>(entries.size());
+        for (Entry entry : entries) {
+            components.add(entry.message);
+        }
+        return Component.join(JoinConfiguration.newlines(), components);
+    }
+
+    private Audience onlineMembers() {
+        List<Player> online = new ArrayList<>(members.size());
+        for (UUID memberId : members) {
+            Player player = Bukkit.getPlayer(memberId);
+            if (player != null) {
+                online.add(player);
+            }
+        }
+        return online.isEmpty() ? null : Audience.audience(online);
+    }
+
+    private static final class Entry {
+        // null for everyone; otherwise the only recipient, or the one left out if exclude is set
+        private final UUID target;
+        private final boolean exclude;
+        private final Component message;
+
+        private Entry(UUID target, boolean exclude, Component message) {
+            this.target = target;
+            this.exclude = exclude;
+            this.message = message;
+        }
+
+        private boolean isFor(UUID playerId) {
+            if (target == null) {
+                return true;
+            }
+            return exclude != target.equals(playerId);
+        }
+    }
+}
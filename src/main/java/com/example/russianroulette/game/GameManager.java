@@ -1,55 +1,170 @@
 package com.example.russianroulette.game;
 
 import com.example.russianroulette.RussianRoulettePlugin;
+import com.example.russianroulette.arena.Arena;
+import com.example.russianroulette.arena.ArenaManager;
+import com.example.russianroulette.listeners.GameListeners;
+import com.example.russianroulette.scheduler.Platform;
+import com.example.russianroulette.scheduler.TickScheduler;
+import com.example.russianroulette.scheduler.WorkQueue;
+import org.bukkit.Location;
+import org.bukkit.World;
 import org.bukkit.entity.Player;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
 
 /**
  * Manages all active Russian Roulette games.
+ * Games are indexed by state and by arena so lookups don't scan every table.
+ * The indexes belong to the plugin's scheduler thread; only the player and arena
+ * lookups are concurrent, for listeners that run on the threads of their players.
+ * On Folia every game runs on the region of its arena, so tables in different
+ * regions play in parallel.
  */
 public class GameManager {
 
     private final RussianRoulettePlugin plugin;
     private final Map<UUID, Game> activeGames;
     private final Map<UUID, Game> playerGameMap;
+    private final Map<GameState, Set<Game>> gamesByState;
+    private final Map<String, Game> gamesByArena;
+    // Players whose join is waiting on their bet
+    private final Set<UUID> joiningPlayers;
+    // Set at plugin disable, when the server no longer ticks
+    private volatile boolean shuttingDown;
 
     public GameManager(RussianRoulettePlugin plugin) {
         this.plugin = plugin;
         this.activeGames = new ConcurrentHashMap<>();
         this.playerGameMap = new ConcurrentHashMap<>();
+        this.gamesByState = new EnumMap<>(GameState.class);
+        for (GameState state : GameState.values()) {
+            gamesByState.put(state, new LinkedHashSet<>());
+        }
+        this.gamesByArena = new ConcurrentHashMap<>();
+        this.joiningPlayers = new HashSet<>();
     }
 
     /**
-     * Create a new game.
+     * Create a new game on the next free arena.
      * 
      * @return The created game, or null if creation failed
      */
     public Game createGame() {
+        return createGame(null);
+    }
+
+    /**
+     * Create a new game on a specific arena.
+     * 
+     * @param arenaName Arena to claim, or null for the next free one
+     * @return The created game, or null if creation failed
+     */
+    public Game createGame(String arenaName) {
         if (!plugin.getConfigManager().allowMultipleGames() && !activeGames.isEmpty()) {
             return null;
         }
 
-        Game game = new Game(plugin);
+        ArenaManager arenaManager = plugin.getArenaManager();
+        Arena arena = arenaName != null ? arenaManager.acquire(arenaName) : arenaManager.acquire();
+
+        // Arenas are only required when players get teleported to a table
+        if (arena == null && (arenaName != null || plugin.getConfigManager().isTeleportToArena())) {
+            return null;
+        }
+
+        Game game = newGame(arena);
         activeGames.put(game.getGameId(), game);
+        gamesByState.get(game.getState()).add(game);
+        if (arena != null) {
+            gamesByArena.put(arena.getName().toLowerCase(), game);
+        }
+        updateListeners();
         return game;
     }
 
+    /**
+     * Create a game on the plugin's scheduler, or on Folia on a scheduler of its own
+     * on the region of its arena.
+     */
+    private Game newGame(Arena arena) {
+        World world = arena != null ? arena.getWorld() : null;
+        if (!Platform.isFolia() || world == null) {
+            return new Game(plugin, arena, plugin.getTickScheduler(), plugin.getWorkQueue());
+        }
+
+        Location center = new Location(world, arena.getCenterX(), arena.getCenterY(), arena.getCenterZ());
+        TickScheduler scheduler = new TickScheduler(plugin, plugin.getTickScheduler().getProfiler(), center);
+        scheduler.start();
+        return new Game(plugin, arena, scheduler, new WorkQueue(plugin, scheduler));
+    }
+
     /**
      * Get an existing game that's waiting for players.
      * 
      * @return A waiting game, or null if none exists
      */
     public Game getWaitingGame() {
-        for (Game game : activeGames.values()) {
-            if (game.getState() == GameState.WAITING) {
-                return game;
-            }
+        Iterator<Game> it = gamesByState.get(GameState.WAITING).iterator();
+        return it.hasNext() ? it.next() : null;
+    }
+
+    /**
+     * Get the game running on an arena.
+     * 
+     * @param arenaName Arena name
+     * @return The game, or null if the arena is free
+     */
+    public Game getArenaGame(String arenaName) {
+        return gamesByArena.get(arenaName.toLowerCase());
+    }
+
+    /**
+     * Get all games currently in a state.
+     * 
+     * @param state State to look up
+     * @return Unmodifiable view of the games in that state
+     */
+    public Collection<Game> getGames(GameState state) {
+        return Collections.unmodifiableSet(gamesByState.get(state));
+    }
+
+    /**
+     * Get the number of games currently in a state.
+     * 
+     * @param state State to count
+     * @return Number of games in that state
+     */
+    public int getGameCount(GameState state) {
+        return gamesByState.get(state).size();
+    }
+
+    /**
+     * Move a game between state indexes. Called by the game on every transition.
+     * 
+     * @param game Game that changed state
+     * @param from Previous state
+     * @param to   New state
+     */
+    void onStateChange(Game game, GameState from, GameState to) {
+        if (!activeGames.containsKey(game.getGameId())) {
+            return;
         }
-        return null;
+
+        gamesByState.get(from).remove(game);
+        gamesByState.get(to).add(game);
     }
 
     /**
@@ -67,12 +182,7 @@ public class GameManager {
      * @param game Game to remove
      */
     public void removeGame(Game game) {
-        activeGames.remove(game.getGameId());
-
-        // Clean up player mappings
-        for (UUID playerId : game.getPlayers().keySet()) {
-            playerGameMap.remove(playerId);
-        }
+        removeGame(game, game.getPlayers().keySet());
     }
 
     /**
@@ -82,54 +192,91 @@ public class GameManager {
      * @param game      Game to remove
      * @param playerIds Set of player UUIDs to clean up
      */
-    public void removeGame(Game game, java.util.Set<UUID> playerIds) {
-        activeGames.remove(game.getGameId());
+    public void removeGame(Game game, Set<UUID> playerIds) {
+        if (activeGames.remove(game.getGameId()) == null) {
+            return;
+        }
+
+        for (Set<Game> games : gamesByState.values()) {
+            games.remove(game);
+        }
+
+        // Free the table for the next game
+        Arena arena = game.getArena();
+        if (arena != null) {
+            gamesByArena.remove(arena.getName().toLowerCase());
+            plugin.getArenaManager().release(arena);
+        }
 
         // Clean up player mappings using provided player IDs
         for (UUID playerId : playerIds) {
             playerGameMap.remove(playerId);
         }
+
+        updateListeners();
     }
 
     /**
-     * Add a player to a game.
-     * 
-     * @param player Player to add
-     * @param game   Game to add player to
-     * @return true if successful
+     * Register the game listeners while any game exists and drop them once the last one is gone.
      */
-    public boolean addPlayerToGame(Player player, Game game) {
-        if (playerGameMap.containsKey(player.getUniqueId())) {
-            return false;
+    private void updateListeners() {
+        GameListeners listeners = plugin.getGameListeners();
+        if (listeners != null) {
+            listeners.setActive(!activeGames.isEmpty());
         }
+    }
 
-        if (game.addPlayer(player)) {
-            playerGameMap.put(player.getUniqueId(), game);
-            return true;
+    /**
+     * Add a player to a game once their bet is taken.
+     * 
+     * @param player   Player to add
+     * @param game     Game to add player to
+     * @param callback Called on the plugin's thread with true if the player joined
+     */
+    public void addPlayerToGame(Player player, Game game, Consumer<Boolean> callback) {
+        UUID playerId = player.getUniqueId();
+        if (playerGameMap.containsKey(playerId) || !joiningPlayers.add(playerId)) {
+            callback.accept(false);
+            return;
         }
 
-        return false;
+        game.execute(() -> game.addPlayer(player, joined -> plugin.getTickScheduler().execute(() -> {
+            joiningPlayers.remove(playerId);
+            if (joined) {
+                playerGameMap.put(playerId, game);
+            }
+            callback.accept(joined);
+        })));
     }
 
     /**
-     * Remove a player from their current game.
+     * Check if a player is waiting for their bet to be taken.
+     * 
+     * @param playerId Player UUID to check
+     * @return true if the player is joining a game
+     */
+    public boolean isJoining(UUID playerId) {
+        return joiningPlayers.contains(playerId);
+    }
+
+    /**
+     * Remove a player from their current game, on the game's thread.
+     * Safe to call from any thread.
      * 
      * @param player Player to remove
      * @param forced Whether removal is forced
-     * @return true if successful
      */
-    public boolean removePlayerFromGame(Player player, boolean forced) {
+    public void removePlayerFromGame(Player player, boolean forced) {
         Game game = playerGameMap.get(player.getUniqueId());
         if (game == null) {
-            return false;
-        }
-
-        if (game.removePlayer(player, forced)) {
-            playerGameMap.remove(player.getUniqueId());
-            return true;
+            return;
         }
 
-        return false;
+        game.execute(() -> {
+            if (game.removePlayer(player, forced)) {
+                playerGameMap.remove(player.getUniqueId(), game);
+            }
+        });
     }
 
     /**
@@ -173,14 +320,48 @@ public class GameManager {
     }
 
     /**
-     * End all active games gracefully.
+     * End all active games gracefully, each on its own thread.
+     * Each game queues its teardown on its work queue and removes itself once that has run.
      */
     public void endAllGames() {
-        for (Game game : activeGames.values()) {
+        for (Game game : getEndingOrder()) {
+            game.execute(game::forceEnd);
+        }
+    }
+
+    /**
+     * End all active games and run their teardown right away. Used at shutdown, when the
+     * server no longer ticks and the games' threads are gone; the teardown of games on the
+     * plugin's work queue still needs it drained.
+     */
+    public void shutdown() {
+        shuttingDown = true;
+        for (Game game : getEndingOrder()) {
             game.forceEnd();
+            if (game.getWorkQueue() != plugin.getWorkQueue()) {
+                game.getWorkQueue().drain();
+            }
+        }
+    }
+
+    /**
+     * Check if the games are being ended because the plugin is disabled.
+     * 
+     * @return true once {@link #shutdown()} was called
+     */
+    public boolean isShuttingDown() {
+        return shuttingDown;
+    }
+
+    private List<Game> getEndingOrder() {
+        // Fixed order (waiting tables first) so teardown always runs the same way
+        List<Game> games = new ArrayList<>();
+        for (GameState state : GameState.values()) {
+            if (state != GameState.ENDED) {
+                games.addAll(gamesByState.get(state));
+            }
         }
-        activeGames.clear();
-        playerGameMap.clear();
+        return games;
     }
 
     /**
@@ -15,6 +15,8 @@ public class PlayerData {
     private final Location originalLocation;
     private boolean alive;
     private int turnPosition;
+    // Inventory slot the revolver was given in, -1 if unknown
+    private int revolverSlot;
 
     public PlayerData(Player player) {
         this.playerId = player.getUniqueId();
@@ -22,6 +24,7 @@ public class PlayerData {
         this.originalLocation = player.getLocation().clone();
         this.alive = true;
         this.turnPosition = 0;
+        this.revolverSlot = -1;
     }
 
     public UUID getPlayerId() {
@@ -51,4 +54,12 @@ public class PlayerData {
     public void setTurnPosition(int turnPosition) {
         this.turnPosition = turnPosition;
     }
+
+    public int getRevolverSlot() {
+        return revolverSlot;
+    }
+
+    public void setRevolverSlot(int revolverSlot) {
+        this.revolverSlot = revolverSlot;
+    }
 }
@@ -9,7 +9,7 @@ import java.util.Random;
 public class Revolver {
 
     private static final int CHAMBER_COUNT = 6;
-    private final Random random = new Random();
+    private final Random random;
 
     private boolean[] chambers;
     private int currentChamber;
@@ -22,6 +22,17 @@ public class Revolver {
      * @param bulletCount Number of bullets to load
      */
     public Revolver(int bulletCount) {
+        this(bulletCount, new Random());
+    }
+
+    /**
+     * Create a new revolver with the specified number of bullets.
+     * 
+     * @param bulletCount Number of bullets to load
+     * @param random      Random source for spinning the cylinder
+     */
+    public Revolver(int bulletCount, Random random) {
+        this.random = random;
         this.bulletsLoaded = Math.min(bulletCount, CHAMBER_COUNT - 1);
         this.chambers = new boolean[CHAMBER_COUNT];
         this.currentChamber = 0;
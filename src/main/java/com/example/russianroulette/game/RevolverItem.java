@@ -0,0 +1,140 @@
+package com.example.russianroulette.game;
+
+import com.example.russianroulette.RussianRoulettePlugin;
+import com.example.russianroulette.config.ConfigSnapshot;
+import org.bukkit.Material;
+import org.bukkit.NamespacedKey;
+import org.bukkit.entity.Player;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.inventory.PlayerInventory;
+import org.bukkit.inventory.meta.ItemMeta;
+import org.bukkit.persistence.PersistentDataType;
+
+/**
+ * The revolver item handed to players.
+ * Revolvers carry a persistent data tag, so they are recognised by the tag
+ * rather than by name, and the item is only rebuilt when the config changes.
+ */
+public class RevolverItem {
+
+    private final RussianRoulettePlugin plugin;
+    private final NamespacedKey key;
+
+    // Prototype and the snapshot it was built from, swapped as a whole since games
+    // on Folia hand out revolvers from their own region threads
+    private volatile Built built;
+
+    public RevolverItem(RussianRoulettePlugin plugin) {
+        this.plugin = plugin;
+        this.key = new NamespacedKey(plugin, "revolver");
+    }
+
+    /**
+     * Get the revolver prototype. Clone it before handing it out.
+     * 
+     * @return The cached revolver item
+     */
+    public ItemStack getPrototype() {
+        return current().prototype;
+    }
+
+    private Built current() {
+        ConfigSnapshot snapshot = plugin.getConfigManager().getSnapshot();
+        Built current = built;
+        if (current == null || current.snapshot != snapshot) {
+            // Racing threads may both build, either result is fine
+            current = build(snapshot);
+            built = current;
+        }
+        return current;
+    }
+
+    private Built build(ConfigSnapshot snapshot) {
+        ItemStack item = new ItemStack(snapshot.getRevolverMaterial());
+        ItemMeta meta = item.getItemMeta();
+
+        if (meta != null) {
+            meta.setDisplayName(snapshot.getRevolverName());
+            meta.setLore(snapshot.getRevolverLore());
+            meta.getPersistentDataContainer().set(key, PersistentDataType.BYTE, (byte) 1);
+            item.setItemMeta(meta);
+        }
+
+        return new Built(snapshot, item);
+    }
+
+    /**
+     * Check if an item is a revolver.
+     * 
+     * @param item Item to check
+     * @return true if it carries the revolver tag
+     */
+    public boolean isRevolver(ItemStack item) {
+        // Material first, so almost every other item is rejected without touching its meta
+        if (item == null || item.getType() != getMaterial() || !item.hasItemMeta()) {
+            return false;
+        }
+
+        ItemMeta meta = item.getItemMeta();
+        return meta != null && meta.getPersistentDataContainer().has(key, PersistentDataType.BYTE);
+    }
+
+    /**
+     * Give a player a revolver in the first free slot.
+     * 
+     * @param player Player to give the revolver to
+     * @return Slot the revolver was put in, or -1 if the inventory was full
+     */
+    public int give(Player player) {
+        PlayerInventory inventory = player.getInventory();
+        ItemStack revolver = getPrototype().clone();
+
+        int slot = inventory.firstEmpty();
+        if (slot < 0) {
+            // Let the server find room (or drop it), we'll have to search for it later
+            inventory.addItem(revolver);
+            return -1;
+        }
+
+        inventory.setItem(slot, revolver);
+        return slot;
+    }
+
+    /**
+     * Take a player's revolver away.
+     * Checks the slot it was given in first and only scans the inventory if it moved.
+     * 
+     * @param player Player to take the revolver from
+     * @param slot   Slot the revolver was given in, or -1 if unknown
+     */
+    public void take(Player player, int slot) {
+        PlayerInventory inventory = player.getInventory();
+        if (slot >= 0 && slot < inventory.getSize() && isRevolver(inventory.getItem(slot))) {
+            inventory.clear(slot);
+            return;
+        }
+
+        ItemStack[] contents = inventory.getContents();
+        for (int i = 0; i < contents.length; i++) {
+            if (isRevolver(contents[i])) {
+                inventory.clear(i);
+            }
+        }
+    }
+
+    private Material getMaterial() {
+        return current().material;
+    }
+
+    private static final class Built {
+        private final ConfigSnapshot snapshot;
+        private final ItemStack prototype;
+        private final Material material;
+
+        private Built(ConfigSnapshot snapshot, ItemStack prototype) {
+            this.snapshot = snapshot;
+            this.prototype = prototype;
+            this.material = prototype.getType();
+        }
+    }
+}
@@ -11,7 +11,6 @@ import org.bukkit.inventory.Inventory;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.inventory.meta.ItemMeta;
 
-import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -45,12 +44,9 @@ public class RevolverGUI {
         int bulletsRemaining = revolver != null ? revolver.getBulletsRemaining() : 0;
         int chambersRemaining = 6;
 
-        List<String> lore = new ArrayList<>();
-        for (String line : config.getMessageList("pullTriggerLore")) {
-            lore.add(line
-                    .replace("%chambers%", String.valueOf(chambersRemaining))
-                    .replace("%bullets%", String.valueOf(bulletsRemaining)));
-        }
+        List<String> lore = config.getMessageList("pullTriggerLore",
+                "chambers", chambersRemaining,
+                "bullets", bulletsRemaining);
 
         ItemStack trigger = createItem(
                 Material.LEVER,
@@ -0,0 +1,26 @@
+package com.example.russianroulette.listeners;
+
+import com.example.russianroulette.RussianRoulettePlugin;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerJoinEvent;
+
+/**
+ * Returns items staked in games that were cut short by a crash.
+ * Only registered while such items are owed, see {@link com.example.russianroulette.rewards.RewardManager}.
+ */
+public class EscrowListener implements Listener {
+
+    private final RussianRoulettePlugin plugin;
+
+    public EscrowListener(RussianRoulettePlugin plugin) {
+        this.plugin = plugin;
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPlayerJoin(PlayerJoinEvent event) {
+        // The debts are kept on the plugin's scheduler thread
+        plugin.getTickScheduler().execute(() -> plugin.getRewardManager().returnOwedItems(event.getPlayer()));
+    }
+}
@@ -14,6 +14,7 @@ import org.bukkit.event.inventory.InventoryDragEvent;
 
 /**
  * Listener for GUI interactions.
+ * Only registered while a game exists, see {@link GameListeners}.
  */
 public class GUIListener implements Listener {
 
@@ -60,14 +61,17 @@ public class GUIListener implements Listener {
             return;
         }
 
-        // Check if it's player's turn
-        if (!game.isPlayerTurn(player.getUniqueId())) {
-            player.sendMessage(plugin.getConfigManager().getMessage("notYourTurn"));
-            return;
-        }
-
-        // Pull the trigger!
-        game.pullTrigger(player);
+        // Turns are decided on the game's thread
+        game.execute(() -> {
+            // Check if it's player's turn
+            if (!game.isPlayerTurn(player.getUniqueId())) {
+                player.sendMessage(plugin.getConfigManager().getMessage("notYourTurn"));
+                return;
+            }
+
+            // Pull the trigger!
+            game.pullTrigger(player);
+        });
     }
 
     @EventHandler(priority = EventPriority.HIGH)
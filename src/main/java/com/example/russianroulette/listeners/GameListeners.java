@@ -0,0 +1,51 @@
+package com.example.russianroulette.listeners;
+
+import com.example.russianroulette.RussianRoulettePlugin;
+import org.bukkit.event.HandlerList;
+import org.bukkit.event.Listener;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * The game protection and GUI listeners, registered only while at least one game exists.
+ * With no games running the plugin adds nothing to damage, teleport, interact
+ * or inventory events on the rest of the server.
+ */
+public class GameListeners {
+
+    private final RussianRoulettePlugin plugin;
+    private final List<Listener> listeners;
+    private boolean registered;
+
+    public GameListeners(RussianRoulettePlugin plugin) {
+        this.plugin = plugin;
+        this.listeners = Arrays.asList(new PlayerListener(plugin), new GUIListener(plugin));
+    }
+
+    /**
+     * Register or unregister the listeners.
+     * 
+     * @param active true while games exist
+     */
+    public void setActive(boolean active) {
+        if (active == registered) {
+            return;
+        }
+
+        if (active) {
+            for (Listener listener : listeners) {
+                plugin.getServer().getPluginManager().registerEvents(listener, plugin);
+            }
+        } else {
+            for (Listener listener : listeners) {
+                HandlerList.unregisterAll(listener);
+            }
+        }
+        registered = active;
+    }
+
+    public boolean isActive() {
+        return registered;
+    }
+}
@@ -1,5 +1,6 @@
 package com.example.russianroulette.listeners;
 
+import com.destroystokyo.paper.event.player.PlayerStopSpectatingEntityEvent;
 import com.example.russianroulette.RussianRoulettePlugin;
 import com.example.russianroulette.config.ConfigManager;
 import com.example.russianroulette.game.Game;
@@ -14,11 +15,11 @@ import org.bukkit.event.entity.EntityDamageByEntityEvent;
 import org.bukkit.event.entity.EntityDamageEvent;
 import org.bukkit.event.player.*;
 import org.bukkit.inventory.ItemStack;
-import org.bukkit.inventory.meta.ItemMeta;
 
 /**
  * Listener for player events related to the game.
  * Handles anti-abuse measures and revolver item interactions.
+ * Only registered while a game exists, see {@link GameListeners}.
  */
 public class PlayerListener implements Listener {
 
@@ -80,14 +81,17 @@ public class PlayerListener implements Listener {
             return;
         }
 
-        // Check if it's player's turn
-        if (!game.isPlayerTurn(player.getUniqueId())) {
-            player.sendMessage(config.getMessage("notYourTurn"));
-            return;
-        }
+        // Turns are decided on the game's thread
+        game.execute(() -> {
+            // Check if it's player's turn
+            if (!game.isPlayerTurn(player.getUniqueId())) {
+                player.sendMessage(config.getMessage("notYourTurn"));
+                return;
+            }
 
-        // Pull the trigger!
-        game.pullTrigger(player);
+            // Pull the trigger!
+            game.pullTrigger(player);
+        });
     }
 
     /**
@@ -116,6 +120,18 @@ public class PlayerListener implements Listener {
         event.setCancelled(true);
     }
 
+    /**
+     * Keep players on the intro camera; sneaking would otherwise leave it.
+     */
+    @EventHandler(priority = EventPriority.HIGH)
+    public void onStopSpectating(PlayerStopSpectatingEntityEvent event) {
+        Game game = gameManager.getPlayerGame(event.getPlayer());
+
+        if (game != null && game.isCinematicCamera(event.getSpectatorTarget())) {
+            event.setCancelled(true);
+        }
+    }
+
     /**
      * Prevent external damage to players during game.
      */
@@ -195,15 +211,6 @@ public class PlayerListener implements Listener {
      * @return true if it's the revolver
      */
     private boolean isRevolverItem(ItemStack item) {
-        if (item == null || item.getType() != config.getRevolverMaterial()) {
-            return false;
-        }
-
-        ItemMeta meta = item.getItemMeta();
-        if (meta == null || !meta.hasDisplayName()) {
-            return false;
-        }
-
-        return meta.getDisplayName().equals(config.getRevolverName());
+        return plugin.getRevolverItem().isRevolver(item);
     }
 }
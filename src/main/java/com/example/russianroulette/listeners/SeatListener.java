@@ -0,0 +1,30 @@
+package com.example.russianroulette.listeners;
+
+import com.example.russianroulette.RussianRoulettePlugin;
+import com.example.russianroulette.arena.SeatPool;
+import org.bukkit.entity.Entity;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.world.EntitiesLoadEvent;
+
+/**
+ * Hands seat stands to the {@link SeatPool} when their chunk loads,
+ * so stands outside the loaded area at startup are reconciled too.
+ */
+public class SeatListener implements Listener {
+
+    private final RussianRoulettePlugin plugin;
+
+    public SeatListener(RussianRoulettePlugin plugin) {
+        this.plugin = plugin;
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onEntitiesLoad(EntitiesLoadEvent event) {
+        SeatPool seatPool = plugin.getArenaManager().getSeatPool();
+        for (Entity entity : event.getEntities()) {
+            seatPool.adopt(entity);
+        }
+    }
+}
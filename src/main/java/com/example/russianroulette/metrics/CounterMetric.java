@@ -0,0 +1,32 @@
+package com.example.russianroulette.metrics;
+
+/**
+ * Counters the plugin keeps, with their Prometheus names.
+ */
+public enum CounterMetric {
+    GAMES_STARTED("rr_games_started_total", "Games that got past the countdown"),
+    GAMES_ENDED("rr_games_ended_total", "Games that ended, including force-ended ones"),
+    TURNS("rr_turns_total", "Turns started"),
+    SCOREBOARD_UPDATES("rr_scoreboard_updates_total", "Scoreboard refreshes of a game"),
+    MESSAGES_SENT("rr_messages_sent_total", "Chat messages sent to game audiences, before batching"),
+    MONEY_BETS("rr_money_bets_total", "Money bets taken"),
+    ITEM_BETS("rr_item_bets_total", "Item bets taken"),
+    PAYOUTS("rr_payouts_total", "Pots paid out to a winner"),
+    REFUNDS("rr_refunds_total", "Bets refunded to a player");
+
+    private final String metricName;
+    private final String help;
+
+    CounterMetric(String metricName, String help) {
+        this.metricName = metricName;
+        this.help = help;
+    }
+
+    public String getMetricName() {
+        return metricName;
+    }
+
+    public String getHelp() {
+        return help;
+    }
+}
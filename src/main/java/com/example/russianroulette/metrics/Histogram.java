@@ -0,0 +1,137 @@
+package com.example.russianroulette.metrics;
+
+import java.math.BigDecimal;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Latency histogram with fixed buckets from 10µs to 1s, Prometheus style.
+ * Lock-free and safe to update from any thread.
+ */
+public final class Histogram {
+
+    // Bucket upper bounds in nanoseconds; anything slower lands in the implicit +Inf bucket
+    private static final long[] BOUNDS = {
+            10_000L, 50_000L, 100_000L, 250_000L, 500_000L,
+            1_000_000L, 2_500_000L, 5_000_000L, 10_000_000L, 25_000_000L,
+            50_000_000L, 100_000_000L, 250_000_000L, 1_000_000_000L
+    };
+
+    private final AtomicLongArray buckets = new AtomicLongArray(BOUNDS.length + 1);
+    private final LongAdder sumNanos = new LongAdder();
+
+    /**
+     * Record a duration.
+     * 
+     * @param nanos Duration in nanoseconds
+     */
+    public void observe(long nanos) {
+        int bucket = 0;
+        while (bucket < BOUNDS.length && nanos > BOUNDS[bucket]) {
+            bucket++;
+        }
+        buckets.incrementAndGet(bucket);
+        sumNanos.add(nanos);
+    }
+
+    /**
+     * Record the time elapsed since a {@link System#nanoTime()} reading.
+     * 
+     * @param startNanos Start time
+     */
+    public void observeSince(long startNanos) {
+        observe(System.nanoTime() - startNanos);
+    }
+
+    /**
+     * Get the number of observations at or below a bucket bound, Prometheus' cumulative count.
+     * 
+     * @param bucket Bucket index, the last one is +Inf
+     * @return Cumulative count
+     */
+    public long getCumulativeCount(int bucket) {
+        long count = 0;
+        for (int i = 0; i <= bucket; i++) {
+            count += buckets.get(i);
+        }
+        return count;
+    }
+
+    /**
+     * Estimate a quantile as the upper bound of the bucket it falls in.
+     * 
+     * @param quantile Quantile between 0 and 1
+     * @return Upper bound in nanoseconds, or -1 if it's above the largest bound
+     */
+    public long getQuantileBound(double quantile) {
+        long[] counts = new long[buckets.length()];
+        long total = 0;
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] = buckets.get(i);
+            total += counts[i];
+        }
+
+        long target = (long) Math.ceil(total * quantile);
+        long seen = 0;
+        for (int i = 0; i < BOUNDS.length; i++) {
+            seen += counts[i];
+            if (seen >= target) {
+                return BOUNDS[i];
+            }
+        }
+        return -1;
+    }
+
+    public long getCount() {
+        return getCumulativeCount(BOUNDS.length);
+    }
+
+    public long getSumNanos() {
+        return sumNanos.sum();
+    }
+
+    public static int getBucketCount() {
+        return BOUNDS.length + 1;
+    }
+
+    /**
+     * Append this histogram's samples in the Prometheus text format, without HELP and TYPE lines.
+     * 
+     * @param out    Builder to append to
+     * @param name   Metric name
+     * @param labels Labels without braces, e.g. {@code method="join"}, or an empty string
+     */
+    public void writePrometheus(StringBuilder out, String name, String labels) {
+        String prefix = labels.isEmpty() ? "" : labels + ",";
+        for (int bucket = 0; bucket < getBucketCount(); bucket++) {
+            long bound = getBound(bucket);
+            out.append(name).append("_bucket{").append(prefix)
+                    .append("le=\"").append(bound < 0 ? "+Inf" : seconds(bound)).append("\"} ")
+                    .append(getCumulativeCount(bucket)).append('\n');
+        }
+
+        String suffix = labels.isEmpty() ? "" : "{" + labels + "}";
+        out.append(name).append("_sum").append(suffix).append(' ').append(seconds(getSumNanos())).append('\n');
+        out.append(name).append("_count").append(suffix).append(' ').append(getCount()).append('\n');
+    }
+
+    /**
+     * Format nanoseconds as plain decimal seconds, the unit Prometheus expects.
+     * 
+     * @param nanos Duration in nanoseconds
+     * @return Seconds, e.g. "0.00025"
+     */
+    public static String seconds(long nanos) {
+        return BigDecimal.valueOf(nanos).movePointLeft(9).stripTrailingZeros().toPlainString();
+    }
+
+    /**
+     * Get a bucket's upper bound.
+     * 
+     * @param bucket Bucket index
+     * @return Bound in nanoseconds, or -1 for +Inf
+     */
+    public static long getBound(int bucket) {
+        return bucket < BOUNDS.length ? BOUNDS[bucket] : -1;
+    }
+}
@@ -0,0 +1,82 @@
+package com.example.russianroulette.metrics;
+
+/**
+ * The plugin's counters and latency histograms.
+ * Everything is lock-free, so any thread can record and the exporter can read at any time.
+ */
+public class Metrics {
+
+    private final Counter[] counters;
+    private final Histogram[] timers;
+
+    public Metrics() {
+        this.counters = new Counter[CounterMetric.values().length];
+        for (int i = 0; i < counters.length; i++) {
+            counters[i] = new Counter();
+        }
+        this.timers = new Histogram[TimerMetric.values().length];
+        for (int i = 0; i < timers.length; i++) {
+            timers[i] = new Histogram();
+        }
+    }
+
+    public void increment(CounterMetric metric) {
+        counters[metric.ordinal()].increment();
+    }
+
+    public void add(CounterMetric metric, long amount) {
+        counters[metric.ordinal()].add(amount);
+    }
+
+    /**
+     * Record the time elapsed since a {@link System#nanoTime()} reading.
+     * 
+     * @param metric     Timer to record in
+     * @param startNanos Start time
+     */
+    public void observeSince(TimerMetric metric, long startNanos) {
+        timers[metric.ordinal()].observeSince(startNanos);
+    }
+
+    public Counter getCounter(CounterMetric metric) {
+        return counters[metric.ordinal()];
+    }
+
+    public Histogram getHistogram(TimerMetric metric) {
+        return timers[metric.ordinal()];
+    }
+
+    /**
+     * Append every counter and histogram in the Prometheus text format.
+     * 
+     * @param out Builder to append to
+     */
+    public void writePrometheus(StringBuilder out) {
+        for (CounterMetric metric : CounterMetric.values()) {
+            writeHeader(out, metric.getMetricName(), metric.getHelp(), "counter");
+            out.append(metric.getMetricName()).append(' ').append(getCounter(metric).get()).append('\n');
+        }
+
+        for (TimerMetric metric : TimerMetric.values()) {
+            if (metric.getHelp() != null) {
+                writeHeader(out, metric.getMetricName(), metric.getHelp(), "histogram");
+            }
+
+            String labels = metric.getMethod() != null ? "method=\"" + metric.getMethod() + "\"" : "";
+            getHistogram(metric).writePrometheus(out, metric.getMetricName(), labels);
+        }
+    }
+
+    /**
+     * Append the HELP and TYPE lines of a metric.
+     * 
+     * @param out  Builder to append to
+     * @param name Metric name
+     * @param help Description
+     * @param type Prometheus type
+     */
+    public static void writeHeader(StringBuilder out, String name, String help, String type) {
+        out.append("# HELP ").append(name).append(' ').append(help).append('\n');
+        out.append("# TYPE ").append(name).append(' ').append(type).append('\n');
+    }
+}
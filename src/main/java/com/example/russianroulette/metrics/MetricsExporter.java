@@ -0,0 +1,129 @@
+package com.example.russianroulette.metrics;
+
+import com.example.russianroulette.RussianRoulettePlugin;
+import com.example.russianroulette.engine.ClockTask;
+import com.example.russianroulette.game.Game;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+
+/**
+ * Periodically writes the metrics to a Prometheus text file, e.g. for the node exporter's
+ * textfile collector. The file is rendered and replaced atomically on a background thread.
+ */
+public class MetricsExporter {
+
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 10L;
+
+    private final RussianRoulettePlugin plugin;
+    private final Metrics metrics;
+    private final ExecutorService writer;
+
+    private Path file;
+    private ClockTask exportTask;
+
+    public MetricsExporter(RussianRoulettePlugin plugin, Metrics metrics) {
+        this.plugin = plugin;
+        this.metrics = metrics;
+        this.writer = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "RussianRoulette-Metrics");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Start exporting, if enabled in the config.
+     */
+    public void start() {
+        if (!plugin.getConfigManager().isMetricsExportEnabled()) {
+            return;
+        }
+
+        file = plugin.getDataFolder().toPath().resolve(plugin.getConfigManager().getMetricsFile());
+        long period = plugin.getConfigManager().getMetricsExportInterval() * 20L;
+        exportTask = plugin.getTickScheduler().scheduleRepeating("metrics-export", period, period, this::export);
+    }
+
+    /**
+     * Read the gauges on the main thread and hand the rest to the writer.
+     */
+    private void export() {
+        int activeGames = 0;
+        int players = 0;
+        for (Game game : plugin.getGameManager().getActiveGames()) {
+            activeGames++;
+            players += game.getPlayerCount();
+        }
+        long[] gauges = {
+                activeGames,
+                players,
+                plugin.getTickScheduler().getPendingCount(),
+                plugin.getWorkQueue().size()
+        };
+
+        Path target = file;
+        writer.execute(() -> write(target, render(gauges)));
+    }
+
+    private String render(long[] gauges) {
+        StringBuilder out = new StringBuilder(8192);
+        metrics.writePrometheus(out);
+        plugin.getTickScheduler().getProfiler().writePrometheus(out);
+        writeGauge(out, "rr_active_games", "Games currently running, including ones being torn down", gauges[0]);
+        writeGauge(out, "rr_players_in_games", "Players seated at a table", gauges[1]);
+        writeGauge(out, "rr_scheduler_pending_tasks", "Tasks scheduled on the plugin's tick scheduler", gauges[2]);
+        writeGauge(out, "rr_work_queue_pending", "Teardown jobs waiting on the work queue", gauges[3]);
+        return out.toString();
+    }
+
+    private static void writeGauge(StringBuilder out, String name, String help, long value) {
+        Metrics.writeHeader(out, name, help, "gauge");
+        out.append(name).append(' ').append(value).append('\n');
+    }
+
+    private void write(Path target, String text) {
+        try {
+            Files.createDirectories(target.toAbsolutePath().getParent());
+            // Written next to the target so a scraper never sees a half-written file
+            Path temp = target.resolveSibling(target.getFileName() + ".tmp");
+            Files.write(temp, text.getBytes(StandardCharsets.UTF_8));
+
+            try {
+                Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } catch (IOException e) {
+            plugin.getLogger().log(Level.WARNING, "Could not write metrics to " + target, e);
+        }
+    }
+
+    /**
+     * Write the final numbers and wait for the writer to finish. Only ever blocks at shutdown.
+     */
+    public void shutdown() {
+        if (exportTask != null) {
+            exportTask.cancel();
+            exportTask = null;
+            export();
+        }
+
+        writer.shutdown();
+        try {
+            if (!writer.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                plugin.getLogger().warning("Metrics were not written in time!");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
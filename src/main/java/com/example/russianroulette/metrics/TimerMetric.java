@@ -0,0 +1,53 @@
+package com.example.russianroulette.metrics;
+
+/**
+ * Latency histograms the plugin keeps. Timers sharing a Prometheus name
+ * form one family, told apart by their method label.
+ */
+public enum TimerMetric {
+    TRIGGER("rr_trigger_seconds", null, "Time from a trigger pull to its outcome being handled"),
+    GAME_JOIN("rr_game_method_seconds", "join", "Time spent in game methods"),
+    GAME_LEAVE("rr_game_method_seconds", "leave", null),
+    GAME_START("rr_game_method_seconds", "start", null),
+    GAME_BEGIN("rr_game_method_seconds", "begin", null),
+    GAME_TURN_START("rr_game_method_seconds", "turn_start", null),
+    GAME_TURN_TICK("rr_game_method_seconds", "turn_tick", null),
+    GAME_DEATH("rr_game_method_seconds", "death", null),
+    GAME_SURVIVAL("rr_game_method_seconds", "survival", null),
+    GAME_ELIMINATE("rr_game_method_seconds", "eliminate", null),
+    GAME_WINNER("rr_game_method_seconds", "winner", null),
+    GAME_CLEANUP("rr_game_method_seconds", "cleanup", null),
+    GAME_SCOREBOARD("rr_game_method_seconds", "scoreboard", null);
+
+    private final String metricName;
+    private final String method;
+    // Only set on the first timer of a family
+    private final String help;
+
+    TimerMetric(String metricName, String method, String help) {
+        this.metricName = metricName;
+        this.method = method;
+        this.help = help;
+    }
+
+    public String getMetricName() {
+        return metricName;
+    }
+
+    public String getMethod() {
+        return method;
+    }
+
+    public String getHelp() {
+        return help;
+    }
+
+    /**
+     * Get a short name for display, e.g. in /rr metrics.
+     * 
+     * @return The method label, or the metric name for timers without one
+     */
+    public String getDisplayName() {
+        return method != null ? method : metricName;
+    }
+}
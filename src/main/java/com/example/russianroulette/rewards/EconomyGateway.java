@@ -0,0 +1,148 @@
+package com.example.russianroulette.rewards;
+
+import com.example.russianroulette.RussianRoulettePlugin;
+import net.milkbowl.vault.economy.Economy;
+import net.milkbowl.vault.economy.EconomyResponse;
+import org.bukkit.Bukkit;
+import org.bukkit.OfflinePlayer;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.logging.Level;
+
+/**
+ * Runs Vault transactions on a background thread so a database-backed
+ * economy never stalls the tick. Transactions run one at a time in
+ * submission order; results are handed back on the plugin's scheduler thread:
+ * the main thread on Paper, the global region thread on Folia.
+ * A settlement that pays several players is a single queued job.
+ */
+public class EconomyGateway {
+
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 10L;
+
+    private final RussianRoulettePlugin plugin;
+    private final Economy economy;
+    private final ExecutorService worker;
+
+    public EconomyGateway(RussianRoulettePlugin plugin, Economy economy) {
+        this.plugin = plugin;
+        this.economy = economy;
+        this.worker = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "RussianRoulette-Economy");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Withdraw money if the player can afford it.
+     * 
+     * @param playerId Player to charge
+     * @param amount   Amount to withdraw
+     * @param callback Called on the plugin's scheduler thread with true if the money was taken
+     */
+    public void withdraw(UUID playerId, double amount, Consumer<Boolean> callback) {
+        submit(() -> {
+            OfflinePlayer player = Bukkit.getOfflinePlayer(playerId);
+            if (!economy.has(player, amount)) {
+                return false;
+            }
+            return succeeded(economy.withdrawPlayer(player, amount), playerId, "withdraw");
+        }, orFalse(callback));
+    }
+
+    /**
+     * Deposit money.
+     * 
+     * @param playerId Player to pay
+     * @param amount   Amount to deposit
+     * @param callback Called on the plugin's scheduler thread with true if the money was paid, may be null
+     */
+    public void deposit(UUID playerId, double amount, Consumer<Boolean> callback) {
+        submit(() -> succeeded(economy.depositPlayer(Bukkit.getOfflinePlayer(playerId), amount),
+                playerId, "deposit"), orFalse(callback));
+    }
+
+    /**
+     * Deposit money to several players in one job.
+     * 
+     * @param payouts  Player UUID -> amount
+     * @param callback Called once on the plugin's scheduler thread with the players that were paid, may be null
+     */
+    public void depositAll(Map<UUID, Double> payouts, Consumer<Map<UUID, Double>> callback) {
+        Map<UUID, Double> batch = new HashMap<>(payouts);
+        submit(() -> {
+            Map<UUID, Double> paid = new HashMap<>();
+            for (Map.Entry<UUID, Double> entry : batch.entrySet()) {
+                try {
+                    EconomyResponse response = economy.depositPlayer(
+                            Bukkit.getOfflinePlayer(entry.getKey()), entry.getValue());
+                    if (succeeded(response, entry.getKey(), "deposit")) {
+                        paid.put(entry.getKey(), entry.getValue());
+                    }
+                } catch (RuntimeException e) {
+                    // Keep paying the rest
+                    plugin.getLogger().log(Level.SEVERE, "Economy deposit failed for " + entry.getKey(), e);
+                }
+            }
+            return paid;
+        }, callback != null ? paid -> callback.accept(paid != null ? paid : new HashMap<>()) : null);
+    }
+
+    private <T> void submit(Transaction<T> transaction, Consumer<T> callback) {
+        worker.execute(() -> {
+            T result;
+            try {
+                result = transaction.run();
+            } catch (RuntimeException e) {
+                plugin.getLogger().log(Level.SEVERE, "Economy transaction failed", e);
+                result = null;
+            }
+
+            if (callback != null) {
+                T delivered = result;
+                plugin.getTickScheduler().executeOnOwner(() -> callback.accept(delivered));
+            }
+        });
+    }
+
+    private static Consumer<Boolean> orFalse(Consumer<Boolean> callback) {
+        // A transaction that threw counts as failed
+        return callback != null ? result -> callback.accept(Boolean.TRUE.equals(result)) : null;
+    }
+
+    private boolean succeeded(EconomyResponse response, UUID playerId, String action) {
+        if (response != null && response.transactionSuccess()) {
+            return true;
+        }
+        plugin.getLogger().warning("Economy " + action + " for " + playerId + " failed: "
+                + (response != null ? response.errorMessage : "no response"));
+        return false;
+    }
+
+    /**
+     * Finish queued transactions and stop the worker.
+     * Only ever blocks at shutdown.
+     */
+    public void shutdown() {
+        worker.shutdown();
+        try {
+            if (!worker.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                plugin.getLogger().warning("Economy transactions did not finish in time!");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @FunctionalInterface
+    private interface Transaction<T> {
+        T run();
+    }
+}
@@ -0,0 +1,451 @@
+package com.example.russianroulette.rewards;
+
+import org.bukkit.inventory.ItemStack;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Append-only journal of every stake held in a pot, so a crash never loses a bet.
+ * Money is journaled before it is withdrawn and each payout before it is deposited,
+ * then confirmed once the economy answers; items are journaled when they are
+ * credited to a pot. Each pot is closed once it is paid out or refunded.
+ * On startup every stake that was never closed is refunded to its owner.
+ * An economy transaction still pending at the crash is assumed to have gone
+ * through, since it is submitted right after being journaled: a pending withdrawal
+ * is refunded and a pot with a pending payout counts as paid. Both are logged.
+ * Appending only queues a line; a writer thread writes queued lines
+ * in batches and syncs once per batch.
+ * Lines are tab separated:
+ * {@code WITHDRAW game player name amount}, then {@code TAKEN game player} or {@code VOID game player},
+ * {@code BET game player name amount} (written by compaction), {@code ITEMS game player name item,item...},
+ * {@code RELEASE game player}, {@code PAYOUT game player name amount}, {@code UNPAID game}
+ * and {@code CLOSE game}.
+ */
+public class EscrowJournal {
+
+    private static final long SHUTDOWN_TIMEOUT_MILLIS = 10_000L;
+
+    private final Logger logger;
+    private final Path file;
+    private final BlockingQueue<String> queue;
+
+    // Games with stakes in the journal, so games without bets don't log a close
+    private final Set<UUID> openGames;
+    // Stakes recovered from the last run, by game then player
+    private final Map<UUID, Map<UUID, Stake>> recovered;
+    // Payouts from the last run that were never confirmed, by game
+    private final Map<UUID, String> pendingPayouts;
+
+    private FileChannel channel;
+    private Thread writer;
+    private volatile boolean running;
+
+    public EscrowJournal(Logger logger, Path file) {
+        this.logger = logger;
+        this.file = file;
+        this.queue = new LinkedBlockingQueue<>();
+        this.openGames = new HashSet<>();
+        this.recovered = new LinkedHashMap<>();
+        this.pendingPayouts = new LinkedHashMap<>();
+    }
+
+    /**
+     * Replay the journal, keep the stakes that were never closed, compact the file
+     * and start appending. Called once at startup, before any bet is taken.
+     * 
+     * @return Stakes left open by the last run, by game then player
+     */
+    public Map<UUID, Map<UUID, Stake>> open() throws IOException {
+        Files.createDirectories(file.toAbsolutePath().getParent());
+        if (Files.exists(file)) {
+            replay();
+        }
+        settlePending();
+        compact();
+
+        channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.APPEND);
+        running = true;
+        writer = new Thread(this::writeLoop, "RussianRoulette-Escrow");
+        writer.setDaemon(true);
+        writer.start();
+
+        openGames.addAll(recovered.keySet());
+        return recovered;
+    }
+
+    private void replay() throws IOException {
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            String line;
+            int lineNumber = 0;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isEmpty()) {
+                    continue;
+                }
+
+                try {
+                    apply(line.split("\t"));
+                } catch (IllegalArgumentException | ArrayIndexOutOfBoundsException e) {
+                    // Most likely a line torn by the crash we're recovering from
+                    logger.warning("Skipping malformed escrow journal line " + lineNumber);
+                }
+            }
+        }
+    }
+
+    private void apply(String[] parts) {
+        UUID gameId = UUID.fromString(parts[1]);
+        switch (parts[0]) {
+            case "WITHDRAW": {
+                double amount = Double.parseDouble(parts[4]);
+                Stake stake = stake(gameId, UUID.fromString(parts[2]), parts[3]);
+                stake.money += amount;
+                stake.pending += amount;
+                break;
+            }
+            case "TAKEN": {
+                Stake stake = findStake(gameId, UUID.fromString(parts[2]));
+                if (stake != null) {
+                    stake.pending = 0;
+                }
+                break;
+            }
+            case "VOID": {
+                UUID playerId = UUID.fromString(parts[2]);
+                Stake stake = findStake(gameId, playerId);
+                if (stake != null) {
+                    stake.money -= stake.pending;
+                    stake.pending = 0;
+                    if (stake.money == 0 && stake.items.isEmpty()) {
+                        removeStake(gameId, playerId);
+                    }
+                }
+                break;
+            }
+            case "BET": {
+                // Parsed before touching the stake, so a torn line adds nothing
+                double amount = Double.parseDouble(parts[4]);
+                stake(gameId, UUID.fromString(parts[2]), parts[3]).money += amount;
+                break;
+            }
+            case "ITEMS": {
+                // Decode everything before touching the stake, so a torn line adds nothing
+                List<byte[]> items = new ArrayList<>();
+                for (String item : parts[4].split(",")) {
+                    items.add(Base64.getDecoder().decode(item));
+                }
+                stake(gameId, UUID.fromString(parts[2]), parts[3]).items.addAll(items);
+                break;
+            }
+            case "RELEASE":
+                removeStake(gameId, UUID.fromString(parts[2]));
+                break;
+            case "PAYOUT":
+                pendingPayouts.put(gameId, parts[4] + " to " + parts[3]);
+                break;
+            case "UNPAID":
+                pendingPayouts.remove(gameId);
+                break;
+            case "CLOSE":
+                recovered.remove(gameId);
+                pendingPayouts.remove(gameId);
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown record " + parts[0]);
+        }
+    }
+
+    private Stake stake(UUID gameId, UUID playerId, String playerName) {
+        return recovered.computeIfAbsent(gameId, id -> new LinkedHashMap<>())
+                .computeIfAbsent(playerId, id -> new Stake(playerId, playerName));
+    }
+
+    private Stake findStake(UUID gameId, UUID playerId) {
+        Map<UUID, Stake> stakes = recovered.get(gameId);
+        return stakes != null ? stakes.get(playerId) : null;
+    }
+
+    private void removeStake(UUID gameId, UUID playerId) {
+        Map<UUID, Stake> stakes = recovered.get(gameId);
+        if (stakes != null) {
+            stakes.remove(playerId);
+            if (stakes.isEmpty()) {
+                recovered.remove(gameId);
+            }
+        }
+    }
+
+    /**
+     * Decide the economy transactions the crash left unanswered.
+     */
+    private void settlePending() {
+        for (Map.Entry<UUID, String> payout : pendingPayouts.entrySet()) {
+            // The deposit went out right after its record, so the pot is most likely paid
+            logger.warning("Payout of " + payout.getValue() + " in game " + payout.getKey()
+                    + " was never confirmed, assuming it was paid and not refunding that pot");
+            recovered.remove(payout.getKey());
+        }
+        pendingPayouts.clear();
+
+        for (Map.Entry<UUID, Map<UUID, Stake>> game : recovered.entrySet()) {
+            for (Stake stake : game.getValue().values()) {
+                if (stake.pending != 0) {
+                    logger.warning("Withdrawal of " + stake.pending + " from " + stake.playerName + " in game "
+                            + game.getKey() + " was never confirmed, refunding it as if it was taken");
+                    stake.pending = 0;
+                }
+            }
+        }
+    }
+
+    /**
+     * Rewrite the journal with only the open stakes.
+     */
+    private void compact() throws IOException {
+        Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+        try (BufferedWriter out = Files.newBufferedWriter(temp, StandardCharsets.UTF_8)) {
+            for (Map.Entry<UUID, Map<UUID, Stake>> game : recovered.entrySet()) {
+                for (Stake stake : game.getValue().values()) {
+                    if (stake.money != 0) {
+                        out.write(betLine(game.getKey(), stake.playerId, stake.playerName, stake.money));
+                    }
+                    if (!stake.items.isEmpty()) {
+                        out.write(itemsLine(game.getKey(), stake.playerId, stake.playerName, stake.items));
+                    }
+                }
+            }
+        }
+
+        try {
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Record money about to be withdrawn for a pot. Call before submitting the withdrawal,
+     * then {@link #confirmWithdraw} or {@link #voidWithdraw} once the economy answers.
+     */
+    public void recordWithdraw(UUID gameId, UUID playerId, String playerName, double amount) {
+        openGames.add(gameId);
+        append("WITHDRAW\t" + gameId + "\t" + playerId + "\t" + playerName + "\t" + amount + "\n");
+    }
+
+    /**
+     * Record that a withdrawal went through. The money stays at stake until released or closed.
+     */
+    public void confirmWithdraw(UUID gameId, UUID playerId) {
+        if (openGames.contains(gameId)) {
+            append("TAKEN\t" + gameId + "\t" + playerId + "\n");
+        }
+    }
+
+    /**
+     * Record that a withdrawal failed, so nothing was taken.
+     */
+    public void voidWithdraw(UUID gameId, UUID playerId) {
+        if (openGames.contains(gameId)) {
+            append("VOID\t" + gameId + "\t" + playerId + "\n");
+        }
+    }
+
+    /**
+     * Record items added to a pot.
+     * 
+     * @param items Serialized items, as kept in the {@link ItemPot}
+     */
+    public void recordItemBet(UUID gameId, UUID playerId, String playerName, List<byte[]> items) {
+        if (items.isEmpty()) {
+            return;
+        }
+        openGames.add(gameId);
+        append(itemsLine(gameId, playerId, playerName, items));
+    }
+
+    /**
+     * Record that one player's stake in a game was returned.
+     */
+    public void release(UUID gameId, UUID playerId) {
+        if (openGames.contains(gameId)) {
+            append("RELEASE\t" + gameId + "\t" + playerId + "\n");
+        }
+    }
+
+    /**
+     * Record a payout about to be deposited. Call before submitting the deposit, then
+     * {@link #close} once it was paid or {@link #payoutFailed} if it wasn't.
+     */
+    public void recordPayout(UUID gameId, UUID playerId, String playerName, double amount) {
+        if (openGames.contains(gameId)) {
+            append("PAYOUT\t" + gameId + "\t" + playerId + "\t" + playerName + "\t" + amount + "\n");
+        }
+    }
+
+    /**
+     * Record that a payout failed. The pot stays open, so the next start refunds it.
+     */
+    public void payoutFailed(UUID gameId) {
+        if (openGames.contains(gameId)) {
+            append("UNPAID\t" + gameId + "\n");
+        }
+    }
+
+    /**
+     * Record that a pot was paid out, refunded or kept by the house.
+     */
+    public void close(UUID gameId) {
+        if (openGames.remove(gameId)) {
+            append("CLOSE\t" + gameId + "\n");
+        }
+    }
+
+    private void append(String line) {
+        if (running) {
+            queue.add(line);
+        }
+    }
+
+    private static String betLine(UUID gameId, UUID playerId, String playerName, double amount) {
+        return "BET\t" + gameId + "\t" + playerId + "\t" + playerName + "\t" + amount + "\n";
+    }
+
+    private static String itemsLine(UUID gameId, UUID playerId, String playerName, List<byte[]> items) {
+        StringBuilder line = new StringBuilder("ITEMS\t").append(gameId).append('\t').append(playerId)
+                .append('\t').append(playerName).append('\t');
+        for (int i = 0; i < items.size(); i++) {
+            if (i > 0) {
+                line.append(',');
+            }
+            line.append(Base64.getEncoder().encodeToString(items.get(i)));
+        }
+        return line.append('\n').toString();
+    }
+
+    private void writeLoop() {
+        List<String> batch = new ArrayList<>();
+        StringBuilder text = new StringBuilder();
+        while (running || !queue.isEmpty()) {
+            try {
+                String first = queue.poll(100L, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+            } catch (InterruptedException e) {
+                // Shutdown is signalled through running; keep draining
+                continue;
+            }
+            queue.drainTo(batch);
+
+            for (String line : batch) {
+                text.append(line);
+            }
+            try {
+                ByteBuffer buffer = ByteBuffer.wrap(text.toString().getBytes(StandardCharsets.UTF_8));
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+                // One sync per batch, not per bet
+                channel.force(false);
+            } catch (IOException e) {
+                logger.log(Level.SEVERE, "Could not write " + batch.size()
+                        + " escrow journal records", e);
+            }
+            batch.clear();
+            text.setLength(0);
+        }
+    }
+
+    /**
+     * Write everything still queued and close the file.
+     */
+    public void shutdown() {
+        if (writer == null) {
+            return;
+        }
+
+        running = false;
+        try {
+            writer.join(SHUTDOWN_TIMEOUT_MILLIS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (writer.isAlive()) {
+            logger.warning("Escrow journal did not finish writing in time!");
+        }
+        writer = null;
+
+        try {
+            channel.close();
+        } catch (IOException e) {
+            logger.log(Level.WARNING, "Could not close escrow journal", e);
+        }
+    }
+
+    /**
+     * One player's stake in one pot.
+     */
+    public static final class Stake {
+        private final UUID playerId;
+        private final String playerName;
+        private double money;
+        // Part of money whose withdrawal was never confirmed
+        private double pending;
+        private final List<byte[]> items = new ArrayList<>();
+
+        private Stake(UUID playerId, String playerName) {
+            this.playerId = playerId;
+            this.playerName = playerName;
+        }
+
+        public UUID getPlayerId() {
+            return playerId;
+        }
+
+        public String getPlayerName() {
+            return playerName;
+        }
+
+        public double getMoney() {
+            return money;
+        }
+
+        /**
+         * Deserialize the staked items.
+         * 
+         * @return Fresh item stacks
+         */
+        public List<ItemStack> getItems() {
+            return ItemPot.deserialize(items);
+        }
+
+        public boolean hasItems() {
+            return !items.isEmpty();
+        }
+    }
+}
@@ -0,0 +1,216 @@
+package com.example.russianroulette.rewards;
+
+import com.example.russianroulette.RussianRoulettePlugin;
+import com.example.russianroulette.engine.ClockTask;
+import com.example.russianroulette.scheduler.Platform;
+import com.example.russianroulette.scheduler.TickScheduler;
+import org.bukkit.entity.Player;
+import org.bukkit.inventory.ItemStack;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Hands out payouts and refunds a few stacks per tick.
+ * Identical items are merged into full stacks first, and whatever doesn't
+ * fit in the inventory goes to the player's {@link ItemStash} instead of the ground.
+ * Deliveries take turns, so one big pot doesn't hold up everyone else's.
+ * On Folia each stack is added on the player's thread and what didn't fit comes back
+ * to the plugin's scheduler, so a delivery completes once its last stack is back.
+ */
+public class ItemDelivery {
+
+    private final RussianRoulettePlugin plugin;
+    private final ItemStash stash;
+    private final Deque<Delivery> queue;
+
+    private ClockTask task;
+
+    public ItemDelivery(RussianRoulettePlugin plugin, ItemStash stash) {
+        this.plugin = plugin;
+        this.stash = stash;
+        this.queue = new ArrayDeque<>();
+    }
+
+    /**
+     * Queue items for a player.
+     * 
+     * @param playerId   Player to give the items to
+     * @param items      Items to give
+     * @param onComplete Run once every item is in the inventory or the stash, may be null
+     */
+    public void deliver(UUID playerId, List<ItemStack> items, Runnable onComplete) {
+        queue.add(new Delivery(playerId, merge(items), onComplete));
+        if (task == null) {
+            task = plugin.getTickScheduler().scheduleRepeating("item-delivery", 0L, 1L, this::tick);
+        }
+    }
+
+    private void tick() {
+        int budget = plugin.getConfigManager().getPayoutStacksPerTick();
+        while (budget > 0 && !queue.isEmpty()) {
+            Delivery delivery = queue.poll();
+            if (deliverNext(delivery)) {
+                // Every stack counts, including the one that completes a delivery
+                budget--;
+            }
+            if (!delivery.items.isEmpty()) {
+                queue.add(delivery);
+            }
+        }
+
+        if (queue.isEmpty() && task != null) {
+            task.cancel();
+            task = null;
+        }
+    }
+
+    /**
+     * Give the next stack of a delivery, completing it if that was the last one.
+     * 
+     * @return true if a stack was given
+     */
+    private boolean deliverNext(Delivery delivery) {
+        Player player = plugin.getServer().getPlayer(delivery.playerId);
+        if (player == null) {
+            // Gone, everything left waits in the stash
+            delivery.overflow.addAll(delivery.items);
+            delivery.items.clear();
+        }
+
+        ItemStack item = delivery.items.poll();
+        if (item != null) {
+            give(delivery, player, item);
+        }
+
+        // Otherwise the last stack to come back completes it
+        if (delivery.items.isEmpty() && delivery.inFlight == 0) {
+            complete(delivery, player);
+        }
+        return item != null;
+    }
+
+    private void give(Delivery delivery, Player player, ItemStack item) {
+        if (!Platform.isFolia()) {
+            Map<Integer, ItemStack> left = player.getInventory().addItem(item);
+            delivery.overflow.addAll(left.values());
+            return;
+        }
+
+        delivery.inFlight++;
+        TickScheduler scheduler = plugin.getTickScheduler();
+        Platform.runFor(plugin, player, () -> {
+            Collection<ItemStack> left = player.getInventory().addItem(item).values();
+            scheduler.execute(() -> returned(delivery, left));
+        }, () -> scheduler.execute(() -> returned(delivery, Collections.singletonList(item))));
+    }
+
+    private void returned(Delivery delivery, Collection<ItemStack> left) {
+        delivery.overflow.addAll(left);
+        delivery.inFlight--;
+        if (delivery.inFlight == 0 && delivery.items.isEmpty()) {
+            complete(delivery, plugin.getServer().getPlayer(delivery.playerId));
+        }
+    }
+
+    private void complete(Delivery delivery, Player player) {
+        if (delivery.completed) {
+            return;
+        }
+        delivery.completed = true;
+
+        if (!delivery.overflow.isEmpty()) {
+            stash.add(delivery.playerId, delivery.overflow);
+            if (player != null) {
+                player.sendMessage(plugin.getConfigManager().getMessage("itemsStashed",
+                        "count", delivery.overflow.size()));
+            }
+        }
+
+        if (delivery.onComplete != null) {
+            delivery.onComplete.run();
+        }
+    }
+
+    /**
+     * Finish every queued delivery right away. Used at shutdown.
+     * On Folia the players' threads may not run again, so everything goes to the stash.
+     */
+    public void drain() {
+        if (task != null) {
+            task.cancel();
+            task = null;
+        }
+
+        Delivery delivery;
+        while ((delivery = queue.poll()) != null) {
+            if (Platform.isFolia()) {
+                delivery.overflow.addAll(delivery.items);
+                delivery.items.clear();
+                if (delivery.inFlight == 0) {
+                    complete(delivery, null);
+                }
+                continue;
+            }
+
+            while (deliverNext(delivery)) {
+                // Keep going until this one is done
+            }
+        }
+    }
+
+    /**
+     * Merge similar items into as few stacks as possible.
+     * 
+     * @param items Items to merge
+     * @return Merged stacks
+     */
+    static List<ItemStack> merge(List<ItemStack> items) {
+        List<ItemStack> merged = new ArrayList<>(items.size());
+        for (ItemStack item : items) {
+            int amount = item.getAmount();
+            for (ItemStack stack : merged) {
+                if (amount == 0) {
+                    break;
+                }
+                if (stack.isSimilar(item) && stack.getAmount() < stack.getMaxStackSize()) {
+                    int moved = Math.min(amount, stack.getMaxStackSize() - stack.getAmount());
+                    stack.setAmount(stack.getAmount() + moved);
+                    amount -= moved;
+                }
+            }
+
+            while (amount > 0) {
+                ItemStack stack = item.clone();
+                int size = Math.min(amount, item.getMaxStackSize());
+                stack.setAmount(size);
+                merged.add(stack);
+                amount -= size;
+            }
+        }
+        return merged;
+    }
+
+    private static final class Delivery {
+        private final UUID playerId;
+        private final Deque<ItemStack> items;
+        private final List<ItemStack> overflow;
+        private final Runnable onComplete;
+        // Stacks handed to the player's thread that haven't come back yet
+        private int inFlight;
+        private boolean completed;
+
+        private Delivery(UUID playerId, List<ItemStack> items, Runnable onComplete) {
+            this.playerId = playerId;
+            this.items = new ArrayDeque<>(items);
+            this.overflow = new ArrayList<>();
+            this.onComplete = onComplete;
+        }
+    }
+}
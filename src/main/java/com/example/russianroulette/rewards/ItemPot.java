@@ -0,0 +1,89 @@
+package com.example.russianroulette.rewards;
+
+import org.bukkit.inventory.ItemStack;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * The items staked in one game, kept in serialized form.
+ * Stakes sit in the pot for the whole game, so they are stored as bytes
+ * instead of live item stacks and only turned back into items to be handed out.
+ */
+public class ItemPot {
+
+    // Player UUID -> serialized items they bet
+    private final Map<UUID, List<byte[]>> stakes;
+
+    public ItemPot() {
+        this.stakes = new LinkedHashMap<>();
+    }
+
+    /**
+     * Add a player's stake.
+     * 
+     * @param playerId Player who bet
+     * @param items    Items they bet
+     * @return The serialized items, e.g. for the escrow journal
+     */
+    public List<byte[]> add(UUID playerId, List<ItemStack> items) {
+        List<byte[]> data = serialize(items);
+        stakes.computeIfAbsent(playerId, id -> new ArrayList<>()).addAll(data);
+        return data;
+    }
+
+    /**
+     * Get one player's stake.
+     * 
+     * @param playerId Player who bet
+     * @return Fresh item stacks, empty if the player didn't bet
+     */
+    public List<ItemStack> getItems(UUID playerId) {
+        return deserialize(stakes.getOrDefault(playerId, Collections.emptyList()));
+    }
+
+    /**
+     * Get every item in the pot.
+     * 
+     * @return Fresh item stacks
+     */
+    public List<ItemStack> getAllItems() {
+        List<ItemStack> items = new ArrayList<>();
+        for (List<byte[]> data : stakes.values()) {
+            items.addAll(deserialize(data));
+        }
+        return items;
+    }
+
+    public Iterable<UUID> getPlayers() {
+        return stakes.keySet();
+    }
+
+    public int size() {
+        return stakes.size();
+    }
+
+    public boolean isEmpty() {
+        return stakes.isEmpty();
+    }
+
+    static List<byte[]> serialize(List<ItemStack> items) {
+        List<byte[]> data = new ArrayList<>(items.size());
+        for (ItemStack item : items) {
+            data.add(item.serializeAsBytes());
+        }
+        return data;
+    }
+
+    static List<ItemStack> deserialize(List<byte[]> data) {
+        List<ItemStack> items = new ArrayList<>(data.size());
+        for (byte[] bytes : data) {
+            items.add(ItemStack.deserializeBytes(bytes));
+        }
+        return items;
+    }
+}
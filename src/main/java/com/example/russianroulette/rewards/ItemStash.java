@@ -0,0 +1,227 @@
+package com.example.russianroulette.rewards;
+
+import com.example.russianroulette.RussianRoulettePlugin;
+import com.example.russianroulette.scheduler.Platform;
+import org.bukkit.entity.Player;
+import org.bukkit.inventory.ItemStack;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntConsumer;
+import java.util.logging.Level;
+
+/**
+ * Virtual per-player storage for items that didn't fit in an inventory.
+ * Players take them out with /rr claim. Saved to stash.tsv in the background
+ * whenever it changes, one line per player.
+ */
+public class ItemStash {
+
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 10L;
+
+    private final RussianRoulettePlugin plugin;
+    private final Path file;
+    private final ExecutorService writer;
+
+    // Player UUID -> serialized items, plugin scheduler thread only
+    private final Map<UUID, List<byte[]>> stash;
+    private boolean saveQueued;
+
+    public ItemStash(RussianRoulettePlugin plugin, Path file) {
+        this.plugin = plugin;
+        this.file = file;
+        this.writer = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "RussianRoulette-Stash");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.stash = new LinkedHashMap<>();
+    }
+
+    /**
+     * Load the stash. Called once at startup.
+     */
+    public void load() {
+        if (!Files.exists(file)) {
+            return;
+        }
+
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                String[] parts = line.split("\t");
+                if (parts.length != 2) {
+                    continue;
+                }
+
+                try {
+                    List<byte[]> items = new ArrayList<>();
+                    for (String item : parts[1].split(",")) {
+                        items.add(Base64.getDecoder().decode(item));
+                    }
+                    stash.put(UUID.fromString(parts[0]), items);
+                } catch (IllegalArgumentException e) {
+                    plugin.getLogger().warning("Skipping malformed stash entry " + parts[0]);
+                }
+            }
+        } catch (IOException e) {
+            plugin.getLogger().log(Level.SEVERE, "Could not load item stash", e);
+        }
+    }
+
+    /**
+     * Put items in a player's stash.
+     * 
+     * @param playerId Owner of the items
+     * @param items    Items to store
+     */
+    public void add(UUID playerId, List<ItemStack> items) {
+        if (items.isEmpty()) {
+            return;
+        }
+
+        stash.computeIfAbsent(playerId, id -> new ArrayList<>()).addAll(ItemPot.serialize(items));
+        queueSave();
+    }
+
+    /**
+     * Move as many stashed stacks into the player's inventory as fit.
+     * A claim never exceeds one inventory, so it runs in a single tick.
+     * The stacks are taken out here and put in on the player's thread; what didn't fit comes back.
+     * 
+     * @param player   Player claiming their items
+     * @param callback Called on the plugin's scheduler thread with the stacks left in the stash
+     */
+    public void claim(Player player, IntConsumer callback) {
+        List<byte[]> stored = stash.remove(player.getUniqueId());
+        if (stored == null) {
+            callback.accept(0);
+            return;
+        }
+
+        Platform.runFor(plugin, player, () -> {
+            List<byte[]> left = addToInventory(player, stored);
+            plugin.getTickScheduler().execute(() -> putBack(player.getUniqueId(), left, callback));
+        }, () -> plugin.getTickScheduler().execute(() -> putBack(player.getUniqueId(), stored, callback)));
+    }
+
+    private List<byte[]> addToInventory(Player player, List<byte[]> stored) {
+        List<byte[]> left = new ArrayList<>();
+        for (byte[] data : stored) {
+            // Once something didn't fit, keep the rest as bytes
+            if (!left.isEmpty()) {
+                left.add(data);
+                continue;
+            }
+
+            Map<Integer, ItemStack> overflow = player.getInventory().addItem(ItemStack.deserializeBytes(data));
+            for (ItemStack item : overflow.values()) {
+                left.add(item.serializeAsBytes());
+            }
+        }
+
+        return left;
+    }
+
+    private void putBack(UUID playerId, List<byte[]> left, IntConsumer callback) {
+        if (!left.isEmpty()) {
+            // Anything stashed meanwhile goes after the leftovers
+            List<byte[]> added = stash.put(playerId, left);
+            if (added != null) {
+                left.addAll(added);
+            }
+        }
+        queueSave();
+        callback.accept(getStackCount(playerId));
+    }
+
+    /**
+     * Get the number of stacks in a player's stash.
+     * 
+     * @param playerId Player UUID
+     * @return Stashed stacks
+     */
+    public int getStackCount(UUID playerId) {
+        List<byte[]> stored = stash.get(playerId);
+        return stored != null ? stored.size() : 0;
+    }
+
+    private void queueSave() {
+        if (saveQueued) {
+            return;
+        }
+
+        // Coalesce every change made this tick into one write
+        saveQueued = true;
+        plugin.getTickScheduler().schedule("stash-save", 1L, this::save);
+    }
+
+    private void save() {
+        saveQueued = false;
+        Map<UUID, List<byte[]>> copy = new HashMap<>();
+        for (Map.Entry<UUID, List<byte[]>> entry : stash.entrySet()) {
+            copy.put(entry.getKey(), new ArrayList<>(entry.getValue()));
+        }
+        writer.execute(() -> write(copy));
+    }
+
+    private void write(Map<UUID, List<byte[]>> contents) {
+        try {
+            Files.createDirectories(file.toAbsolutePath().getParent());
+            Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+            try (BufferedWriter out = Files.newBufferedWriter(temp, StandardCharsets.UTF_8)) {
+                for (Map.Entry<UUID, List<byte[]>> entry : contents.entrySet()) {
+                    out.write(entry.getKey().toString());
+                    out.write('\t');
+                    List<byte[]> items = entry.getValue();
+                    for (int i = 0; i < items.size(); i++) {
+                        if (i > 0) {
+                            out.write(',');
+                        }
+                        out.write(Base64.getEncoder().encodeToString(items.get(i)));
+                    }
+                    out.newLine();
+                }
+            }
+
+            try {
+                Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } catch (IOException e) {
+            plugin.getLogger().log(Level.SEVERE, "Could not save item stash", e);
+        }
+    }
+
+    /**
+     * Save and wait for the writer to finish. Only ever blocks at shutdown.
+     */
+    public void shutdown() {
+        save();
+        writer.shutdown();
+        try {
+            if (!writer.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                plugin.getLogger().warning("Item stash was not saved in time!");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,198 @@
+package com.example.russianroulette.rewards;
+
+import org.bukkit.Material;
+import org.bukkit.inventory.ItemStack;
+
+import java.util.Arrays;
+import java.util.Map;
+
+/**
+ * Prices items for item bets and plans which stacks to take.
+ * Values are looked up in a table indexed by material, and planning is a
+ * single pass over the inventory plus a sort of the few allowed stacks,
+ * so a bet costs the same however large the allowed item list is.
+ */
+public final class ItemValuator {
+
+    private static final Material[] MATERIALS = Material.values();
+
+    // Value of one item by material ordinal, 0 if the material can't be bet
+    private final int[] unitValues;
+    // Value added per enchantment level by material ordinal
+    private final int[] enchantmentValues;
+
+    public ItemValuator(Map<Material, Integer> unitValues, Map<Material, Integer> enchantmentValues) {
+        this.unitValues = toTable(unitValues);
+        this.enchantmentValues = toTable(enchantmentValues);
+    }
+
+    private static int[] toTable(Map<Material, Integer> values) {
+        int[] table = new int[MATERIALS.length];
+        for (Map.Entry<Material, Integer> entry : values.entrySet()) {
+            table[entry.getKey().ordinal()] = Math.max(0, entry.getValue());
+        }
+        return table;
+    }
+
+    /**
+     * Get the value of one item of a stack.
+     * 
+     * @param item Item to price
+     * @return Value per item, 0 if it can't be bet
+     */
+    public int getUnitValue(ItemStack item) {
+        if (item == null) {
+            return 0;
+        }
+
+        int ordinal = item.getType().ordinal();
+        int value = unitValues[ordinal];
+        if (value == 0) {
+            return 0;
+        }
+
+        int perLevel = enchantmentValues[ordinal];
+        if (perLevel > 0 && item.hasItemMeta()) {
+            for (int level : item.getEnchantments().values()) {
+                value += perLevel * level;
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Plan the stacks to take so their value reaches the minimum with as little
+     * overshoot as possible: whole units of the most valuable items first,
+     * then one unit of the cheapest item that covers the rest.
+     * 
+     * @param contents Inventory contents, indexed by slot
+     * @param minValue Value to reach
+     * @return The plan; check {@link BetPlan#isSufficient()}
+     */
+    public BetPlan plan(ItemStack[] contents, int minValue) {
+        int[] slots = new int[contents.length];
+        int[] values = new int[contents.length];
+        int[] available = new int[contents.length];
+        int count = 0;
+        int totalValue = 0;
+
+        // Single pass: collect every stack that can be bet, kept sorted by value, highest first
+        for (int slot = 0; slot < contents.length; slot++) {
+            ItemStack item = contents[slot];
+            int value = getUnitValue(item);
+            if (value == 0) {
+                continue;
+            }
+
+            int i = count++;
+            while (i > 0 && values[i - 1] < value) {
+                slots[i] = slots[i - 1];
+                values[i] = values[i - 1];
+                available[i] = available[i - 1];
+                i--;
+            }
+            slots[i] = slot;
+            values[i] = value;
+            available[i] = item.getAmount();
+            totalValue += value * item.getAmount();
+        }
+
+        BetPlan plan = new BetPlan(count, totalValue, totalValue >= minValue);
+        if (!plan.isSufficient()) {
+            return plan;
+        }
+
+        int remaining = minValue;
+        int[] taken = new int[count];
+        for (int i = 0; i < count && remaining > 0; i++) {
+            taken[i] = Math.min(available[i], remaining / values[i]);
+            remaining -= taken[i] * values[i];
+        }
+
+        if (remaining > 0) {
+            // Every stack with items left is worth more than what's missing, take the cheapest
+            for (int i = count - 1; i >= 0; i--) {
+                if (taken[i] < available[i]) {
+                    if (values[i] >= minValue) {
+                        // One of these covers the whole bet on its own
+                        Arrays.fill(taken, 0);
+                    }
+                    taken[i]++;
+                    break;
+                }
+            }
+        }
+
+        for (int i = 0; i < count; i++) {
+            if (taken[i] > 0) {
+                plan.add(slots[i], taken[i], values[i]);
+            }
+        }
+        return plan;
+    }
+
+    /**
+     * Stacks to take for a bet, by inventory slot.
+     */
+    public static final class BetPlan {
+        private final int[] slots;
+        private final int[] amounts;
+        private final int availableValue;
+        private final boolean sufficient;
+        private int size;
+        private int value;
+
+        private BetPlan(int capacity, int availableValue, boolean sufficient) {
+            this.slots = new int[capacity];
+            this.amounts = new int[capacity];
+            this.availableValue = availableValue;
+            this.sufficient = sufficient;
+        }
+
+        private void add(int slot, int amount, int unitValue) {
+            slots[size] = slot;
+            amounts[size] = amount;
+            size++;
+            value += amount * unitValue;
+        }
+
+        /**
+         * Check if the inventory holds enough value for the bet.
+         * 
+         * @return true if the plan reaches the minimum
+         */
+        public boolean isSufficient() {
+            return sufficient;
+        }
+
+        public int size() {
+            return size;
+        }
+
+        public int getSlot(int index) {
+            return slots[index];
+        }
+
+        public int getAmount(int index) {
+            return amounts[index];
+        }
+
+        /**
+         * Get the value of the planned stacks.
+         * 
+         * @return Value taken
+         */
+        public int getValue() {
+            return value;
+        }
+
+        /**
+         * Get the value of every item that could be bet.
+         * 
+         * @return Value available in the inventory
+         */
+        public int getAvailableValue() {
+            return availableValue;
+        }
+    }
+}
@@ -2,16 +2,29 @@ package com.example.russianroulette.rewards;
 
 import com.example.russianroulette.RussianRoulettePlugin;
 import com.example.russianroulette.config.ConfigManager;
+import com.example.russianroulette.config.ConfigSnapshot;
 import com.example.russianroulette.game.Game;
-import net.milkbowl.vault.economy.Economy;
-import org.bukkit.Material;
+import com.example.russianroulette.listeners.EscrowListener;
+import com.example.russianroulette.metrics.CounterMetric;
+import com.example.russianroulette.scheduler.Platform;
+import com.example.russianroulette.scheduler.TickScheduler;
 import org.bukkit.entity.Player;
+import org.bukkit.event.HandlerList;
 import org.bukkit.inventory.ItemStack;
 
+import java.io.IOException;
 import java.util.*;
+import java.util.function.IntConsumer;
+import java.util.function.Predicate;
+import java.util.logging.Level;
 
 /**
  * Manages the betting system and pot distribution for game winners.
+ * Money moves through the {@link EconomyGateway}, so bets are confirmed
+ * through callbacks on the plugin's scheduler thread instead of return values.
+ * Every stake is recorded in the {@link EscrowJournal} until its pot is settled.
+ * Pots, the stash and the journal belong to the plugin's {@link TickScheduler};
+ * calls from a game's thread hop there.
  */
 public class RewardManager {
 
@@ -20,122 +33,335 @@ public class RewardManager {
 
     // Track money pot per game
     private final Map<UUID, Double> gamePots;
-    // Track item bets per game (player UUID -> items they bet)
-    private final Map<UUID, Map<UUID, List<ItemStack>>> gameItemBets;
+    // What each player put into a game's pot: game UUID -> player UUID -> amount
+    private final Map<UUID, Map<UUID, Double>> moneyStakes;
+    // Track item bets per game, serialized
+    private final Map<UUID, ItemPot> gameItemBets;
+    private final ItemStash stash;
+    private final ItemDelivery delivery;
+
+    private final EscrowJournal journal;
+    // Items staked in games cut short by a crash: player UUID -> game UUID -> items
+    private final Map<UUID, Map<UUID, List<ItemStack>>> owedItems;
+    private EscrowListener escrowListener;
+
+    // Item valuator and the config snapshot it was built from
+    private ConfigSnapshot valuatorSnapshot;
+    private ItemValuator itemValuator;
 
     public RewardManager(RussianRoulettePlugin plugin) {
         this.plugin = plugin;
         this.config = plugin.getConfigManager();
         this.gamePots = new HashMap<>();
+        this.moneyStakes = new HashMap<>();
         this.gameItemBets = new HashMap<>();
+        this.stash = new ItemStash(plugin, plugin.getDataFolder().toPath().resolve("stash.tsv"));
+        this.delivery = new ItemDelivery(plugin, stash);
+        this.journal = new EscrowJournal(plugin.getLogger(), plugin.getDataFolder().toPath().resolve("escrow.log"));
+        this.owedItems = new HashMap<>();
+    }
+
+    /**
+     * Load the item stash, open the escrow journal and refund every stake left open by the last run.
+     * Money is deposited right away; items are returned when their owner next joins.
+     */
+    public void recoverEscrow() {
+        stash.load();
+
+        Map<UUID, Map<UUID, EscrowJournal.Stake>> orphaned;
+        try {
+            orphaned = journal.open();
+        } catch (IOException e) {
+            plugin.getLogger().log(Level.SEVERE, "Could not open escrow journal, bets will not survive a crash!", e);
+            return;
+        }
+
+        if (orphaned.isEmpty()) {
+            return;
+        }
+        plugin.getLogger().warning("Refunding stakes from " + orphaned.size() + " unfinished games");
+
+        EconomyGateway gateway = plugin.getEconomyGateway();
+        for (Map.Entry<UUID, Map<UUID, EscrowJournal.Stake>> game : orphaned.entrySet()) {
+            UUID gameId = game.getKey();
+            for (EscrowJournal.Stake stake : game.getValue().values()) {
+                UUID playerId = stake.getPlayerId();
+                if (stake.hasItems()) {
+                    oweItems(playerId, gameId, stake.getItems());
+                } else if (gateway != null) {
+                    gateway.deposit(playerId, stake.getMoney(), paid -> {
+                        if (paid) {
+                            journal.release(gameId, playerId);
+                            plugin.getStatsManager().recordMoneyBet(playerId, stake.getPlayerName(), -stake.getMoney());
+                        }
+                    });
+                } else {
+                    plugin.getLogger().warning("No economy to refund " + stake.getPlayerName()
+                            + ", keeping their stake for the next start");
+                }
+            }
+        }
+    }
+
+    private void oweItems(UUID playerId, UUID gameId, List<ItemStack> items) {
+        owedItems.computeIfAbsent(playerId, id -> new HashMap<>()).put(gameId, items);
+        if (escrowListener == null) {
+            escrowListener = new EscrowListener(plugin);
+            plugin.getServer().getPluginManager().registerEvents(escrowListener, plugin);
+        }
+    }
+
+    /**
+     * Return items staked in a game that was cut short by a crash.
+     * 
+     * @param player Player who just joined
+     */
+    public void returnOwedItems(Player player) {
+        Map<UUID, List<ItemStack>> owed = owedItems.remove(player.getUniqueId());
+        if (owed == null) {
+            return;
+        }
+
+        UUID playerId = player.getUniqueId();
+        for (Map.Entry<UUID, List<ItemStack>> entry : owed.entrySet()) {
+            UUID gameId = entry.getKey();
+            delivery.deliver(playerId, entry.getValue(), () -> journal.release(gameId, playerId));
+        }
+        player.sendMessage(config.getMessage("escrowItemsReturned"));
+
+        if (owedItems.isEmpty() && escrowListener != null) {
+            HandlerList.unregisterAll(escrowListener);
+            escrowListener = null;
+        }
+    }
+
+    /**
+     * Settle a game's pot if nothing else did, e.g. when the winner left
+     * before being paid. The house keeps what is left, as before.
+     * 
+     * @param game The game that ended
+     */
+    public void closePot(Game game) {
+        UUID gameId = game.getGameId();
+        plugin.getTickScheduler().execute(() -> {
+            if (gamePots.containsKey(gameId) || gameItemBets.containsKey(gameId)) {
+                cleanupGame(gameId);
+                journal.close(gameId);
+            }
+        });
+    }
+
+    /**
+     * Claim stashed items. Call on the plugin's scheduler thread.
+     * 
+     * @param player   Player claiming
+     * @param callback Called on the plugin's scheduler thread with the stacks left in the stash,
+     *                 or -1 if it was empty
+     */
+    public void claimStash(Player player, IntConsumer callback) {
+        if (stash.getStackCount(player.getUniqueId()) == 0) {
+            callback.accept(-1);
+            return;
+        }
+        stash.claim(player, callback);
+    }
+
+    /**
+     * Finish item deliveries, save the stash and close the journal.
+     */
+    public void shutdown() {
+        delivery.drain();
+        stash.shutdown();
+        journal.shutdown();
     }
 
     /**
      * Take bet from a player when they join a game.
+     * The stake is taken first and the seat decided on the game's thread; the seat
+     * predicate returns whether the player sat down, and if not the stake is returned.
      * 
      * @param player Player placing bet
      * @param game   Game they're joining
-     * @return true if bet was taken successfully
+     * @param seat   Called on the game's thread with true if the bet was taken; returns true if the player joined
      */
-    public boolean takeBet(Player player, Game game) {
+    public void takeBet(Player player, Game game, Predicate<Boolean> seat) {
         if (!config.isBettingEnabled()) {
-            return true; // No betting required
+            game.execute(() -> seat.test(true)); // No betting required
+            return;
         }
 
-        UUID gameId = game.getGameId();
-
         if (config.isMoneyBetting()) {
-            return takeMoneyBet(player, gameId);
+            takeMoneyBet(player, game, seat);
         } else {
-            return takeItemBet(player, gameId);
+            takeItemBet(player, game, seat);
         }
     }
 
     /**
      * Take money bet from player.
      */
-    private boolean takeMoneyBet(Player player, UUID gameId) {
+    private void takeMoneyBet(Player player, Game game, Predicate<Boolean> seat) {
         double amount = config.getBetAmount();
 
-        if (!plugin.hasEconomy()) {
+        EconomyGateway gateway = plugin.getEconomyGateway();
+        if (gateway == null) {
             plugin.getLogger().warning("Vault economy not available for betting!");
-            return true; // Allow joining without bet
-        }
-
-        Economy economy = plugin.getEconomy();
-
-        // Check if player has enough money
-        if (economy.getBalance(player) < amount) {
-            player.sendMessage(config.getMessage("insufficientFunds")
-                    .replace("%amount%", String.format("%.2f", amount)));
-            return false;
+            game.execute(() -> seat.test(true)); // Allow joining without bet
+            return;
         }
 
-        // Take the money
-        economy.withdrawPlayer(player, amount);
-
-        // Add to pot
-        gamePots.merge(gameId, amount, Double::sum);
-
-        player.sendMessage(config.getMessage("betTaken")
-                .replace("%amount%", String.format("%.2f", amount)));
+        UUID playerId = player.getUniqueId();
+        String playerName = player.getName();
+        UUID gameId = game.getGameId();
+        TickScheduler scheduler = plugin.getTickScheduler();
+        scheduler.execute(() -> {
+            // Journaled before the money moves, so a crash in flight refunds it
+            journal.recordWithdraw(gameId, playerId, playerName, amount);
+            gateway.withdraw(playerId, amount, taken -> {
+                if (!taken) {
+                    journal.voidWithdraw(gameId, playerId);
+                    player.sendMessage(config.getMessage("insufficientFunds",
+                            "amount", String.format("%.2f", amount)));
+                    game.execute(() -> seat.test(false));
+                    return;
+                }
+                journal.confirmWithdraw(gameId, playerId);
+
+                game.execute(() -> {
+                    // The game may have started or the player left while the money was in flight
+                    boolean seated = seat.test(true);
+                    scheduler.execute(() -> {
+                        if (!seated) {
+                            refundWithdraw(gameId, playerId, playerName, amount);
+                            return;
+                        }
+
+                        plugin.getStatsManager().recordMoneyBet(playerId, playerName, amount);
+
+                        // Add to pot
+                        gamePots.merge(gameId, amount, Double::sum);
+                        moneyStakes.computeIfAbsent(gameId, k -> new HashMap<>()).merge(playerId, amount, Double::sum);
+                        plugin.getMetrics().increment(CounterMetric.MONEY_BETS);
+
+                        player.sendMessage(config.getMessage("betTaken", "amount", String.format("%.2f", amount)));
+                    });
+                });
+            });
+        });
+    }
 
-        return true;
+    /**
+     * Give back money taken for a seat that was lost meanwhile.
+     */
+    private void refundWithdraw(UUID gameId, UUID playerId, String playerName, double amount) {
+        plugin.getEconomyGateway().deposit(playerId, amount, paid -> {
+            if (paid) {
+                journal.release(gameId, playerId);
+            } else {
+                // Still open in the journal, so the next start refunds it
+                plugin.getLogger().severe("Could not return " + String.format("%.2f", amount)
+                        + " to " + playerName + "!");
+            }
+        });
     }
 
     /**
      * Take item bet from player using configurable allowed items.
+     * The items are taken on the player's thread and put in the pot on the plugin's.
+     */
+    private void takeItemBet(Player player, Game game, Predicate<Boolean> seat) {
+        UUID playerId = player.getUniqueId();
+        Platform.runFor(plugin, player, () -> {
+            List<ItemStack> stake = removeItemBet(player);
+            game.execute(() -> {
+                boolean seated = seat.test(stake != null);
+                if (stake == null) {
+                    return;
+                }
+                plugin.getTickScheduler().execute(() -> {
+                    if (seated) {
+                        creditItemBet(player, game.getGameId(), stake);
+                    } else {
+                        // Gave up the seat meanwhile
+                        delivery.deliver(playerId, stake, null);
+                    }
+                });
+            });
+        }, () -> game.execute(() -> seat.test(false)));
+    }
+
+    /**
+     * Remove a bet from the player's inventory using configurable allowed items.
      * Player must have items from allowed list with total value >= minItemValue.
+     * 
+     * @return The items taken, or null if the player doesn't have enough
      */
-    private boolean takeItemBet(Player player, UUID gameId) {
-        Map<Material, Integer> allowedItems = config.getAllowedBetItems();
+    private List<ItemStack> removeItemBet(Player player) {
         int minValue = config.getMinItemValue();
-
-        // Collect player's allowed items and their values
-        List<ItemStack> itemsToTake = new ArrayList<>();
-        int totalValue = 0;
-
-        // Scan player inventory for allowed items
-        for (ItemStack item : player.getInventory().getContents()) {
-            if (item == null || item.getType() == Material.AIR)
-                continue;
-
-            Integer valuePerItem = allowedItems.get(item.getType());
-            if (valuePerItem != null) {
-                // Only take what we need to meet minimum
-                if (totalValue < minValue) {
-                    int needed = (int) Math.ceil((double) (minValue - totalValue) / valuePerItem);
-                    int take = Math.min(needed, item.getAmount());
-
-                    ItemStack toTake = item.clone();
-                    toTake.setAmount(take);
-                    itemsToTake.add(toTake);
-                    totalValue += valuePerItem * take;
-                }
-            }
-        }
+        ItemStack[] contents = player.getInventory().getContents();
+        ItemValuator.BetPlan plan = getItemValuator().plan(contents, minValue);
 
         // Check if player has enough value
-        if (totalValue < minValue) {
-            player.sendMessage(config.getMessage("insufficientItems")
-                    .replace("%value%", String.valueOf(totalValue))
-                    .replace("%required%", String.valueOf(minValue)));
-            return false;
+        if (!plan.isSufficient()) {
+            player.sendMessage(config.getMessage("insufficientItems",
+                    "value", plan.getAvailableValue(),
+                    "required", minValue));
+            return null;
         }
 
-        // Take the items from player
-        for (ItemStack itemToTake : itemsToTake) {
-            removeItems(player, itemToTake.getType(), itemToTake.getAmount());
+        // Take the planned items, by slot
+        List<ItemStack> itemsToTake = new ArrayList<>(plan.size());
+        for (int i = 0; i < plan.size(); i++) {
+            int slot = plan.getSlot(i);
+            int take = plan.getAmount(i);
+            ItemStack item = contents[slot];
+
+            ItemStack toTake = item.clone();
+            toTake.setAmount(take);
+            itemsToTake.add(toTake);
+
+            if (item.getAmount() > take) {
+                item.setAmount(item.getAmount() - take);
+                player.getInventory().setItem(slot, item);
+            } else {
+                player.getInventory().setItem(slot, null);
+            }
         }
 
-        // Store items for pot
-        gameItemBets.computeIfAbsent(gameId, k -> new HashMap<>())
-                .put(player.getUniqueId(), itemsToTake);
+        return itemsToTake;
+    }
 
-        player.sendMessage(config.getMessage("betItemsTaken")
-                .replace("%value%", String.valueOf(totalValue)));
+    /**
+     * Put items taken from a player into the game's pot.
+     */
+    private void creditItemBet(Player player, UUID gameId, List<ItemStack> itemsToTake) {
+        // Store items for pot
+        List<byte[]> stake = gameItemBets.computeIfAbsent(gameId, k -> new ItemPot())
+                .add(player.getUniqueId(), itemsToTake);
+        journal.recordItemBet(gameId, player.getUniqueId(), player.getName(), stake);
+        plugin.getMetrics().increment(CounterMetric.ITEM_BETS);
+
+        int value = 0;
+        ItemValuator valuator = getItemValuator();
+        for (ItemStack item : itemsToTake) {
+            value += valuator.getUnitValue(item) * item.getAmount();
+        }
+        player.sendMessage(config.getMessage("betItemsTaken", "value", value));
+    }
 
-        return true;
+    /**
+     * Get the valuator for the current config, rebuilding it after a reload.
+     * Used from players' threads on Folia, hence synchronized.
+     * 
+     * @return The item valuator
+     */
+    public synchronized ItemValuator getItemValuator() {
+        ConfigSnapshot snapshot = config.getSnapshot();
+        if (snapshot != valuatorSnapshot) {
+            itemValuator = new ItemValuator(snapshot.getAllowedBetItems(), snapshot.getBetEnchantmentValues());
+            valuatorSnapshot = snapshot;
+        }
+        return itemValuator;
     }
 
     /**
@@ -150,18 +376,16 @@ public class RewardManager {
         }
 
         UUID gameId = game.getGameId();
+        plugin.getTickScheduler().execute(() -> {
+            if (config.isMoneyBetting()) {
+                giveMoneyWinnings(winner, gameId);
+            } else {
+                giveItemWinnings(winner, gameId);
+            }
 
-        if (config.isMoneyBetting()) {
-            giveMoneyWinnings(winner, gameId);
-        } else {
-            giveItemWinnings(winner, gameId);
-        }
-
-        // Play winner effects
-        plugin.getEffectsManager().playWinnerEffects(winner);
-
-        // Clean up game data
-        cleanupGame(gameId);
+            // Clean up game data
+            cleanupGame(gameId);
+        });
     }
 
     /**
@@ -173,7 +397,8 @@ public class RewardManager {
             return;
         }
 
-        if (!plugin.hasEconomy()) {
+        EconomyGateway gateway = plugin.getEconomyGateway();
+        if (gateway == null) {
             return;
         }
 
@@ -181,32 +406,43 @@ public class RewardManager {
         double houseCut = config.getHouseCut();
         double winnings = pot * (1 - houseCut);
 
-        Economy economy = plugin.getEconomy();
-        economy.depositPlayer(winner, winnings);
+        UUID winnerId = winner.getUniqueId();
+        String winnerName = winner.getName();
+        // Journaled before the money moves, so a crash in flight doesn't refund a paid pot
+        journal.recordPayout(gameId, winnerId, winnerName, winnings);
+        gateway.deposit(winnerId, winnings, paid -> {
+            if (!paid) {
+                // Leave the pot open in the journal so the next start refunds it
+                journal.payoutFailed(gameId);
+                plugin.getLogger().severe("Could not pay " + String.format("%.2f", winnings)
+                        + " in winnings to " + winnerName + "!");
+                return;
+            }
 
-        winner.sendMessage(config.getMessage("winningsReceived")
-                .replace("%amount%", String.format("%.2f", winnings)));
+            journal.close(gameId);
+            plugin.getMetrics().increment(CounterMetric.PAYOUTS);
+
+            plugin.getStatsManager().recordMoneyWon(winnerId, winnerName, winnings);
+            Player online = plugin.getServer().getPlayer(winnerId);
+            if (online != null) {
+                online.sendMessage(config.getMessage("winningsReceived",
+                        "amount", String.format("%.2f", winnings)));
+            }
+        });
     }
 
     /**
      * Give item pot to winner.
      */
     private void giveItemWinnings(Player winner, UUID gameId) {
-        Map<UUID, List<ItemStack>> playerBets = gameItemBets.get(gameId);
-        if (playerBets == null || playerBets.isEmpty()) {
+        ItemPot pot = gameItemBets.get(gameId);
+        if (pot == null || pot.isEmpty()) {
             return;
         }
 
-        // Give all bet items to winner
-        for (List<ItemStack> items : playerBets.values()) {
-            for (ItemStack item : items) {
-                if (winner.getInventory().firstEmpty() != -1) {
-                    winner.getInventory().addItem(item.clone());
-                } else {
-                    winner.getWorld().dropItemNaturally(winner.getLocation(), item.clone());
-                }
-            }
-        }
+        // Give all bet items to winner, over the next few ticks
+        delivery.deliver(winner.getUniqueId(), pot.getAllItems(), () -> journal.close(gameId));
+        plugin.getMetrics().increment(CounterMetric.PAYOUTS);
 
         winner.sendMessage(config.getMessage("itemsWon"));
     }
@@ -217,66 +453,85 @@ public class RewardManager {
      * @param game The game that was cancelled
      */
     public void refundBets(Game game) {
+        UUID gameId = game.getGameId();
         if (!config.isBettingEnabled() || !config.isRefundOnCancel()) {
-            cleanupGame(game.getGameId());
+            // The house keeps the pot
+            plugin.getTickScheduler().execute(() -> {
+                cleanupGame(gameId);
+                journal.close(gameId);
+            });
             return;
         }
 
-        UUID gameId = game.getGameId();
-        int playerCount = game.getPlayerCount();
-
-        if (config.isMoneyBetting()) {
-            refundMoneyBets(game, gameId, playerCount);
-        } else {
-            refundItemBets(gameId);
-        }
+        plugin.getTickScheduler().execute(() -> {
+            if (config.isMoneyBetting()) {
+                refundMoneyBets(gameId);
+            } else {
+                refundItemBets(gameId);
+            }
 
-        cleanupGame(gameId);
+            cleanupGame(gameId);
+        });
     }
 
     /**
-     * Refund money bets.
+     * Refund money bets as one batched settlement. Everyone gets back what they put in,
+     * including players who already left the table. Stakes that couldn't be paid stay open
+     * in the journal, so the next start refunds exactly those.
      */
-    private void refundMoneyBets(Game game, UUID gameId, int playerCount) {
-        Double pot = gamePots.get(gameId);
-        if (pot == null || pot <= 0 || !plugin.hasEconomy()) {
+    private void refundMoneyBets(UUID gameId) {
+        Map<UUID, Double> stakes = moneyStakes.get(gameId);
+        EconomyGateway gateway = plugin.getEconomyGateway();
+        if (stakes == null || stakes.isEmpty() || gateway == null) {
             return;
         }
 
-        Economy economy = plugin.getEconomy();
-        double perPlayer = pot / playerCount;
+        Map<UUID, Double> payouts = new HashMap<>(stakes);
+        gateway.depositAll(payouts, paid -> {
+            plugin.getMetrics().add(CounterMetric.REFUNDS, paid.size());
+            for (Map.Entry<UUID, Double> entry : paid.entrySet()) {
+                journal.release(gameId, entry.getKey());
+                // Everyone refunded has a stats record from their bet, so the name is kept
+                plugin.getStatsManager().recordMoneyBet(entry.getKey(), null, -entry.getValue());
+                Player player = plugin.getServer().getPlayer(entry.getKey());
+                if (player != null) {
+                    player.sendMessage(config.getMessage("betsRefunded",
+                            "amount", String.format("%.2f", entry.getValue())));
+                }
+            }
 
-        for (UUID playerId : game.getPlayers().keySet()) {
-            Player player = plugin.getServer().getPlayer(playerId);
-            if (player != null && player.isOnline()) {
-                economy.depositPlayer(player, perPlayer);
-                player.sendMessage(config.getMessage("betsRefunded")
-                        .replace("%amount%", String.format("%.2f", perPlayer)));
+            if (paid.size() == payouts.size()) {
+                journal.close(gameId);
+            } else {
+                plugin.getLogger().severe("Could not refund " + (payouts.size() - paid.size())
+                        + " stakes, they are refunded on the next start");
             }
-        }
+        });
     }
 
     /**
      * Refund item bets.
      */
     private void refundItemBets(UUID gameId) {
-        Map<UUID, List<ItemStack>> playerBets = gameItemBets.get(gameId);
-        if (playerBets == null) {
+        ItemPot pot = gameItemBets.get(gameId);
+        if (pot == null) {
             return;
         }
 
-        for (Map.Entry<UUID, List<ItemStack>> entry : playerBets.entrySet()) {
-            Player player = plugin.getServer().getPlayer(entry.getKey());
-            if (player != null && player.isOnline()) {
-                for (ItemStack item : entry.getValue()) {
-                    if (player.getInventory().firstEmpty() != -1) {
-                        player.getInventory().addItem(item.clone());
-                    } else {
-                        player.getWorld().dropItemNaturally(player.getLocation(), item.clone());
-                    }
+        int[] pending = { pot.size() };
+        for (UUID playerId : pot.getPlayers()) {
+            // Offline players' items go straight to their stash
+            delivery.deliver(playerId, pot.getItems(playerId), () -> {
+                journal.release(gameId, playerId);
+                plugin.getMetrics().increment(CounterMetric.REFUNDS);
+                if (--pending[0] == 0) {
+                    journal.close(gameId);
                 }
-                player.sendMessage(config.getMessage("itemsRefunded"));
-            }
+                Player player = plugin.getServer().getPlayer(playerId);
+                if (player != null) {
+                    player.sendMessage(config.getMessage("itemsRefunded"));
+                }
+            });
         }
     }
 
@@ -285,29 +540,10 @@ public class RewardManager {
      */
     private void cleanupGame(UUID gameId) {
         gamePots.remove(gameId);
+        moneyStakes.remove(gameId);
         gameItemBets.remove(gameId);
     }
 
-    /**
-     * Remove items from player inventory.
-     */
-    private void removeItems(Player player, Material material, int amount) {
-        int remaining = amount;
-        ItemStack[] contents = player.getInventory().getContents();
-
-        for (int i = 0; i < contents.length && remaining > 0; i++) {
-            ItemStack item = contents[i];
-            if (item != null && item.getType() == material) {
-                int take = Math.min(item.getAmount(), remaining);
-                item.setAmount(item.getAmount() - take);
-                remaining -= take;
-                if (item.getAmount() <= 0) {
-                    player.getInventory().setItem(i, null);
-                }
-            }
-        }
-    }
-
     /**
      * Get current pot amount for a game.
      */
@@ -0,0 +1,117 @@
+package com.example.russianroulette.scheduler;
+
+import org.bukkit.Location;
+import org.bukkit.entity.Entity;
+import org.bukkit.plugin.Plugin;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Differences between Paper and Folia.
+ * Folia has no main thread: every region of a world ticks on its own thread, an entity
+ * may only be touched by the thread of the region it is in, and plugin-wide work runs
+ * on the global region. On Paper all of these are the main thread.
+ */
+public final class Platform {
+
+    private static final boolean FOLIA = hasClass("io.papermc.paper.threadedregions.RegionizedServer");
+
+    private Platform() {
+    }
+
+    /**
+     * Check if the server is Folia.
+     * 
+     * @return true on Folia
+     */
+    public static boolean isFolia() {
+        return FOLIA;
+    }
+
+    /**
+     * Run a task on the thread that owns an entity: right away if that's the current
+     * thread, otherwise on the entity's scheduler, which follows it between regions.
+     * 
+     * @param plugin  Plugin owning the task
+     * @param entity  Entity the task touches
+     * @param task    Task to run
+     * @param retired Run instead if the entity is removed first, e.g. a player who logs out; may be null
+     */
+    public static void runFor(Plugin plugin, Entity entity, Runnable task, Runnable retired) {
+        if (!FOLIA || plugin.getServer().isOwnedByCurrentRegion(entity)) {
+            task.run();
+            return;
+        }
+
+        if (entity.getScheduler().run(plugin, scheduled -> task.run(), retired) == null && retired != null) {
+            // Already removed
+            retired.run();
+        }
+    }
+
+    /**
+     * Run a task on the thread that owns an entity, dropping it if the entity is removed first.
+     * 
+     * @param plugin Plugin owning the task
+     * @param entity Entity the task touches
+     * @param task   Task to run
+     */
+    public static void runFor(Plugin plugin, Entity entity, Runnable task) {
+        runFor(plugin, entity, task, null);
+    }
+
+    /**
+     * Teleport an entity a short way, e.g. around the table, where the chunks are loaded.
+     * On Paper the entity is moved right away; Folia only allows asynchronous teleports,
+     * which complete on the entity's thread. Call on the entity's thread.
+     * 
+     * @param entity   Entity to move
+     * @param location Target location, copied so the caller may reuse it
+     * @return Completes with true if the entity was moved
+     */
+    public static CompletableFuture<Boolean> teleport(Entity entity, Location location) {
+        if (FOLIA) {
+            return entity.teleportAsync(location.clone());
+        }
+        return CompletableFuture.completedFuture(entity.teleport(location));
+    }
+
+    /**
+     * Teleport an entity to a place whose chunk may not be loaded, like a player's
+     * location before the game. The chunk is loaded in the background and the future
+     * completes on the entity's thread once it was moved. Call on the entity's thread.
+     * 
+     * @param entity   Entity to move
+     * @param location Target location, copied so the caller may reuse it
+     * @return Completes with true if the entity was moved
+     */
+    public static CompletableFuture<Boolean> teleportAsync(Entity entity, Location location) {
+        return entity.teleportAsync(location.clone());
+    }
+
+    /**
+     * Teleport an entity that is about to go away, like a player logging out or still online
+     * while the server stops. An asynchronous teleport would never finish for it, so on Paper
+     * the target chunk is loaded and the entity moved right away. Folia only has asynchronous
+     * teleports, which can't outlive the entity, so there it stays put. Call on the entity's thread.
+     * 
+     * @param entity   Entity to move
+     * @param location Target location
+     * @return true if the entity was moved
+     */
+    public static boolean teleportNow(Entity entity, Location location) {
+        if (FOLIA) {
+            return false;
+        }
+        return entity.teleport(location);
+    }
+
+    private static boolean hasClass(String name) {
+        try {
+            Class.forName(name);
+            return true;
+        } catch (ClassNotFoundException e) {
+            return false;
+        }
+    }
+}
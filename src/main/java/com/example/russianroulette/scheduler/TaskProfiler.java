@@ -0,0 +1,200 @@
+package com.example.russianroulette.scheduler;
+
+import com.example.russianroulette.metrics.Histogram;
+import com.example.russianroulette.metrics.Metrics;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Tick-thread cost of the scheduler's tasks, by task name.
+ * Each run is timed with two nanoTime reads and added to its task's total for the tick;
+ * at the end of the tick the totals go into per-task histograms, so a phase
+ * like the cinematic shows up on its own instead of as "the plugin".
+ * Every {@link TickScheduler} keeps its tick totals in its own {@link Recorder};
+ * on Folia the schedulers of different regions share the profiles from their own threads.
+ */
+public class TaskProfiler {
+
+    // Sorted by name for display; read by the metrics exporter thread
+    private final Map<String, TaskProfile> profiles;
+
+    public TaskProfiler() {
+        this.profiles = new ConcurrentSkipListMap<>();
+    }
+
+    /**
+     * Get the profile of a task type, creating it on first use.
+     * Look it up once when scheduling, not on every run.
+     * 
+     * @param name Task name
+     * @return The profile
+     */
+    public TaskProfile get(String name) {
+        return profiles.computeIfAbsent(name, TaskProfile::new);
+    }
+
+    /**
+     * Create a recorder for the tasks of one scheduler.
+     * 
+     * @return New recorder
+     */
+    public Recorder newRecorder() {
+        return new Recorder();
+    }
+
+    /**
+     * Get every profile, sorted by task name.
+     * 
+     * @return Profiles
+     */
+    public Iterable<TaskProfile> getProfiles() {
+        return profiles.values();
+    }
+
+    /**
+     * Append every profile in the Prometheus text format.
+     * 
+     * @param out Builder to append to
+     */
+    public void writePrometheus(StringBuilder out) {
+        Metrics.writeHeader(out, "rr_task_tick_seconds", "Tick-thread time of a task type per tick it ran in", "histogram");
+        for (TaskProfile profile : profiles.values()) {
+            profile.perTick.writePrometheus(out, "rr_task_tick_seconds", "task=\"" + profile.name + "\"");
+        }
+
+        Metrics.writeHeader(out, "rr_task_tick_max_seconds", "Longest tick of a task type so far", "gauge");
+        for (TaskProfile profile : profiles.values()) {
+            out.append("rr_task_tick_max_seconds{task=\"").append(profile.name).append("\"} ")
+                    .append(Histogram.seconds(profile.getMaxNanos())).append('\n');
+        }
+
+        Metrics.writeHeader(out, "rr_task_runs_total", "Runs of a task type", "counter");
+        for (TaskProfile profile : profiles.values()) {
+            out.append("rr_task_runs_total{task=\"").append(profile.name).append("\"} ")
+                    .append(profile.getRuns()).append('\n');
+        }
+    }
+
+    /**
+     * Tick totals of one scheduler. Only used on that scheduler's thread.
+     */
+    public final class Recorder {
+        private final Map<String, Slot> slots;
+        // Slots that ran this tick
+        private final List<Slot> touched;
+
+        private Recorder() {
+            this.slots = new HashMap<>();
+            this.touched = new ArrayList<>();
+        }
+
+        /**
+         * Wrap a task so every run is recorded in its profile.
+         * 
+         * @param name Task name
+         * @param task Task to wrap
+         * @return Timed task
+         */
+        public Runnable wrap(String name, Runnable task) {
+            Slot slot = slots.computeIfAbsent(name, key -> new Slot(get(key)));
+            return () -> {
+                long start = System.nanoTime();
+                try {
+                    task.run();
+                } finally {
+                    record(slot, System.nanoTime() - start);
+                }
+            };
+        }
+
+        private void record(Slot slot, long nanos) {
+            if (!slot.touched) {
+                slot.touched = true;
+                touched.add(slot);
+            }
+            slot.tickNanos += nanos;
+            slot.runs++;
+        }
+
+        /**
+         * Move this tick's totals into the histograms. Called once at the end of every tick.
+         */
+        public void endTick() {
+            for (int i = 0; i < touched.size(); i++) {
+                touched.get(i).endTick();
+            }
+            touched.clear();
+        }
+    }
+
+    /**
+     * A profile's totals for the current tick of one scheduler.
+     */
+    private static final class Slot {
+        private final TaskProfile profile;
+        private long tickNanos;
+        private int runs;
+        private boolean touched;
+
+        private Slot(TaskProfile profile) {
+            this.profile = profile;
+        }
+
+        private void endTick() {
+            profile.record(tickNanos, runs);
+            tickNanos = 0L;
+            runs = 0;
+            touched = false;
+        }
+    }
+
+    /**
+     * Cost of one task type.
+     */
+    public static final class TaskProfile {
+        private final String name;
+        private final Histogram perTick;
+        private final AtomicLong maxNanos;
+        private final LongAdder runs;
+
+        private TaskProfile(String name) {
+            this.name = name;
+            this.perTick = new Histogram();
+            this.maxNanos = new AtomicLong();
+            this.runs = new LongAdder();
+        }
+
+        private void record(long tickNanos, int tickRuns) {
+            perTick.observe(tickNanos);
+            maxNanos.accumulateAndGet(tickNanos, Math::max);
+            runs.add(tickRuns);
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        /**
+         * Get the distribution of this task type's time per tick it ran in.
+         * 
+         * @return Histogram in nanoseconds
+         */
+        public Histogram getPerTick() {
+            return perTick;
+        }
+
+        public long getMaxNanos() {
+            return maxNanos.get();
+        }
+
+        public long getRuns() {
+            return runs.sum();
+        }
+    }
+}
@@ -0,0 +1,251 @@
+package com.example.russianroulette.scheduler;
+
+import com.example.russianroulette.engine.ClockTask;
+import com.example.russianroulette.engine.EngineClock;
+import io.papermc.paper.threadedregions.scheduler.ScheduledTask;
+import org.bukkit.Location;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.logging.Level;
+
+/**
+ * Scheduler for one thread: a single server task per tick drives one {@link TimingWheel}
+ * that every game timer and effect registers with.
+ * The wheel follows wall-clock time, so when the server lags the missed ticks are
+ * caught up and deadlines stay where they were scheduled.
+ * On Paper the plugin's scheduler runs on the main thread. On Folia it runs on the global
+ * region, and every game gets a scheduler of its own on the region of its arena.
+ * All scheduling must happen on the scheduler's thread; other threads use {@link #execute(Runnable)}.
+ * Every task is timed under its name by the {@link TaskProfiler}.
+ */
+public class TickScheduler implements EngineClock {
+
+    private static final long TICK_NANOS = 50_000_000L;
+    // Don't replay more than 10 seconds of missed ticks after a long stall
+    private static final long MAX_CATCH_UP_TICKS = 200L;
+    // Profile name of tasks scheduled without one
+    private static final String UNNAMED = "other";
+
+    private final Plugin plugin;
+    private final TimingWheel wheel;
+    private final Queue<Runnable> inbox;
+    private final TaskProfiler profiler;
+    private final TaskProfiler.Recorder recorder;
+    private final Runnable inboxDrain;
+    // Region this scheduler runs on with Folia, null for the global region
+    private final Location region;
+
+    private Runnable cancel;
+    private long startNanos;
+    // Set once stopped for good; tasks handed over after that run on the calling thread
+    private volatile boolean stopped;
+
+    public TickScheduler(Plugin plugin) {
+        this(plugin, new TaskProfiler(), null);
+    }
+
+    /**
+     * Create a scheduler that records into an existing profiler.
+     * 
+     * @param plugin   Plugin owning the server task
+     * @param profiler Profiler to record task costs in
+     * @param region   On Folia, a location in the region to run on; null for the global region
+     */
+    public TickScheduler(Plugin plugin, TaskProfiler profiler, Location region) {
+        this.plugin = plugin;
+        this.wheel = new TimingWheel(e -> plugin.getLogger().log(Level.SEVERE, "Error in scheduled task", e));
+        this.inbox = new ConcurrentLinkedQueue<>();
+        this.profiler = profiler;
+        this.recorder = profiler.newRecorder();
+        this.inboxDrain = recorder.wrap("owner-callbacks", this::drainInbox);
+        this.region = region != null ? region.clone() : null;
+    }
+
+    /**
+     * Start driving the wheel.
+     */
+    public void start() {
+        if (cancel != null) {
+            return;
+        }
+
+        // Offset by half a tick so scheduling jitter doesn't make us skip or double ticks
+        startNanos = System.nanoTime() - wheel.getCurrentTick() * TICK_NANOS - TICK_NANOS / 2;
+        if (!Platform.isFolia()) {
+            BukkitTask task = plugin.getServer().getScheduler().runTaskTimer(plugin, this::tick, 1L, 1L);
+            cancel = task::cancel;
+        } else if (region == null) {
+            ScheduledTask task = plugin.getServer().getGlobalRegionScheduler()
+                    .runAtFixedRate(plugin, scheduled -> tick(), 1L, 1L);
+            cancel = task::cancel;
+        } else {
+            ScheduledTask task = plugin.getServer().getRegionScheduler()
+                    .runAtFixedRate(plugin, region, scheduled -> tick(), 1L, 1L);
+            cancel = task::cancel;
+        }
+    }
+
+    /**
+     * Stop driving the wheel. Pending tasks stay scheduled but won't run, while tasks
+     * handed to {@link #execute(Runnable)} from now on run right away on the calling thread,
+     * so late callbacks like a refund still happen.
+     */
+    public void stop() {
+        stopped = true;
+        if (cancel != null) {
+            cancel.run();
+            cancel = null;
+        }
+        drainInbox();
+    }
+
+    /**
+     * Run every task handed over so far on the calling thread. Used at shutdown,
+     * when the scheduler's thread may no longer tick.
+     */
+    public void runPending() {
+        drainInbox();
+    }
+
+    private void tick() {
+        inboxDrain.run();
+        catchUp(System.nanoTime());
+        recorder.endTick();
+    }
+
+    /**
+     * Advance the wheel to the tick the wall clock is at, catching up at most 10 seconds at once.
+     * 
+     * @param nowNanos Current {@link System#nanoTime()}
+     */
+    void catchUp(long nowNanos) {
+        long target = (nowNanos - startNanos) / TICK_NANOS;
+        long behind = target - wheel.getCurrentTick();
+        if (behind > MAX_CATCH_UP_TICKS) {
+            // Give up on the rest so deadlines shift instead of all firing at once
+            startNanos += (behind - MAX_CATCH_UP_TICKS) * TICK_NANOS;
+            target = wheel.getCurrentTick() + MAX_CATCH_UP_TICKS;
+        }
+
+        wheel.advanceTo(target);
+    }
+
+    private void drainInbox() {
+        Runnable runnable;
+        while ((runnable = inbox.poll()) != null) {
+            try {
+                runnable.run();
+            } catch (RuntimeException e) {
+                plugin.getLogger().log(Level.SEVERE, "Error in tick thread task", e);
+            }
+        }
+    }
+
+    @Override
+    public ClockTask schedule(long delayTicks, Runnable task) {
+        return schedule(UNNAMED, delayTicks, task);
+    }
+
+    @Override
+    public ClockTask scheduleRepeating(long delayTicks, long periodTicks, Runnable task) {
+        return scheduleRepeating(UNNAMED, delayTicks, periodTicks, task);
+    }
+
+    @Override
+    public ClockTask schedule(String name, long delayTicks, Runnable task) {
+        return wheel.schedule(delayTicks, recorder.wrap(name, task));
+    }
+
+    @Override
+    public ClockTask scheduleRepeating(String name, long delayTicks, long periodTicks, Runnable task) {
+        return wheel.scheduleRepeating(delayTicks, periodTicks, recorder.wrap(name, task));
+    }
+
+    /**
+     * Schedule a task that runs a fixed number of times.
+     * 
+     * @param name        Task name for the profiler
+     * @param delayTicks  Ticks until the first run
+     * @param periodTicks Ticks between runs
+     * @param runs        Number of runs
+     * @param task        Task to run
+     * @return Handle to cancel the task
+     */
+    public ClockTask scheduleRepeating(String name, long delayTicks, long periodTicks, int runs, Runnable task) {
+        return wheel.schedule(delayTicks, periodTicks, runs, recorder.wrap(name, task));
+    }
+
+    /**
+     * Run a task on the thread that owns this scheduler, at the start of its next tick:
+     * the main thread on Paper, and on Folia the global region thread for the plugin's
+     * scheduler or the region thread of the arena for a game's. Safe to call from any thread.
+     * 
+     * @param task Task to run
+     */
+    public void executeOnOwner(Runnable task) {
+        inbox.add(task);
+    }
+
+    /**
+     * Run a task on this scheduler's thread: right away if that's the current thread,
+     * otherwise at the start of its next tick. Safe to call from any thread.
+     * 
+     * @param task Task to run
+     */
+    public void execute(Runnable task) {
+        if (stopped || isOwnedByCurrentThread()) {
+            task.run();
+            return;
+        }
+
+        inbox.add(task);
+        if (stopped) {
+            // Stopped meanwhile and the inbox may already be drained, nobody else would run it
+            drainInbox();
+        }
+    }
+
+    /**
+     * Check if the current thread is the one this scheduler runs on.
+     * 
+     * @return true on the main thread, or on Folia the thread of this scheduler's region
+     */
+    public boolean isOwnedByCurrentThread() {
+        if (!Platform.isFolia()) {
+            return plugin.getServer().isPrimaryThread();
+        }
+        return region == null
+                ? plugin.getServer().isGlobalTickThread()
+                : plugin.getServer().isOwnedByCurrentRegion(region);
+    }
+
+    /**
+     * Get the profiler timing every scheduled task.
+     * 
+     * @return The task profiler
+     */
+    public TaskProfiler getProfiler() {
+        return profiler;
+    }
+
+    /**
+     * Get the current wheel tick.
+     * 
+     * @return Ticks since the scheduler was created
+     */
+    public long getCurrentTick() {
+        return wheel.getCurrentTick();
+    }
+
+    /**
+     * Get the number of pending tasks.
+     * 
+     * @return Pending task count
+     */
+    public int getPendingCount() {
+        return wheel.size();
+    }
+}
@@ -0,0 +1,212 @@
+package com.example.russianroulette.scheduler;
+
+import com.example.russianroulette.engine.ClockTask;
+import com.example.russianroulette.engine.EngineClock;
+
+import java.util.function.Consumer;
+
+/**
+ * Hierarchical timing wheel: four levels of 64 slots each, covering about
+ * 9.7 days of ticks. Scheduling and cancelling are O(1); timers in the upper
+ * levels are cascaded down as their slot comes around.
+ * Not thread-safe, everything runs on the thread that calls {@link #advanceTo(long)}.
+ */
+public class TimingWheel implements EngineClock {
+
+    private static final int SLOT_BITS = 6;
+    private static final int SLOTS = 1 << SLOT_BITS;
+    private static final int SLOT_MASK = SLOTS - 1;
+    private static final int LEVELS = 4;
+    private static final long MAX_DELTA = (1L << (SLOT_BITS * LEVELS)) - 1;
+
+    // Sentinel heads of the circular timer lists, [level][slot]
+    private final Timer[][] slots;
+    private final Consumer<RuntimeException> errorHandler;
+
+    private long currentTick;
+    private int size;
+
+    public TimingWheel(Consumer<RuntimeException> errorHandler) {
+        this.errorHandler = errorHandler;
+        this.slots = new Timer[LEVELS][SLOTS];
+        for (int level = 0; level < LEVELS; level++) {
+            for (int slot = 0; slot < SLOTS; slot++) {
+                Timer head = new Timer(0L, 0L, 0, null);
+                head.prev = head;
+                head.next = head;
+                slots[level][slot] = head;
+            }
+        }
+    }
+
+    @Override
+    public ClockTask schedule(long delayTicks, Runnable task) {
+        return schedule(delayTicks, 0L, 1, task);
+    }
+
+    @Override
+    public ClockTask scheduleRepeating(long delayTicks, long periodTicks, Runnable task) {
+        return schedule(delayTicks, periodTicks, -1, task);
+    }
+
+    /**
+     * Schedule a task that runs a fixed number of times.
+     * 
+     * @param delayTicks  Ticks until the first run; 0 runs on the next tick
+     * @param periodTicks Ticks between runs
+     * @param runs        Number of runs, or -1 to repeat until cancelled
+     * @param task        Task to run
+     * @return Handle to cancel the task
+     */
+    public ClockTask schedule(long delayTicks, long periodTicks, int runs, Runnable task) {
+        long deadline = currentTick + Math.max(1L, delayTicks);
+        Timer timer = new Timer(deadline, Math.max(1L, periodTicks), runs, task);
+        insert(timer);
+        return timer;
+    }
+
+    /**
+     * Run every timer due up to and including the target tick, one tick at a time.
+     * 
+     * @param targetTick Tick to advance to
+     */
+    public void advanceTo(long targetTick) {
+        while (currentTick < targetTick) {
+            currentTick++;
+
+            int index = (int) (currentTick & SLOT_MASK);
+            if (index == 0) {
+                cascade(1);
+            }
+            runSlot(slots[0][index]);
+        }
+    }
+
+    /**
+     * Move the timers of the current slot at a level one level down,
+     * cascading the level above first when this level wraps around.
+     */
+    private void cascade(int level) {
+        if (level >= LEVELS) {
+            return;
+        }
+
+        int index = (int) ((currentTick >>> (SLOT_BITS * level)) & SLOT_MASK);
+        if (index == 0) {
+            cascade(level + 1);
+        }
+
+        Timer head = slots[level][index];
+        Timer timer = head.next;
+        head.prev = head;
+        head.next = head;
+        while (timer != head) {
+            Timer next = timer.next;
+            size--;
+            insert(timer);
+            timer = next;
+        }
+    }
+
+    private void runSlot(Timer head) {
+        while (head.next != head) {
+            Timer timer = head.next;
+            unlink(timer);
+
+            boolean again = timer.runs < 0 || --timer.runs > 0;
+            if (again) {
+                // Re-arm from the deadline, not from now, so repeating tasks never drift
+                timer.deadline += timer.period;
+                insert(timer);
+            } else {
+                timer.cancelled = true;
+            }
+
+            try {
+                timer.task.run();
+            } catch (RuntimeException e) {
+                errorHandler.accept(e);
+            }
+        }
+    }
+
+    private void insert(Timer timer) {
+        long delta = timer.deadline - currentTick;
+        long due = timer.deadline;
+        if (delta < 0) {
+            delta = 0;
+            due = currentTick;
+        } else if (delta > MAX_DELTA) {
+            // Park far-off timers in the top level; they are re-filed when it cascades
+            delta = MAX_DELTA;
+            due = currentTick + MAX_DELTA;
+        }
+
+        int level = 0;
+        while (level < LEVELS - 1 && delta >= 1L << (SLOT_BITS * (level + 1))) {
+            level++;
+        }
+
+        Timer head = slots[level][(int) ((due >>> (SLOT_BITS * level)) & SLOT_MASK)];
+        timer.prev = head.prev;
+        timer.next = head;
+        head.prev.next = timer;
+        head.prev = timer;
+        size++;
+    }
+
+    private void unlink(Timer timer) {
+        timer.prev.next = timer.next;
+        timer.next.prev = timer.prev;
+        timer.prev = null;
+        timer.next = null;
+        size--;
+    }
+
+    public long getCurrentTick() {
+        return currentTick;
+    }
+
+    /**
+     * Get the number of pending timers.
+     * 
+     * @return Pending timer count
+     */
+    public int size() {
+        return size;
+    }
+
+    private final class Timer implements ClockTask {
+        private long deadline;
+        private final long period;
+        private int runs;
+        private final Runnable task;
+        private boolean cancelled;
+        private Timer prev;
+        private Timer next;
+
+        private Timer(long deadline, long period, int runs, Runnable task) {
+            this.deadline = deadline;
+            this.period = period;
+            this.runs = runs;
+            this.task = task;
+        }
+
+        @Override
+        public void cancel() {
+            if (cancelled) {
+                return;
+            }
+
+            cancelled = true;
+            if (prev != null) {
+                unlink(this);
+            }
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return cancelled;
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package com.example.russianroulette.scheduler;
+
+import com.example.russianroulette.RussianRoulettePlugin;
+import com.example.russianroulette.engine.ClockTask;
+
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.logging.Level;
+
+/**
+ * Runs queued side effects a few at a time, within a per-tick time budget.
+ * Used for teardown work like teleports, inventory edits and entity removal,
+ * so ending many tables at once doesn't freeze the server.
+ * Jobs always run in the order they were added, on the thread of the queue's scheduler.
+ */
+public class WorkQueue {
+
+    private final RussianRoulettePlugin plugin;
+    private final TickScheduler scheduler;
+    private final Queue<Runnable> jobs;
+
+    private ClockTask task;
+
+    public WorkQueue(RussianRoulettePlugin plugin, TickScheduler scheduler) {
+        this.plugin = plugin;
+        this.scheduler = scheduler;
+        this.jobs = new ArrayDeque<>();
+    }
+
+    /**
+     * Queue a job to run within the budget of an upcoming tick.
+     * 
+     * @param job Job to run
+     */
+    public void add(Runnable job) {
+        jobs.add(job);
+        if (task == null) {
+            task = scheduler.scheduleRepeating("work-queue", 0L, 1L, this::tick);
+        }
+    }
+
+    private void tick() {
+        long budgetNanos = plugin.getConfigManager().getTeardownBudgetMs() * 1_000_000L;
+        long start = System.nanoTime();
+
+        // At least one job per tick so a tiny budget still makes progress
+        do {
+            Runnable job = jobs.poll();
+            if (job == null) {
+                break;
+            }
+            run(job);
+        } while (System.nanoTime() - start < budgetNanos);
+
+        if (jobs.isEmpty() && task != null) {
+            task.cancel();
+            task = null;
+        }
+    }
+
+    /**
+     * Run every queued job right away, including jobs added while draining. Used at shutdown.
+     */
+    public void drain() {
+        if (task != null) {
+            task.cancel();
+            task = null;
+        }
+
+        Runnable job;
+        while ((job = jobs.poll()) != null) {
+            run(job);
+        }
+    }
+
+    private void run(Runnable job) {
+        try {
+            job.run();
+        } catch (RuntimeException e) {
+            plugin.getLogger().log(Level.SEVERE, "Error in queued teardown job", e);
+        }
+    }
+
+    /**
+     * Get the number of jobs still waiting to run.
+     * 
+     * @return Pending job count
+     */
+    public int size() {
+        return jobs.size();
+    }
+}
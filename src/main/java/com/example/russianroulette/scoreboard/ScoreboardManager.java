@@ -2,125 +2,271 @@ package com.example.russianroulette.scoreboard;
 
 import com.example.russianroulette.RussianRoulettePlugin;
 import com.example.russianroulette.config.ConfigManager;
+import com.example.russianroulette.engine.ClockTask;
+import com.example.russianroulette.game.GameManager;
+import com.example.russianroulette.scheduler.Platform;
+import com.example.russianroulette.stats.Leaderboard;
+import com.example.russianroulette.stats.LeaderboardType;
+import com.example.russianroulette.stats.PlayerStats;
+import com.example.russianroulette.stats.StatsManager;
 import org.bukkit.Bukkit;
 import org.bukkit.entity.Player;
-import org.bukkit.scoreboard.*;
+import org.bukkit.scoreboard.Scoreboard;
 
-import java.util.HashMap;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
- * Manages game scoreboards for players.
+ * Manages game scoreboards. Each game has one shared {@link Sidebar}.
+ * Games update their own sidebar from their own thread. Folia has no scoreboard API
+ * yet, so there the sidebar is turned off the first time the server refuses it.
+ * Players who aren't in a game can be shown a leaderboard sidebar instead, refreshed
+ * from the in-memory boards of the {@link StatsManager} on the plugin's scheduler thread.
  */
 public class ScoreboardManager {
 
+    private static final long LEADERBOARD_REFRESH_TICKS = 20L;
+
     private final RussianRoulettePlugin plugin;
     private final ConfigManager config;
-    private final Map<UUID, Scoreboard> playerScoreboards;
+    // Game ID -> sidebar shown to everyone in that game
+    private final Map<UUID, Sidebar> sidebars;
+    // Set once the server refuses the scoreboard API
+    private volatile boolean unsupported;
 
-    private static final String OBJECTIVE_NAME = "rr_game";
+    // Leaderboard shown to everyone outside a game, plugin scheduler thread only
+    private Sidebar leaderboard;
+    private ClockTask leaderboardTask;
 
     public ScoreboardManager(RussianRoulettePlugin plugin) {
+        this(plugin, plugin.getConfigManager());
+    }
+
+    public ScoreboardManager(RussianRoulettePlugin plugin, ConfigManager config) {
         this.plugin = plugin;
-        this.config = plugin.getConfigManager();
-        this.playerScoreboards = new HashMap<>();
+        this.config = config;
+        this.sidebars = new ConcurrentHashMap<>();
     }
 
     /**
-     * Update or create a scoreboard for a player.
+     * Update or create the sidebar of a game and show it to its players.
+     * Only lines that changed since the last update are sent.
      * 
-     * @param player           Player to update scoreboard for
+     * @param gameId           Game the sidebar belongs to
+     * @param playerIds        Players who should see the sidebar
      * @param playersAlive     Number of players alive
      * @param bulletsRemaining Bullets remaining in revolver
      * @param currentTurn      Current turn player name
      * @param phase            Game phase/state
      * @param timeRemaining    Turn time remaining
      */
-    public void updateScoreboard(Player player, int playersAlive, int bulletsRemaining,
+    public void updateScoreboard(UUID gameId, Iterable<UUID> playerIds, int playersAlive, int bulletsRemaining,
             String currentTurn, String phase, int timeRemaining) {
-        if (!config.isScoreboardEnabled()) {
+        if (!config.isScoreboardEnabled() || unsupported) {
             return;
         }
 
-        Scoreboard scoreboard = playerScoreboards.get(player.getUniqueId());
-
-        if (scoreboard == null) {
-            scoreboard = Bukkit.getScoreboardManager().getNewScoreboard();
-            playerScoreboards.put(player.getUniqueId(), scoreboard);
-        }
-
-        // Get or create objective
-        Objective objective = scoreboard.getObjective(OBJECTIVE_NAME);
-        if (objective != null) {
-            objective.unregister();
+        Sidebar sidebar = sidebars.get(gameId);
+        if (sidebar == null) {
+            try {
+                sidebar = new Sidebar(config.getScoreboardTitle());
+            } catch (UnsupportedOperationException e) {
+                markUnsupported();
+                return;
+            }
+            sidebars.put(gameId, sidebar);
+        } else {
+            sidebar.setTitle(config.getScoreboardTitle());
         }
 
-        objective = scoreboard.registerNewObjective(OBJECTIVE_NAME, Criteria.DUMMY, config.getScoreboardTitle());
-        objective.setDisplaySlot(DisplaySlot.SIDEBAR);
+        sidebar.update(buildLines(playersAlive, bulletsRemaining, currentTurn, phase, timeRemaining));
 
-        // Clear old entries
-        for (String entry : scoreboard.getEntries()) {
-            scoreboard.resetScores(entry);
+        for (UUID playerId : playerIds) {
+            Player player = Bukkit.getPlayer(playerId);
+            if (player != null) {
+                sidebar.addViewer(player);
+            }
         }
+    }
 
-        // Add scoreboard lines (scores go from high to low for order)
-        int score = 10;
+    /**
+     * Build the sidebar lines, top to bottom.
+     * 
+     * @param playersAlive     Number of players alive
+     * @param bulletsRemaining Bullets remaining in revolver
+     * @param currentTurn      Current turn player name
+     * @param phase            Game phase/state
+     * @param timeRemaining    Turn time remaining
+     * @return Sidebar lines
+     */
+    public List<String> buildLines(int playersAlive, int bulletsRemaining,
+            String currentTurn, String phase, int timeRemaining) {
+        List<String> lines = new ArrayList<>(9);
 
         // Empty line for spacing
-        objective.getScore("§8§m----------").setScore(score--);
+        lines.add("§8§m----------");
 
         // Current Turn
-        String turnLine = config.getRawMessage("scoreboardTurn")
-                .replace("%turn%", currentTurn);
-        objective.getScore(turnLine).setScore(score--);
+        lines.add(config.getRawMessage("scoreboardTurn", "turn", currentTurn));
 
         // Empty line
-        objective.getScore("§r").setScore(score--);
+        lines.add("§r");
 
         // Players Alive
-        String aliveLine = config.getRawMessage("scoreboardPlayers")
-                .replace("%alive%", String.valueOf(playersAlive));
-        objective.getScore(aliveLine).setScore(score--);
+        lines.add(config.getRawMessage("scoreboardPlayers", "alive", playersAlive));
 
         // Bullets Remaining
-        String bulletsLine = config.getRawMessage("scoreboardBullets")
-                .replace("%bullets%", String.valueOf(bulletsRemaining));
-        objective.getScore(bulletsLine).setScore(score--);
+        lines.add(config.getRawMessage("scoreboardBullets", "bullets", bulletsRemaining));
 
         // Empty line
-        objective.getScore("§r§r").setScore(score--);
+        lines.add("§r§r");
 
         // Phase
-        String phaseLine = config.getRawMessage("scoreboardPhase")
-                .replace("%phase%", formatPhase(phase));
-        objective.getScore(phaseLine).setScore(score--);
+        lines.add(config.getRawMessage("scoreboardPhase", "phase", formatPhase(phase)));
 
         // Timer (only show if time remaining)
         if (timeRemaining > 0) {
-            String timerLine = config.getRawMessage("scoreboardTimer")
-                    .replace("%time%", String.valueOf(timeRemaining));
-            objective.getScore(timerLine).setScore(score--);
+            lines.add(config.getRawMessage("scoreboardTimer", "time", timeRemaining));
         }
 
         // Bottom line
-        objective.getScore("§8§m-----------").setScore(score);
+        lines.add("§8§m-----------");
+
+        return lines;
+    }
+
+    /**
+     * Start refreshing the leaderboard sidebar once a second. Whether it is shown
+     * is checked on every refresh, so a reload can turn it on or off.
+     * Folia has no scoreboard API yet, so there it never starts.
+     */
+    public void startLeaderboard() {
+        if (leaderboardTask != null || Platform.isFolia()) {
+            return;
+        }
+
+        leaderboardTask = plugin.getTickScheduler().scheduleRepeating("leaderboard-sidebar",
+                LEADERBOARD_REFRESH_TICKS, LEADERBOARD_REFRESH_TICKS, this::refreshLeaderboard);
+    }
+
+    /**
+     * Show the configured leaderboard to online players who aren't in a game.
+     * Reads the top ranks straight from the board; only changed lines are sent.
+     * It only replaces the main scoreboard, so a board set by another plugin is left alone,
+     * and a player who leaves the leaderboard is simply put back on the main scoreboard.
+     */
+    private void refreshLeaderboard() {
+        StatsManager stats = plugin.getStatsManager();
+        if (!config.isLeaderboardSidebarEnabled() || !config.isStatsEnabled() || unsupported) {
+            removeLeaderboard();
+            return;
+        }
+        if (!stats.isLoaded()) {
+            return;
+        }
+
+        LeaderboardType type = config.getLeaderboardSidebarBoard();
+        String title = config.getLeaderboardSidebarTitle().replace("%board%", type.name());
+        if (leaderboard == null) {
+            try {
+                leaderboard = new Sidebar(title);
+            } catch (UnsupportedOperationException e) {
+                markUnsupported();
+                return;
+            }
+        } else {
+            leaderboard.setTitle(title);
+        }
+
+        leaderboard.update(buildLeaderboardLines(stats, type, config.getLeaderboardSidebarSize()));
+
+        // Players in a game see its sidebar instead, unless game sidebars are off
+        GameManager games = plugin.getGameManager();
+        boolean gameSidebars = config.isScoreboardEnabled();
+        for (UUID playerId : new ArrayList<>(leaderboard.getViewers())) {
+            Player player = Bukkit.getPlayer(playerId);
+            if (player == null || !leaderboard.isShownTo(player)) {
+                // Gone, or another plugin gave them its own board
+                leaderboard.removeViewer(playerId);
+            } else if (gameSidebars && games.isPlayerInGame(playerId)) {
+                leaderboard.removeViewer(playerId);
+                // The game's sidebar isn't there yet, don't leave a frozen leaderboard up
+                resetScoreboard(player);
+            }
+        }
+
+        Scoreboard main = Bukkit.getScoreboardManager().getMainScoreboard();
+        for (Player player : Bukkit.getOnlinePlayers()) {
+            if ((!gameSidebars || !games.isPlayerInGame(player.getUniqueId()))
+                    && (leaderboard.isShownTo(player) || player.getScoreboard() == main)) {
+                leaderboard.addViewer(player);
+            }
+        }
+    }
+
+    /**
+     * Build the leaderboard sidebar lines, top to bottom.
+     * 
+     * @param stats Stats holding the boards and player names
+     * @param type  Board to show
+     * @param size  Number of ranks to show
+     * @return Sidebar lines
+     */
+    private List<String> buildLeaderboardLines(StatsManager stats, LeaderboardType type, int size) {
+        Leaderboard board = stats.getLeaderboard(type);
+        int shown = Math.min(size, board.size());
+        List<String> lines = new ArrayList<>(shown + 2);
+
+        lines.add("§8§m----------");
+        if (shown == 0) {
+            lines.add(config.getRawMessage("scoreboardLeaderboardEmpty"));
+        }
+        for (int rank = 1; rank <= shown; rank++) {
+            PlayerStats entry = stats.getStats(board.getPlayerAt(rank));
+            lines.add(config.getRawMessage("scoreboardLeaderboardEntry",
+                    "rank", rank,
+                    "player", entry.getPlayerName(),
+                    "value", type.format(board.getScoreAt(rank))));
+        }
+        lines.add("§8§m-----------");
+
+        return lines;
+    }
 
-        // Set scoreboard to player
-        player.setScoreboard(scoreboard);
+    private void removeLeaderboard() {
+        if (leaderboard != null) {
+            resetViewers(leaderboard);
+            leaderboard = null;
+        }
     }
 
     /**
      * Remove a player's scoreboard.
      * 
+     * @param gameId Game the player was in
      * @param player Player to remove scoreboard from
      */
-    public void removeScoreboard(Player player) {
-        playerScoreboards.remove(player.getUniqueId());
+    public void removeScoreboard(UUID gameId, Player player) {
+        Sidebar sidebar = sidebars.get(gameId);
+        if (sidebar != null) {
+            sidebar.removeViewer(player.getUniqueId());
+        }
 
-        // Reset to main scoreboard
-        if (Bukkit.getScoreboardManager() != null) {
-            player.setScoreboard(Bukkit.getScoreboardManager().getMainScoreboard());
+        resetScoreboard(player);
+    }
+
+    /**
+     * Remove a game's sidebar from everyone still viewing it.
+     * 
+     * @param gameId Game whose sidebar to remove
+     */
+    public void removeSidebar(UUID gameId) {
+        Sidebar sidebar = sidebars.remove(gameId);
+        if (sidebar != null) {
+            resetViewers(sidebar);
         }
     }
 
@@ -128,15 +274,48 @@ public class ScoreboardManager {
      * Remove all scoreboards (used on plugin disable).
      */
     public void removeAllScoreboards() {
-        for (UUID playerId : playerScoreboards.keySet()) {
+        for (Sidebar sidebar : sidebars.values()) {
+            resetViewers(sidebar);
+        }
+        sidebars.clear();
+
+        if (leaderboardTask != null) {
+            leaderboardTask.cancel();
+            leaderboardTask = null;
+        }
+        removeLeaderboard();
+    }
+
+    private void resetViewers(Sidebar sidebar) {
+        for (UUID playerId : sidebar.getViewers()) {
             Player player = Bukkit.getPlayer(playerId);
-            if (player != null && player.isOnline()) {
-                if (Bukkit.getScoreboardManager() != null) {
-                    player.setScoreboard(Bukkit.getScoreboardManager().getMainScoreboard());
-                }
+            // Leave players alone who were given another board since
+            if (player != null && player.isOnline() && sidebar.isShownTo(player)) {
+                resetScoreboard(player);
+            }
+        }
+    }
+
+    private void resetScoreboard(Player player) {
+        if (unsupported) {
+            return;
+        }
+
+        // Reset to main scoreboard
+        try {
+            if (Bukkit.getScoreboardManager() != null) {
+                player.setScoreboard(Bukkit.getScoreboardManager().getMainScoreboard());
             }
+        } catch (UnsupportedOperationException e) {
+            markUnsupported();
+        }
+    }
+
+    private void markUnsupported() {
+        if (!unsupported) {
+            unsupported = true;
+            plugin.getLogger().warning("This server doesn't support scoreboards, the game sidebar is disabled");
         }
-        playerScoreboards.clear();
     }
 
     /**
@@ -0,0 +1,136 @@
+package com.example.russianroulette.scoreboard;
+
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Player;
+import org.bukkit.scoreboard.Criteria;
+import org.bukkit.scoreboard.DisplaySlot;
+import org.bukkit.scoreboard.Objective;
+import org.bukkit.scoreboard.Scoreboard;
+import org.bukkit.scoreboard.Team;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * A sidebar shared by a group of players, like everyone in one game.
+ * Each line is a fixed, invisible entry whose text lives in a team prefix,
+ * so changing a line is a single team update and unchanged lines send nothing.
+ */
+public class Sidebar {
+
+    public static final int MAX_LINES = 15;
+
+    private static final String OBJECTIVE_NAME = "rr_game";
+    private static final String HEX = "0123456789abcdef";
+
+    private final Scoreboard scoreboard;
+    private final Objective objective;
+    private final Team[] teams;
+    private final String[] entries;
+    // What each line currently shows; null if the line is hidden
+    private final String[] lines;
+    private final Set<UUID> viewers;
+    private String title;
+
+    public Sidebar(String title) {
+        this.scoreboard = Bukkit.getScoreboardManager().getNewScoreboard();
+        this.objective = scoreboard.registerNewObjective(OBJECTIVE_NAME, Criteria.DUMMY, title);
+        this.objective.setDisplaySlot(DisplaySlot.SIDEBAR);
+        this.title = title;
+        this.teams = new Team[MAX_LINES];
+        this.entries = new String[MAX_LINES];
+        this.lines = new String[MAX_LINES];
+        this.viewers = new HashSet<>();
+
+        for (int i = 0; i < MAX_LINES; i++) {
+            entries[i] = "§" + HEX.charAt(i) + "§r";
+            teams[i] = scoreboard.registerNewTeam("rr_line_" + i);
+            teams[i].addEntry(entries[i]);
+        }
+    }
+
+    /**
+     * Set the title, sending it only if it changed.
+     * 
+     * @param title Sidebar title
+     */
+    public void setTitle(String title) {
+        if (!title.equals(this.title)) {
+            this.title = title;
+            objective.setDisplayName(title);
+        }
+    }
+
+    /**
+     * Show the given lines, top to bottom. Only lines that differ from
+     * what is already shown are sent.
+     * 
+     * @param newLines Lines to show, at most {@link #MAX_LINES}
+     */
+    public void update(List<String> newLines) {
+        int count = Math.min(newLines.size(), MAX_LINES);
+
+        for (int i = 0; i < count; i++) {
+            String line = newLines.get(i);
+            if (line.equals(lines[i])) {
+                continue;
+            }
+
+            teams[i].setPrefix(line);
+            if (lines[i] == null) {
+                // Scores count down so line 0 is at the top
+                objective.getScore(entries[i]).setScore(MAX_LINES - i);
+            }
+            lines[i] = line;
+        }
+
+        for (int i = count; i < MAX_LINES; i++) {
+            if (lines[i] != null) {
+                scoreboard.resetScores(entries[i]);
+                lines[i] = null;
+            }
+        }
+    }
+
+    /**
+     * Show this sidebar to a player. Does nothing if they already see it.
+     * 
+     * @param player Player to show the sidebar to
+     */
+    public void addViewer(Player player) {
+        if (viewers.add(player.getUniqueId())) {
+            player.setScoreboard(scoreboard);
+        }
+    }
+
+    /**
+     * Stop tracking a player as a viewer.
+     * 
+     * @param playerId Player to remove
+     * @return true if the player was a viewer
+     */
+    public boolean removeViewer(UUID playerId) {
+        return viewers.remove(playerId);
+    }
+
+    /**
+     * Check if a player currently has this sidebar's scoreboard.
+     * 
+     * @param player Player to check
+     * @return true if the player sees this sidebar
+     */
+    public boolean isShownTo(Player player) {
+        return player.getScoreboard() == scoreboard;
+    }
+
+    public Set<UUID> getViewers() {
+        return Collections.unmodifiableSet(viewers);
+    }
+
+    public boolean hasViewers() {
+        return !viewers.isEmpty();
+    }
+}
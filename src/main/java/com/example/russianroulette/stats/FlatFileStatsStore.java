@@ -0,0 +1,141 @@
+package com.example.russianroulette.stats;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.logging.Logger;
+
+/**
+ * Stores stats in a tab-separated file, one player per line.
+ * The whole file is rewritten on every save through a temporary file,
+ * so a crash mid-write never leaves a truncated stats file behind.
+ */
+public class FlatFileStatsStore implements StatsStore {
+
+    private static final String HEADER = "uuid\tname\tgamesPlayed\twins\tdeaths\tsurvivals\ttriggerPulls"
+            + "\tmoneyBet\tmoneyWon\tcurrentStreak\tbestStreak";
+
+    private final Path file;
+    private final Logger logger;
+
+    // Everything on disk, kept so a save only has to write the file once
+    private final Map<UUID, PlayerStats> stored;
+
+    public FlatFileStatsStore(File file, Logger logger) {
+        this.file = file.toPath();
+        this.logger = logger;
+        this.stored = new LinkedHashMap<>();
+    }
+
+    @Override
+    public void open() throws IOException {
+        Files.createDirectories(file.toAbsolutePath().getParent());
+    }
+
+    @Override
+    public List<PlayerStats> loadAll() throws IOException {
+        stored.clear();
+        if (!Files.exists(file)) {
+            return new ArrayList<>();
+        }
+
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            String line;
+            int lineNumber = 0;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isEmpty() || line.startsWith("uuid\t")) {
+                    continue;
+                }
+
+                PlayerStats stats = parse(line);
+                if (stats == null) {
+                    logger.warning("Skipping malformed line " + lineNumber + " in " + file.getFileName());
+                    continue;
+                }
+                stored.put(stats.getPlayerId(), stats);
+            }
+        }
+
+        List<PlayerStats> result = new ArrayList<>();
+        for (PlayerStats stats : stored.values()) {
+            result.add(stats.copy());
+        }
+        return result;
+    }
+
+    @Override
+    public void saveAll(Collection<PlayerStats> stats) throws IOException {
+        for (PlayerStats entry : stats) {
+            stored.put(entry.getPlayerId(), entry.copy());
+        }
+
+        Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+        try (BufferedWriter writer = Files.newBufferedWriter(temp, StandardCharsets.UTF_8)) {
+            writer.write(HEADER);
+            writer.newLine();
+            for (PlayerStats entry : stored.values()) {
+                writer.write(format(entry));
+                writer.newLine();
+            }
+        }
+
+        try {
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    @Override
+    public void close() {
+        stored.clear();
+    }
+
+    private static String format(PlayerStats stats) {
+        return stats.getPlayerId() + "\t" + stats.getPlayerName()
+                + "\t" + stats.getGamesPlayed()
+                + "\t" + stats.getWins()
+                + "\t" + stats.getDeaths()
+                + "\t" + stats.getSurvivals()
+                + "\t" + stats.getTriggerPulls()
+                + "\t" + stats.getMoneyBet()
+                + "\t" + stats.getMoneyWon()
+                + "\t" + stats.getCurrentStreak()
+                + "\t" + stats.getBestStreak();
+    }
+
+    private static PlayerStats parse(String line) {
+        String[] parts = line.split("\t");
+        if (parts.length != 11) {
+            return null;
+        }
+
+        try {
+            return new PlayerStats(UUID.fromString(parts[0]), parts[1],
+                    Integer.parseInt(parts[2]),
+                    Integer.parseInt(parts[3]),
+                    Integer.parseInt(parts[4]),
+                    Integer.parseInt(parts[5]),
+                    Integer.parseInt(parts[6]),
+                    Double.parseDouble(parts[7]),
+                    Double.parseDouble(parts[8]),
+                    Integer.parseInt(parts[9]),
+                    Integer.parseInt(parts[10]));
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,265 @@
+package com.example.russianroulette.stats;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+
+/**
+ * Players ordered by score, kept in a treap with subtree sizes.
+ * Updating a player, looking up a player's rank and fetching the player
+ * at a rank are all O(log n), so the board is maintained one change at a time
+ * and never re-sorted. Higher scores rank first; ties are broken by UUID
+ * so every player has a distinct, stable position.
+ * Not thread-safe; only used on the plugin's scheduler thread, which is the main
+ * thread on Paper and the global region thread on Folia.
+ */
+public class Leaderboard {
+
+    private final Map<UUID, Node> nodes;
+    private final Random random;
+    private Node root;
+
+    // Results of split, to avoid allocating a pair per call
+    private Node splitLeft;
+    private Node splitRight;
+
+    public Leaderboard() {
+        this.nodes = new HashMap<>();
+        this.random = new Random();
+    }
+
+    /**
+     * Set a player's score, adding the player if needed.
+     * 
+     * @param playerId Player UUID
+     * @param score    New score
+     */
+    public void update(UUID playerId, double score) {
+        Node node = nodes.get(playerId);
+        if (node != null) {
+            if (Double.compare(node.score, score) == 0) {
+                return;
+            }
+            root = erase(root, node);
+        }
+
+        node = new Node(playerId, score, random.nextInt());
+        nodes.put(playerId, node);
+        root = insert(root, node);
+    }
+
+    /**
+     * Remove a player from the board.
+     * 
+     * @param playerId Player UUID
+     */
+    public void remove(UUID playerId) {
+        Node node = nodes.remove(playerId);
+        if (node != null) {
+            root = erase(root, node);
+        }
+    }
+
+    /**
+     * Get a player's rank.
+     * 
+     * @param playerId Player UUID
+     * @return One-based rank, or 0 if the player isn't on the board
+     */
+    public int getRank(UUID playerId) {
+        Node key = nodes.get(playerId);
+        if (key == null) {
+            return 0;
+        }
+
+        int before = 0;
+        Node node = root;
+        while (node != null) {
+            int cmp = compare(key, node);
+            if (cmp == 0) {
+                return before + size(node.left) + 1;
+            }
+            if (cmp < 0) {
+                node = node.left;
+            } else {
+                before += size(node.left) + 1;
+                node = node.right;
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Get the player at a rank.
+     * 
+     * @param rank One-based rank
+     * @return Player UUID, or null if the rank is out of range
+     */
+    public UUID getPlayerAt(int rank) {
+        Node node = nodeAt(rank);
+        return node != null ? node.playerId : null;
+    }
+
+    /**
+     * Get the score at a rank.
+     * 
+     * @param rank One-based rank
+     * @return Score, or 0 if the rank is out of range
+     */
+    public double getScoreAt(int rank) {
+        Node node = nodeAt(rank);
+        return node != null ? node.score : 0;
+    }
+
+    /**
+     * Get a player's score.
+     * 
+     * @param playerId Player UUID
+     * @return Score, or 0 if the player isn't on the board
+     */
+    public double getScore(UUID playerId) {
+        Node node = nodes.get(playerId);
+        return node != null ? node.score : 0;
+    }
+
+    public int size() {
+        return nodes.size();
+    }
+
+    private Node nodeAt(int rank) {
+        if (rank < 1 || rank > size(root)) {
+            return null;
+        }
+
+        int index = rank - 1;
+        Node node = root;
+        while (node != null) {
+            int leftSize = size(node.left);
+            if (index < leftSize) {
+                node = node.left;
+            } else if (index == leftSize) {
+                return node;
+            } else {
+                index -= leftSize + 1;
+                node = node.right;
+            }
+        }
+        return null;
+    }
+
+    private Node insert(Node node, Node added) {
+        if (node == null) {
+            return added;
+        }
+
+        if (added.priority > node.priority) {
+            split(node, added);
+            added.left = splitLeft;
+            added.right = splitRight;
+            splitLeft = null;
+            splitRight = null;
+            added.updateSize();
+            return added;
+        }
+
+        if (compare(added, node) < 0) {
+            node.left = insert(node.left, added);
+        } else {
+            node.right = insert(node.right, added);
+        }
+        node.updateSize();
+        return node;
+    }
+
+    private Node erase(Node node, Node removed) {
+        if (node == null) {
+            return null;
+        }
+
+        if (node == removed) {
+            Node merged = merge(node.left, node.right);
+            removed.left = null;
+            removed.right = null;
+            return merged;
+        }
+
+        if (compare(removed, node) < 0) {
+            node.left = erase(node.left, removed);
+        } else {
+            node.right = erase(node.right, removed);
+        }
+        node.updateSize();
+        return node;
+    }
+
+    /**
+     * Split a subtree into nodes ranking before the key and nodes ranking after it.
+     */
+    private void split(Node node, Node key) {
+        if (node == null) {
+            splitLeft = null;
+            splitRight = null;
+            return;
+        }
+
+        if (compare(node, key) < 0) {
+            split(node.right, key);
+            node.right = splitLeft;
+            node.updateSize();
+            splitLeft = node;
+        } else {
+            split(node.left, key);
+            node.left = splitRight;
+            node.updateSize();
+            splitRight = node;
+        }
+    }
+
+    private Node merge(Node left, Node right) {
+        if (left == null) {
+            return right;
+        }
+        if (right == null) {
+            return left;
+        }
+
+        if (left.priority > right.priority) {
+            left.right = merge(left.right, right);
+            left.updateSize();
+            return left;
+        }
+        right.left = merge(left, right.left);
+        right.updateSize();
+        return right;
+    }
+
+    private static int compare(Node a, Node b) {
+        // Higher scores first
+        int byScore = Double.compare(b.score, a.score);
+        return byScore != 0 ? byScore : a.playerId.compareTo(b.playerId);
+    }
+
+    private static int size(Node node) {
+        return node != null ? node.size : 0;
+    }
+
+    private static final class Node {
+        private final UUID playerId;
+        private final double score;
+        private final int priority;
+        private int size = 1;
+        private Node left;
+        private Node right;
+
+        private Node(UUID playerId, double score, int priority) {
+            this.playerId = playerId;
+            this.score = score;
+            this.priority = priority;
+        }
+
+        private void updateSize() {
+            size = 1 + Leaderboard.size(left) + Leaderboard.size(right);
+        }
+    }
+}
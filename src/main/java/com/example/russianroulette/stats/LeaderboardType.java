@@ -0,0 +1,56 @@
+package com.example.russianroulette.stats;
+
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Statistics players can be ranked by.
+ */
+public enum LeaderboardType {
+    WINS(PlayerStats::getWins, false),
+    SURVIVALS(PlayerStats::getSurvivals, false),
+    PROFIT(PlayerStats::getProfit, true),
+    STREAK(PlayerStats::getBestStreak, false);
+
+    private final ToDoubleFunction<PlayerStats> score;
+    private final boolean money;
+
+    LeaderboardType(ToDoubleFunction<PlayerStats> score, boolean money) {
+        this.score = score;
+        this.money = money;
+    }
+
+    /**
+     * Get the value a player is ranked by on this board.
+     * 
+     * @param stats Player stats
+     * @return Score, higher ranks first
+     */
+    public double score(PlayerStats stats) {
+        return score.applyAsDouble(stats);
+    }
+
+    /**
+     * Format a score for display.
+     * 
+     * @param score Score from {@link #score(PlayerStats)}
+     * @return Formatted score
+     */
+    public String format(double score) {
+        return money ? String.format("%.2f", score) : String.valueOf((long) score);
+    }
+
+    /**
+     * Look up a board by name, ignoring case.
+     * 
+     * @param name Board name
+     * @return The board, or null if there is none with that name
+     */
+    public static LeaderboardType fromName(String name) {
+        for (LeaderboardType type : values()) {
+            if (type.name().equalsIgnoreCase(name)) {
+                return type;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,162 @@
+package com.example.russianroulette.stats;
+
+import java.util.UUID;
+
+/**
+ * Lifetime statistics of one player.
+ */
+public class PlayerStats {
+
+    private final UUID playerId;
+    private String playerName;
+    private int gamesPlayed;
+    private int wins;
+    private int deaths;
+    private int survivals;
+    private int triggerPulls;
+    private double moneyBet;
+    private double moneyWon;
+    private int currentStreak;
+    private int bestStreak;
+    // Set once the streak is broken, so merging stored stats doesn't continue a dead streak
+    private boolean streakReset;
+
+    public PlayerStats(UUID playerId, String playerName) {
+        this.playerId = playerId;
+        this.playerName = playerName;
+    }
+
+    public PlayerStats(UUID playerId, String playerName, int gamesPlayed, int wins, int deaths, int survivals,
+            int triggerPulls, double moneyBet, double moneyWon, int currentStreak, int bestStreak) {
+        this.playerId = playerId;
+        this.playerName = playerName;
+        this.gamesPlayed = gamesPlayed;
+        this.wins = wins;
+        this.deaths = deaths;
+        this.survivals = survivals;
+        this.triggerPulls = triggerPulls;
+        this.moneyBet = moneyBet;
+        this.moneyWon = moneyWon;
+        this.currentStreak = currentStreak;
+        this.bestStreak = bestStreak;
+    }
+
+    /**
+     * Copy these stats, e.g. to hand them to the writer thread.
+     * 
+     * @return Independent copy
+     */
+    public PlayerStats copy() {
+        return new PlayerStats(playerId, playerName, gamesPlayed, wins, deaths, survivals,
+                triggerPulls, moneyBet, moneyWon, currentStreak, bestStreak);
+    }
+
+    /**
+     * Fold stored stats into stats recorded before the store finished loading.
+     * 
+     * @param stored Stats loaded from the store
+     */
+    public void mergeStored(PlayerStats stored) {
+        gamesPlayed += stored.gamesPlayed;
+        wins += stored.wins;
+        deaths += stored.deaths;
+        survivals += stored.survivals;
+        triggerPulls += stored.triggerPulls;
+        moneyBet += stored.moneyBet;
+        moneyWon += stored.moneyWon;
+        if (!streakReset) {
+            currentStreak += stored.currentStreak;
+        }
+        bestStreak = Math.max(Math.max(bestStreak, stored.bestStreak), currentStreak);
+    }
+
+    void setPlayerName(String playerName) {
+        this.playerName = playerName;
+    }
+
+    void addGamePlayed() {
+        gamesPlayed++;
+    }
+
+    void addSurvival() {
+        survivals++;
+        triggerPulls++;
+    }
+
+    void addDeath() {
+        deaths++;
+        triggerPulls++;
+        resetStreak();
+    }
+
+    void addLoss() {
+        resetStreak();
+    }
+
+    private void resetStreak() {
+        currentStreak = 0;
+        streakReset = true;
+    }
+
+    void addWin() {
+        wins++;
+        currentStreak++;
+        bestStreak = Math.max(bestStreak, currentStreak);
+    }
+
+    void addMoneyBet(double amount) {
+        moneyBet += amount;
+    }
+
+    void addMoneyWon(double amount) {
+        moneyWon += amount;
+    }
+
+    public UUID getPlayerId() {
+        return playerId;
+    }
+
+    public String getPlayerName() {
+        return playerName;
+    }
+
+    public int getGamesPlayed() {
+        return gamesPlayed;
+    }
+
+    public int getWins() {
+        return wins;
+    }
+
+    public int getDeaths() {
+        return deaths;
+    }
+
+    public int getSurvivals() {
+        return survivals;
+    }
+
+    public int getTriggerPulls() {
+        return triggerPulls;
+    }
+
+    public double getMoneyBet() {
+        return moneyBet;
+    }
+
+    public double getMoneyWon() {
+        return moneyWon;
+    }
+
+    public double getProfit() {
+        return moneyWon - moneyBet;
+    }
+
+    public int getCurrentStreak() {
+        return currentStreak;
+    }
+
+    public int getBestStreak() {
+        return bestStreak;
+    }
+}
@@ -0,0 +1,129 @@
+package com.example.russianroulette.stats;
+
+import java.io.File;
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Stores stats in a local SQLite database file.
+ * The SQLite JDBC driver ships with the server, so nothing has to be shaded.
+ * Saves are batched upserts in a single transaction.
+ */
+public class SqlStatsStore implements StatsStore {
+
+    private static final String CREATE_TABLE = "CREATE TABLE IF NOT EXISTS rr_stats ("
+            + "uuid CHAR(36) PRIMARY KEY, "
+            + "name VARCHAR(16) NOT NULL, "
+            + "games_played INTEGER NOT NULL, "
+            + "wins INTEGER NOT NULL, "
+            + "deaths INTEGER NOT NULL, "
+            + "survivals INTEGER NOT NULL, "
+            + "trigger_pulls INTEGER NOT NULL, "
+            + "money_bet DOUBLE NOT NULL, "
+            + "money_won DOUBLE NOT NULL, "
+            + "current_streak INTEGER NOT NULL, "
+            + "best_streak INTEGER NOT NULL)";
+
+    private static final String SELECT_ALL = "SELECT uuid, name, games_played, wins, deaths, survivals, "
+            + "trigger_pulls, money_bet, money_won, current_streak, best_streak FROM rr_stats";
+
+    private static final String UPSERT = "INSERT INTO rr_stats (uuid, name, games_played, wins, deaths, "
+            + "survivals, trigger_pulls, money_bet, money_won, current_streak, best_streak) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?) "
+            + "ON CONFLICT(uuid) DO UPDATE SET name = excluded.name, "
+            + "games_played = excluded.games_played, wins = excluded.wins, deaths = excluded.deaths, "
+            + "survivals = excluded.survivals, trigger_pulls = excluded.trigger_pulls, "
+            + "money_bet = excluded.money_bet, money_won = excluded.money_won, "
+            + "current_streak = excluded.current_streak, best_streak = excluded.best_streak";
+
+    private final File file;
+    private Connection connection;
+
+    public SqlStatsStore(File file) {
+        this.file = file;
+    }
+
+    @Override
+    public void open() throws IOException {
+        try {
+            connection = DriverManager.getConnection("jdbc:sqlite:" + file.getAbsolutePath());
+            try (Statement statement = connection.createStatement()) {
+                statement.executeUpdate(CREATE_TABLE);
+            }
+        } catch (SQLException e) {
+            throw new IOException("Could not open stats database " + file.getName(), e);
+        }
+    }
+
+    @Override
+    public List<PlayerStats> loadAll() throws IOException {
+        List<PlayerStats> result = new ArrayList<>();
+        try (Statement statement = connection.createStatement();
+                ResultSet rows = statement.executeQuery(SELECT_ALL)) {
+            while (rows.next()) {
+                result.add(new PlayerStats(UUID.fromString(rows.getString(1)), rows.getString(2),
+                        rows.getInt(3), rows.getInt(4), rows.getInt(5), rows.getInt(6), rows.getInt(7),
+                        rows.getDouble(8), rows.getDouble(9), rows.getInt(10), rows.getInt(11)));
+            }
+        } catch (SQLException e) {
+            throw new IOException("Could not load stats", e);
+        }
+        return result;
+    }
+
+    @Override
+    public void saveAll(Collection<PlayerStats> stats) throws IOException {
+        try {
+            connection.setAutoCommit(false);
+            try (PreparedStatement statement = connection.prepareStatement(UPSERT)) {
+                for (PlayerStats entry : stats) {
+                    statement.setString(1, entry.getPlayerId().toString());
+                    statement.setString(2, entry.getPlayerName());
+                    statement.setInt(3, entry.getGamesPlayed());
+                    statement.setInt(4, entry.getWins());
+                    statement.setInt(5, entry.getDeaths());
+                    statement.setInt(6, entry.getSurvivals());
+                    statement.setInt(7, entry.getTriggerPulls());
+                    statement.setDouble(8, entry.getMoneyBet());
+                    statement.setDouble(9, entry.getMoneyWon());
+                    statement.setInt(10, entry.getCurrentStreak());
+                    statement.setInt(11, entry.getBestStreak());
+                    statement.addBatch();
+                }
+                statement.executeBatch();
+                connection.commit();
+            } catch (SQLException e) {
+                connection.rollback();
+                throw e;
+            } finally {
+                connection.setAutoCommit(true);
+            }
+        } catch (SQLException e) {
+            throw new IOException("Could not save stats", e);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (connection == null) {
+            return;
+        }
+
+        try {
+            connection.close();
+        } catch (SQLException e) {
+            throw new IOException("Could not close stats database", e);
+        } finally {
+            connection = null;
+        }
+    }
+}
@@ -0,0 +1,290 @@
+package com.example.russianroulette.stats;
+
+import com.example.russianroulette.RussianRoulettePlugin;
+import com.example.russianroulette.config.ConfigManager;
+import com.example.russianroulette.engine.ClockTask;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.logging.Level;
+
+/**
+ * Keeps player statistics in memory and writes them behind to a {@link StatsStore}.
+ * Stats are only touched on the plugin's scheduler thread; changed records are copied
+ * and handed to a single writer thread in batches, so the tick thread
+ * never waits on disk or database I/O.
+ */
+public class StatsManager {
+
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 10L;
+
+    private final RussianRoulettePlugin plugin;
+    private final StatsStore store;
+    private final ExecutorService writer;
+
+    // Player UUID -> stats, plugin scheduler thread only
+    private final Map<UUID, PlayerStats> stats;
+    // Players changed since the last flush
+    private final Set<UUID> dirty;
+    // Rankings, updated as each record changes
+    private final Map<LeaderboardType, Leaderboard> leaderboards;
+
+    private ClockTask flushTask;
+    private boolean loaded;
+    // Set while a load runs on the writer thread
+    private boolean loading;
+    private boolean loadFailureLogged;
+
+    public StatsManager(RussianRoulettePlugin plugin) {
+        this.plugin = plugin;
+        this.store = createStore(plugin);
+        this.writer = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "RussianRoulette-Stats");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.stats = new HashMap<>();
+        this.dirty = new LinkedHashSet<>();
+        this.leaderboards = new EnumMap<>(LeaderboardType.class);
+        for (LeaderboardType type : LeaderboardType.values()) {
+            leaderboards.put(type, new Leaderboard());
+        }
+    }
+
+    private static StatsStore createStore(RussianRoulettePlugin plugin) {
+        File folder = plugin.getDataFolder();
+        switch (plugin.getConfigManager().getStatsStorage()) {
+            case SQLITE:
+                return new SqlStatsStore(new File(folder, "stats.db"));
+            case FLATFILE:
+            default:
+                return new FlatFileStatsStore(new File(folder, "stats.tsv"), plugin.getLogger());
+        }
+    }
+
+    /**
+     * Open the store and load all stats in the background, then start periodic flushing.
+     */
+    public void start() {
+        load();
+
+        long period = plugin.getConfigManager().getStatsFlushInterval() * 20L;
+        flushTask = plugin.getTickScheduler().scheduleRepeating("stats-flush", period, period, this::flush);
+    }
+
+    /**
+     * Open the store and load all stats on the writer thread.
+     * If that fails, the store is closed again and the load is retried on the next flush.
+     */
+    private void load() {
+        loading = true;
+        writer.execute(() -> {
+            try {
+                store.open();
+                List<PlayerStats> stored = store.loadAll();
+                plugin.getTickScheduler().executeOnOwner(() -> onLoaded(stored));
+            } catch (IOException e) {
+                try {
+                    store.close();
+                } catch (IOException closeError) {
+                    e.addSuppressed(closeError);
+                }
+                plugin.getTickScheduler().executeOnOwner(() -> onLoadFailed(e));
+            }
+        });
+    }
+
+    private void onLoadFailed(IOException e) {
+        loading = false;
+        if (!loadFailureLogged) {
+            loadFailureLogged = true;
+            plugin.getLogger().log(Level.SEVERE, "Could not load stats, nothing is saved until a retry succeeds", e);
+        }
+    }
+
+    private void onLoaded(List<PlayerStats> stored) {
+        loading = false;
+        for (PlayerStats entry : stored) {
+            PlayerStats recorded = stats.get(entry.getPlayerId());
+            if (recorded == null) {
+                stats.put(entry.getPlayerId(), entry);
+            } else {
+                // Recorded while loading, keep both
+                recorded.mergeStored(entry);
+            }
+            updateLeaderboards(stats.get(entry.getPlayerId()));
+        }
+        loaded = true;
+        plugin.getLogger().info("Loaded stats for " + stored.size() + " players");
+    }
+
+    /**
+     * Hand every changed record to the writer thread.
+     */
+    public void flush() {
+        // Don't overwrite stored stats with partial ones before they're loaded
+        if (!loaded) {
+            if (!loading) {
+                load();
+            }
+            return;
+        }
+        if (dirty.isEmpty()) {
+            return;
+        }
+
+        List<PlayerStats> batch = new ArrayList<>(dirty.size());
+        for (UUID playerId : dirty) {
+            batch.add(stats.get(playerId).copy());
+        }
+        dirty.clear();
+
+        writer.execute(() -> {
+            try {
+                store.saveAll(batch);
+            } catch (IOException e) {
+                plugin.getLogger().log(Level.SEVERE, "Could not save stats for " + batch.size() + " players", e);
+            }
+        });
+    }
+
+    /**
+     * Flush, close the store and wait for the writer thread to finish.
+     * Only ever blocks at shutdown.
+     */
+    public void shutdown() {
+        if (flushTask != null) {
+            flushTask.cancel();
+            flushTask = null;
+        }
+
+        if (loaded) {
+            flush();
+        } else if (!dirty.isEmpty()) {
+            plugin.getLogger().warning("Stats were never loaded, changes of " + dirty.size() + " players are not saved");
+        }
+        writer.execute(() -> {
+            try {
+                store.close();
+            } catch (IOException e) {
+                plugin.getLogger().log(Level.WARNING, "Could not close stats store", e);
+            }
+        });
+        writer.shutdown();
+
+        try {
+            if (!writer.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                plugin.getLogger().warning("Stats writer did not finish in time, some stats may be lost");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private PlayerStats edit(UUID playerId, String playerName) {
+        PlayerStats entry = stats.computeIfAbsent(playerId, id -> new PlayerStats(id, playerName));
+        if (playerName != null) {
+            entry.setPlayerName(playerName);
+        }
+        dirty.add(playerId);
+        return entry;
+    }
+
+    private void updateLeaderboards(PlayerStats entry) {
+        for (Map.Entry<LeaderboardType, Leaderboard> board : leaderboards.entrySet()) {
+            board.getValue().update(entry.getPlayerId(), board.getKey().score(entry));
+        }
+    }
+
+    private boolean isEnabled() {
+        return plugin.getConfigManager().isStatsEnabled();
+    }
+
+    /**
+     * Change a player's stats on the plugin's scheduler thread; games on Folia call in from their own.
+     */
+    private void record(UUID playerId, String playerName, Consumer<PlayerStats> change) {
+        if (!isEnabled()) {
+            return;
+        }
+
+        plugin.getTickScheduler().execute(() -> {
+            PlayerStats entry = edit(playerId, playerName);
+            change.accept(entry);
+            updateLeaderboards(entry);
+        });
+    }
+
+    public void recordGamePlayed(UUID playerId, String playerName) {
+        record(playerId, playerName, PlayerStats::addGamePlayed);
+    }
+
+    public void recordSurvival(UUID playerId, String playerName) {
+        record(playerId, playerName, PlayerStats::addSurvival);
+    }
+
+    public void recordDeath(UUID playerId, String playerName) {
+        record(playerId, playerName, PlayerStats::addDeath);
+    }
+
+    /**
+     * Record a player leaving a running game, which ends their win streak.
+     */
+    public void recordLoss(UUID playerId, String playerName) {
+        record(playerId, playerName, PlayerStats::addLoss);
+    }
+
+    public void recordWin(UUID playerId, String playerName) {
+        record(playerId, playerName, PlayerStats::addWin);
+    }
+
+    public void recordMoneyBet(UUID playerId, String playerName, double amount) {
+        record(playerId, playerName, entry -> entry.addMoneyBet(amount));
+    }
+
+    public void recordMoneyWon(UUID playerId, String playerName, double amount) {
+        record(playerId, playerName, entry -> entry.addMoneyWon(amount));
+    }
+
+    /**
+     * Get a player's stats.
+     * 
+     * @param playerId Player UUID
+     * @return The stats, or null if the player never played
+     */
+    public PlayerStats getStats(UUID playerId) {
+        return stats.get(playerId);
+    }
+
+    /**
+     * Get a leaderboard. Only read it on the plugin's scheduler thread.
+     * 
+     * @param type Stat to rank by
+     * @return The leaderboard
+     */
+    public Leaderboard getLeaderboard(LeaderboardType type) {
+        return leaderboards.get(type);
+    }
+
+    public Collection<PlayerStats> getAllStats() {
+        return Collections.unmodifiableCollection(stats.values());
+    }
+
+    public boolean isLoaded() {
+        return loaded;
+    }
+}
@@ -0,0 +1,37 @@
+package com.example.russianroulette.stats;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Persistent backend for player statistics.
+ * Implementations are only ever called from the stats writer thread,
+ * one call at a time, so they don't need to be thread-safe.
+ */
+public interface StatsStore {
+
+    /**
+     * Open the store, creating files or tables if needed.
+     */
+    void open() throws IOException;
+
+    /**
+     * Load every stored player.
+     * 
+     * @return Stored stats
+     */
+    List<PlayerStats> loadAll() throws IOException;
+
+    /**
+     * Insert or replace the given players' stats.
+     * 
+     * @param stats Full records of the players that changed
+     */
+    void saveAll(Collection<PlayerStats> stats) throws IOException;
+
+    /**
+     * Release files or connections.
+     */
+    void close() throws IOException;
+}
@@ -0,0 +1,9 @@
+package com.example.russianroulette.stats;
+
+/**
+ * Available statistics backends.
+ */
+public enum StorageType {
+    FLATFILE,
+    SQLITE
+}
@@ -0,0 +1,327 @@
+package com.example.russianroulette.engine;
+
+import com.example.russianroulette.game.GameMode;
+import com.example.russianroulette.game.GameState;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RouletteEngineTest {
+
+    private static final int TURN_TIME = 3;
+    private static final long TURN_DELAY = 10L;
+
+    private static final UUID ALICE = UUID.fromString("00000000-0000-0000-0000-00000000000a");
+    private static final UUID BOB = UUID.fromString("00000000-0000-0000-0000-00000000000b");
+    private static final UUID CAROL = UUID.fromString("00000000-0000-0000-0000-00000000000c");
+
+    private ManualClock clock;
+    private ScriptedRandom random;
+    private Recorder recorder;
+    private RouletteEngine engine;
+
+    @BeforeEach
+    void setUp() {
+        clock = new ManualClock();
+        random = new ScriptedRandom();
+        recorder = new Recorder();
+        engine = newEngine(false);
+    }
+
+    @Test
+    void removingThePlayerOnTurnPassesToTheNextInOrder() {
+        List<UUID> order = begin(ALICE, BOB, CAROL);
+        assertEquals(order.get(0), engine.getCurrentTurnPlayer());
+
+        assertTrue(engine.removePlayer(order.get(0)));
+        assertNull(engine.getCurrentTurnPlayer());
+
+        clock.advance(TURN_DELAY);
+        // Not order.get(2): the removal already moved the next player to the turn index
+        assertEquals(order.get(1), engine.getCurrentTurnPlayer());
+        assertEquals(List.of(order.get(1), order.get(2)), engine.getAlivePlayers());
+    }
+
+    @Test
+    void removingAPlayerBeforeTheTurnKeepsTheTurn() {
+        // Bullet in chamber 0, cylinder at chamber 1: the first five pulls are empty
+        random.script(0, 1);
+        List<UUID> order = begin(ALICE, BOB, CAROL);
+
+        assertEquals(TriggerResult.SURVIVED, engine.pullTrigger(order.get(0)));
+        clock.advance(TURN_DELAY);
+        assertEquals(order.get(1), engine.getCurrentTurnPlayer());
+
+        engine.removePlayer(order.get(0));
+        assertTrue(engine.isPlayerTurn(order.get(1)));
+
+        assertEquals(TriggerResult.SURVIVED, engine.pullTrigger(order.get(1)));
+        clock.advance(TURN_DELAY);
+        assertEquals(order.get(2), engine.getCurrentTurnPlayer());
+    }
+
+    @Test
+    void removingAPlayerAfterTheTurnKeepsTheTurn() {
+        List<UUID> order = begin(ALICE, BOB, CAROL);
+
+        engine.removePlayer(order.get(2));
+        assertTrue(engine.isPlayerTurn(order.get(0)));
+        assertEquals(GameState.IN_PROGRESS, engine.getState());
+    }
+
+    @Test
+    void playerRemovedOnTurnStartGetsNoTurnTimer() {
+        random.script(0, 1);
+        List<UUID> order = begin(ALICE, BOB, CAROL);
+        recorder.removeOnTurnStart = order.get(1);
+
+        engine.pullTrigger(order.get(0));
+        clock.advance(TURN_DELAY);
+        assertFalse(engine.hasPlayer(order.get(1)));
+        assertNull(engine.getCurrentTurnPlayer());
+
+        // The removal scheduled the next turn; no timer runs out for the removed player
+        clock.advance(TURN_DELAY);
+        assertEquals(order.get(2), engine.getCurrentTurnPlayer());
+        clock.advance(TURN_TIME * 20L);
+        assertEquals(List.of(order.get(2)), recorder.timeouts);
+    }
+
+    @Test
+    void disconnectedPlayerIsEliminatedOnTheirTurn() {
+        random.script(0, 1);
+        List<UUID> order = begin(ALICE, BOB, CAROL);
+        recorder.disconnected = order.get(1);
+
+        engine.pullTrigger(order.get(0));
+        clock.advance(TURN_DELAY);
+
+        assertEquals(List.of(order.get(1)), recorder.disconnects);
+        clock.advance(TURN_DELAY);
+        assertEquals(order.get(2), engine.getCurrentTurnPlayer());
+    }
+
+    @Test
+    void shootingTheLastButOnePlayerDeclaresTheWinner() {
+        // Bullet in chamber 0, cylinder at chamber 0: the first pull fires
+        random.script(0, 0);
+        List<UUID> order = begin(ALICE, BOB);
+
+        assertEquals(TriggerResult.DIED, engine.pullTrigger(order.get(0)));
+
+        assertEquals(List.of(order.get(1)), recorder.winners);
+        assertEquals(GameState.ENDED, engine.getState());
+        assertEquals(1, recorder.ends);
+        assertEquals(0, engine.getPlayerCount());
+        assertTrue(clock.isIdle());
+    }
+
+    @Test
+    void leavingDownToOnePlayerDeclaresTheWinner() {
+        List<UUID> order = begin(ALICE, BOB);
+
+        engine.removePlayer(order.get(1));
+
+        assertEquals(List.of(order.get(0)), recorder.winners);
+        assertEquals(GameState.ENDED, engine.getState());
+        assertEquals(TriggerResult.NOT_IN_PROGRESS, engine.pullTrigger(order.get(0)));
+    }
+
+    @Test
+    void twoPlayersLeftIsNoWinnerYet() {
+        random.script(0, 0);
+        List<UUID> order = begin(ALICE, BOB, CAROL);
+
+        assertEquals(TriggerResult.DIED, engine.pullTrigger(order.get(0)));
+
+        assertTrue(recorder.winners.isEmpty());
+        assertEquals(GameState.IN_PROGRESS, engine.getState());
+        assertEquals(2, engine.getAliveCount());
+    }
+
+    @Test
+    void triggerIsPulledWhenTheTurnRunsOut() {
+        random.script(0, 1);
+        List<UUID> order = begin(ALICE, BOB, CAROL);
+
+        clock.advance(TURN_TIME * 20L - 1);
+        assertTrue(recorder.timeouts.isEmpty());
+        assertEquals(List.of(2, 1), recorder.ticks);
+
+        clock.advance(1);
+        assertEquals(List.of(order.get(0)), recorder.timeouts);
+        assertEquals(List.of(order.get(0)), recorder.pulls);
+
+        clock.advance(TURN_DELAY);
+        assertEquals(order.get(1), engine.getCurrentTurnPlayer());
+        assertEquals(TURN_TIME, engine.getTurnTimeRemaining());
+    }
+
+    @Test
+    void pullingInTimeStopsTheTurnTimer() {
+        random.script(0, 1);
+        List<UUID> order = begin(ALICE, BOB, CAROL);
+
+        clock.advance(20L);
+        engine.pullTrigger(order.get(0));
+        clock.advance(TURN_DELAY + TURN_TIME * 20L - 1);
+
+        assertTrue(recorder.timeouts.isEmpty());
+        assertEquals(List.of(order.get(0)), recorder.pulls);
+    }
+
+    @Test
+    void emptyCylinderIsReloadedAfterAHit() {
+        random.script(0, 0);
+        List<UUID> order = begin(ALICE, BOB, CAROL);
+
+        assertEquals(TriggerResult.DIED, engine.pullTrigger(order.get(0)));
+
+        assertTrue(engine.getRevolver().hasBullets());
+        assertEquals(GameMode.CLASSIC.getBulletCount(), engine.getRevolver().getBulletsRemaining());
+    }
+
+    @Test
+    void loadedCylinderIsKeptAfterAHitWithoutReshuffle() {
+        engine = newEngine(false, GameMode.HARDCORE);
+        // Bullets in chambers 0 and 1, cylinder at chamber 0
+        random.script(0, 1, 0);
+        List<UUID> order = begin(ALICE, BOB, CAROL);
+
+        assertEquals(TriggerResult.DIED, engine.pullTrigger(order.get(0)));
+        assertEquals(1, engine.getRevolver().getBulletsRemaining());
+        assertEquals(1, engine.getRevolver().getCurrentChamberIndex());
+
+        clock.advance(TURN_DELAY);
+        assertEquals(TriggerResult.DIED, engine.pullTrigger(engine.getCurrentTurnPlayer()));
+    }
+
+    @Test
+    void onlyThePlayerOnTurnCanPull() {
+        List<UUID> order = begin(ALICE, BOB, CAROL);
+
+        assertEquals(TriggerResult.NOT_YOUR_TURN, engine.pullTrigger(order.get(1)));
+        clock.advance(TURN_DELAY);
+        assertEquals(order.get(0), engine.getCurrentTurnPlayer());
+    }
+
+    private RouletteEngine newEngine(boolean reshuffle) {
+        return newEngine(reshuffle, GameMode.CLASSIC);
+    }
+
+    private RouletteEngine newEngine(boolean reshuffle, GameMode mode) {
+        EngineSettings settings = new EngineSettings(mode, 2, 6, TURN_TIME, 0, reshuffle, TURN_DELAY);
+        RouletteEngine created = new RouletteEngine(settings, clock, recorder, random);
+        recorder.engine = created;
+        return created;
+    }
+
+    /**
+     * Add the players, run the countdown and start the first turn.
+     * 
+     * @return Turn order
+     */
+    private List<UUID> begin(UUID... playerIds) {
+        for (UUID playerId : playerIds) {
+            assertTrue(engine.addPlayer(playerId));
+        }
+        assertTrue(engine.start());
+        clock.advance(0L);
+        assertEquals(GameState.IN_PROGRESS, engine.getState());
+        return engine.getAlivePlayers();
+    }
+
+    /**
+     * Returns scripted values from {@link #nextInt(int)}, then counts up so a reload still finds free chambers.
+     * Both the cylinder and the turn order shuffle draw from it.
+     */
+    private static final class ScriptedRandom extends Random {
+        private final Deque<Integer> values = new ArrayDeque<>();
+        private int unscripted;
+
+        void script(int... next) {
+            for (int value : next) {
+                values.add(value);
+            }
+        }
+
+        @Override
+        public int nextInt(int bound) {
+            Integer value = values.poll();
+            return (value == null ? unscripted++ : value) % bound;
+        }
+    }
+
+    private static final class Recorder implements EngineListener {
+        private RouletteEngine engine;
+        private UUID removeOnTurnStart;
+        private UUID disconnected;
+
+        private final List<Integer> ticks = new ArrayList<>();
+        private final List<UUID> timeouts = new ArrayList<>();
+        private final List<UUID> pulls = new ArrayList<>();
+        private final List<UUID> disconnects = new ArrayList<>();
+        private final List<UUID> winners = new ArrayList<>();
+        private int ends;
+
+        @Override
+        public void onGameBegin() {
+            engine.startTurn();
+        }
+
+        @Override
+        public boolean isConnected(UUID playerId) {
+            return !playerId.equals(disconnected);
+        }
+
+        @Override
+        public void onTurnStart(UUID playerId) {
+            if (playerId.equals(removeOnTurnStart)) {
+                engine.removePlayer(playerId);
+            }
+        }
+
+        @Override
+        public void onTurnTick(UUID playerId, int timeRemaining) {
+            ticks.add(timeRemaining);
+        }
+
+        @Override
+        public void onTurnTimeout(UUID playerId) {
+            timeouts.add(playerId);
+        }
+
+        @Override
+        public void onTriggerPulled(UUID playerId, boolean hit) {
+            pulls.add(playerId);
+        }
+
+        @Override
+        public void onEliminated(UUID playerId, boolean disconnected) {
+            if (disconnected) {
+                disconnects.add(playerId);
+            }
+        }
+
+        @Override
+        public void onWinner(UUID winnerId) {
+            winners.add(winnerId);
+        }
+
+        @Override
+        public void onGameEnd() {
+            ends++;
+        }
+    }
+}
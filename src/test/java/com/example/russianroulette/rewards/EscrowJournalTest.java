@@ -0,0 +1,224 @@
+package com.example.russianroulette.rewards;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.logging.Logger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class EscrowJournalTest {
+
+    private static final Logger LOGGER = Logger.getLogger(EscrowJournalTest.class.getName());
+
+    private static final UUID GAME_1 = UUID.fromString("00000000-0000-0000-0000-000000000001");
+    private static final UUID GAME_2 = UUID.fromString("00000000-0000-0000-0000-000000000002");
+    private static final UUID GAME_3 = UUID.fromString("00000000-0000-0000-0000-000000000003");
+    private static final UUID ALICE = UUID.fromString("00000000-0000-0000-0000-00000000000a");
+    private static final UUID BOB = UUID.fromString("00000000-0000-0000-0000-00000000000b");
+
+    private static final String ITEM_1 = Base64.getEncoder().encodeToString(new byte[] { 1, 2, 3 });
+    private static final String ITEM_2 = Base64.getEncoder().encodeToString(new byte[] { 4, 5 });
+
+    @TempDir
+    Path folder;
+
+    @Test
+    void replayKeepsStakesThatWereNeverSettled() throws IOException {
+        Map<UUID, Map<UUID, EscrowJournal.Stake>> open = reopen(
+                "BET\t" + GAME_1 + "\t" + ALICE + "\tAlice\t100.0",
+                "BET\t" + GAME_1 + "\t" + BOB + "\tBob\t100.0",
+                "ITEMS\t" + GAME_2 + "\t" + ALICE + "\tAlice\t" + ITEM_1 + "," + ITEM_2,
+                "RELEASE\t" + GAME_1 + "\t" + BOB,
+                "BET\t" + GAME_3 + "\t" + ALICE + "\tAlice\t50.0",
+                "CLOSE\t" + GAME_3);
+
+        assertEquals(2, open.size());
+        assertEquals(1, open.get(GAME_1).size());
+        assertEquals(100.0, open.get(GAME_1).get(ALICE).getMoney());
+        assertEquals("Alice", open.get(GAME_1).get(ALICE).getPlayerName());
+        assertTrue(open.get(GAME_2).get(ALICE).hasItems());
+        assertNull(open.get(GAME_3));
+    }
+
+    @Test
+    void releasingTheLastStakeDropsTheGame() throws IOException {
+        Map<UUID, Map<UUID, EscrowJournal.Stake>> open = reopen(
+                "BET\t" + GAME_1 + "\t" + ALICE + "\tAlice\t100.0",
+                "RELEASE\t" + GAME_1 + "\t" + ALICE);
+
+        assertTrue(open.isEmpty());
+    }
+
+    @Test
+    void betsOfOnePlayerInOneGameAddUp() throws IOException {
+        Map<UUID, Map<UUID, EscrowJournal.Stake>> open = reopen(
+                "BET\t" + GAME_1 + "\t" + ALICE + "\tAlice\t100.0",
+                "BET\t" + GAME_1 + "\t" + ALICE + "\tAlice\t25.5");
+
+        assertEquals(125.5, open.get(GAME_1).get(ALICE).getMoney());
+    }
+
+    @Test
+    void tornLastLineIsSkipped() throws IOException {
+        Map<UUID, Map<UUID, EscrowJournal.Stake>> open = reopen(
+                "BET\t" + GAME_1 + "\t" + ALICE + "\tAlice\t100.0",
+                "BET\t" + GAME_1 + "\t" + BOB + "\tBo");
+
+        assertEquals(1, open.get(GAME_1).size());
+        assertEquals(100.0, open.get(GAME_1).get(ALICE).getMoney());
+    }
+
+    @Test
+    void malformedLinesAreSkipped() throws IOException {
+        Map<UUID, Map<UUID, EscrowJournal.Stake>> open = reopen(
+                "BET\tnot-a-uuid\t" + ALICE + "\tAlice\t100.0",
+                "BET\t" + GAME_1 + "\t" + ALICE + "\tAlice\tlots",
+                "ITEMS\t" + GAME_2 + "\t" + ALICE + "\tAlice\t" + ITEM_1 + ",%%%",
+                "BOGUS\t" + GAME_1,
+                "",
+                "BET\t" + GAME_3 + "\t" + BOB + "\tBob\t10.0");
+
+        assertEquals(1, open.size());
+        assertEquals(10.0, open.get(GAME_3).get(BOB).getMoney());
+    }
+
+    @Test
+    void compactionKeepsExactlyTheOpenStakes() throws IOException {
+        reopen(
+                "BET\t" + GAME_1 + "\t" + ALICE + "\tAlice\t100.0",
+                "BET\t" + GAME_1 + "\t" + ALICE + "\tAlice\t50.0",
+                "BET\t" + GAME_1 + "\t" + BOB + "\tBob\t100.0",
+                "RELEASE\t" + GAME_1 + "\t" + BOB,
+                "ITEMS\t" + GAME_2 + "\t" + BOB + "\tBob\t" + ITEM_1,
+                "ITEMS\t" + GAME_2 + "\t" + BOB + "\tBob\t" + ITEM_2,
+                "BET\t" + GAME_3 + "\t" + ALICE + "\tAlice\t50.0",
+                "CLOSE\t" + GAME_3,
+                "BET\t" + GAME_3 + "\t" + ALICE + "\tAl");
+
+        assertEquals(List.of(
+                "BET\t" + GAME_1 + "\t" + ALICE + "\tAlice\t150.0",
+                "ITEMS\t" + GAME_2 + "\t" + BOB + "\tBob\t" + ITEM_1 + "," + ITEM_2),
+                Files.readAllLines(journalFile(), StandardCharsets.UTF_8));
+
+        // Replaying the compacted journal gives the same stakes
+        Map<UUID, Map<UUID, EscrowJournal.Stake>> again = reopen();
+        assertEquals(150.0, again.get(GAME_1).get(ALICE).getMoney());
+        assertTrue(again.get(GAME_2).get(BOB).hasItems());
+        assertEquals(2, again.size());
+    }
+
+    @Test
+    void confirmedWithdrawalStaysAtStake() throws IOException {
+        Map<UUID, Map<UUID, EscrowJournal.Stake>> open = reopen(
+                "WITHDRAW\t" + GAME_1 + "\t" + ALICE + "\tAlice\t100.0",
+                "TAKEN\t" + GAME_1 + "\t" + ALICE);
+
+        assertEquals(100.0, open.get(GAME_1).get(ALICE).getMoney());
+    }
+
+    @Test
+    void voidedWithdrawalIsDropped() throws IOException {
+        Map<UUID, Map<UUID, EscrowJournal.Stake>> open = reopen(
+                "WITHDRAW\t" + GAME_1 + "\t" + ALICE + "\tAlice\t100.0",
+                "VOID\t" + GAME_1 + "\t" + ALICE,
+                "WITHDRAW\t" + GAME_1 + "\t" + BOB + "\tBob\t100.0",
+                "TAKEN\t" + GAME_1 + "\t" + BOB);
+
+        assertEquals(1, open.get(GAME_1).size());
+        assertFalse(open.get(GAME_1).containsKey(ALICE));
+    }
+
+    @Test
+    void pendingWithdrawalIsRefunded() throws IOException {
+        Map<UUID, Map<UUID, EscrowJournal.Stake>> open = reopen(
+                "WITHDRAW\t" + GAME_1 + "\t" + ALICE + "\tAlice\t100.0");
+
+        assertEquals(100.0, open.get(GAME_1).get(ALICE).getMoney());
+    }
+
+    @Test
+    void pendingPayoutCountsAsPaid() throws IOException {
+        Map<UUID, Map<UUID, EscrowJournal.Stake>> open = reopen(
+                "BET\t" + GAME_1 + "\t" + ALICE + "\tAlice\t100.0",
+                "BET\t" + GAME_1 + "\t" + BOB + "\tBob\t100.0",
+                "PAYOUT\t" + GAME_1 + "\t" + ALICE + "\tAlice\t200.0");
+
+        assertTrue(open.isEmpty());
+        assertEquals(List.of(), Files.readAllLines(journalFile(), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void failedPayoutIsRefunded() throws IOException {
+        Map<UUID, Map<UUID, EscrowJournal.Stake>> open = reopen(
+                "BET\t" + GAME_1 + "\t" + ALICE + "\tAlice\t100.0",
+                "BET\t" + GAME_1 + "\t" + BOB + "\tBob\t100.0",
+                "PAYOUT\t" + GAME_1 + "\t" + ALICE + "\tAlice\t200.0",
+                "UNPAID\t" + GAME_1);
+
+        assertEquals(2, open.get(GAME_1).size());
+    }
+
+    @Test
+    void recordsAppendedAfterOpeningAreReplayed() throws IOException {
+        EscrowJournal journal = new EscrowJournal(LOGGER, journalFile());
+        journal.open();
+        journal.recordWithdraw(GAME_1, ALICE, "Alice", 100.0);
+        journal.confirmWithdraw(GAME_1, ALICE);
+        journal.recordWithdraw(GAME_1, BOB, "Bob", 100.0);
+        journal.voidWithdraw(GAME_1, BOB);
+        journal.recordWithdraw(GAME_2, BOB, "Bob", 100.0);
+        journal.confirmWithdraw(GAME_2, BOB);
+        journal.recordPayout(GAME_2, BOB, "Bob", 100.0);
+        journal.close(GAME_2);
+        journal.shutdown();
+
+        Map<UUID, Map<UUID, EscrowJournal.Stake>> open = reopen();
+        assertEquals(1, open.size());
+        assertEquals(1, open.get(GAME_1).size());
+        assertEquals(100.0, open.get(GAME_1).get(ALICE).getMoney());
+    }
+
+    @Test
+    void gamesWithoutStakesLogNothing() throws IOException {
+        EscrowJournal journal = new EscrowJournal(LOGGER, journalFile());
+        journal.open();
+        journal.release(GAME_1, ALICE);
+        journal.recordPayout(GAME_1, ALICE, "Alice", 10.0);
+        journal.close(GAME_1);
+        journal.shutdown();
+
+        assertEquals(List.of(), Files.readAllLines(journalFile(), StandardCharsets.UTF_8));
+    }
+
+    private Path journalFile() {
+        return folder.resolve("escrow.log");
+    }
+
+    /**
+     * Append lines to the journal, open it as a fresh start would and close it again.
+     */
+    private Map<UUID, Map<UUID, EscrowJournal.Stake>> reopen(String... lines) throws IOException {
+        if (lines.length > 0) {
+            Files.write(journalFile(), List.of(lines), StandardCharsets.UTF_8);
+        }
+
+        EscrowJournal journal = new EscrowJournal(LOGGER, journalFile());
+        try {
+            return journal.open();
+        } finally {
+            journal.shutdown();
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.example.russianroulette.scheduler;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class TickSchedulerTest {
+
+    private static final long TICK_NANOS = 50_000_000L;
+
+    private TickScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        // Never started, so no server is needed; the test drives the wall clock itself
+        scheduler = new TickScheduler(null, new TaskProfiler(), null);
+    }
+
+    @Test
+    void followsTheWallClock() {
+        scheduler.catchUp(10 * TICK_NANOS);
+        assertEquals(10L, scheduler.getCurrentTick());
+
+        scheduler.catchUp(10 * TICK_NANOS + TICK_NANOS / 2);
+        assertEquals(10L, scheduler.getCurrentTick());
+
+        scheduler.catchUp(150 * TICK_NANOS);
+        assertEquals(150L, scheduler.getCurrentTick());
+    }
+
+    @Test
+    void longStallCatchesUpAtMostTenSeconds() {
+        scheduler.catchUp(100 * TICK_NANOS);
+
+        scheduler.catchUp(1100 * TICK_NANOS);
+        assertEquals(300L, scheduler.getCurrentTick());
+
+        // The rest is given up, so the next tick doesn't replay it
+        scheduler.catchUp(1101 * TICK_NANOS);
+        assertEquals(301L, scheduler.getCurrentTick());
+    }
+
+    @Test
+    void repeatingDeadlinesDontDriftAfterAStall() {
+        List<Long> ticks = new ArrayList<>();
+        scheduler.scheduleRepeating("test", 20L, 20L, () -> ticks.add(scheduler.getCurrentTick()));
+
+        long now = 0L;
+        for (int i = 0; i < 100; i++) {
+            now += TICK_NANOS;
+            scheduler.catchUp(now);
+        }
+        // Stall for 50 seconds, then tick on as usual
+        now += 1000 * TICK_NANOS;
+        scheduler.catchUp(now);
+        for (int i = 0; i < 300; i++) {
+            now += TICK_NANOS;
+            scheduler.catchUp(now);
+        }
+
+        assertEquals(600L, scheduler.getCurrentTick());
+        assertEquals(30, ticks.size());
+        for (int i = 0; i < ticks.size(); i++) {
+            assertEquals(20L * (i + 1), (long) ticks.get(i));
+        }
+    }
+
+    @Test
+    void laterCatchUpStaysWithinTheCap() {
+        scheduler.catchUp(1000 * TICK_NANOS);
+        assertEquals(200L, scheduler.getCurrentTick());
+
+        scheduler.catchUp(1500 * TICK_NANOS);
+        assertEquals(400L, scheduler.getCurrentTick());
+
+        scheduler.catchUp(1510 * TICK_NANOS);
+        assertEquals(410L, scheduler.getCurrentTick());
+    }
+}
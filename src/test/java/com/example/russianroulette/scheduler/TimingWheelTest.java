@@ -0,0 +1,198 @@
+package com.example.russianroulette.scheduler;
+
+import com.example.russianroulette.engine.ClockTask;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TimingWheelTest {
+
+    // Ticks covered by the first, second and third level
+    private static final long LEVEL_1 = 64L;
+    private static final long LEVEL_2 = 64L * 64L;
+    private static final long LEVEL_3 = 64L * 64L * 64L;
+
+    private List<RuntimeException> errors;
+    private TimingWheel wheel;
+
+    @BeforeEach
+    void setUp() {
+        errors = new ArrayList<>();
+        wheel = new TimingWheel(errors::add);
+    }
+
+    @Test
+    void timersAroundTheLevelBoundariesRunOnTheirDeadline() {
+        long[] delays = {
+                1, LEVEL_1 - 1, LEVEL_1, LEVEL_1 + 1,
+                LEVEL_2 - 1, LEVEL_2, LEVEL_2 + 1,
+                LEVEL_3 - 1, LEVEL_3, LEVEL_3 + 1 };
+
+        // From tick 0 and then from ticks that don't sit on a slot boundary of any level
+        for (long skip : new long[] { 0L, 37L, LEVEL_2 + 5L, LEVEL_3 - 2L }) {
+            long start = wheel.getCurrentTick() + skip;
+            wheel.advanceTo(start);
+            List<long[]> runs = new ArrayList<>();
+            for (long delay : delays) {
+                long deadline = start + delay;
+                wheel.schedule(delay, () -> runs.add(new long[] { deadline, wheel.getCurrentTick() }));
+            }
+
+            wheel.advanceTo(start + LEVEL_3 + 1);
+            assertEquals(delays.length, runs.size());
+            for (long[] run : runs) {
+                assertEquals(run[0], run[1]);
+            }
+            assertEquals(0, wheel.size());
+        }
+        assertTrue(errors.isEmpty());
+    }
+
+    @Test
+    void randomTimersRunOnTheirDeadlineWhateverTheStepSize() {
+        Random random = new Random(42L);
+        List<long[]> runs = new ArrayList<>();
+        int scheduled = 0;
+
+        // Advance in uneven steps, scheduling from wherever the wheel stands
+        while (wheel.getCurrentTick() < 2 * LEVEL_3) {
+            for (int i = 0; i < 20; i++) {
+                long delay = 1 + (long) (random.nextDouble() * random.nextDouble() * LEVEL_3);
+                long deadline = wheel.getCurrentTick() + delay;
+                wheel.schedule(delay, () -> runs.add(new long[] { deadline, wheel.getCurrentTick() }));
+                scheduled++;
+            }
+            wheel.advanceTo(wheel.getCurrentTick() + 1 + random.nextInt(5000));
+        }
+        wheel.advanceTo(wheel.getCurrentTick() + LEVEL_3);
+
+        assertEquals(scheduled, runs.size());
+        for (long[] run : runs) {
+            assertEquals(run[0], run[1]);
+        }
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    void repeatingTimerKeepsItsPeriodAcrossCascades() {
+        List<Long> ticks = new ArrayList<>();
+        wheel.scheduleRepeating(10L, 100L, () -> ticks.add(wheel.getCurrentTick()));
+
+        wheel.advanceTo(LEVEL_2 * 3);
+
+        assertEquals((LEVEL_2 * 3 - 10L) / 100 + 1, ticks.size());
+        for (int i = 0; i < ticks.size(); i++) {
+            assertEquals(10L + 100L * i, (long) ticks.get(i));
+        }
+        assertEquals(1, wheel.size());
+    }
+
+    @Test
+    void limitedTimerStopsAfterItsRuns() {
+        List<Long> ticks = new ArrayList<>();
+        ClockTask task = wheel.schedule(5L, 70L, 3, () -> ticks.add(wheel.getCurrentTick()));
+
+        wheel.advanceTo(1000L);
+
+        assertEquals(List.of(5L, 75L, 145L), ticks);
+        assertTrue(task.isCancelled());
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    void zeroDelayRunsOnTheNextTick() {
+        List<Long> ticks = new ArrayList<>();
+        wheel.advanceTo(63L);
+        wheel.schedule(0L, () -> ticks.add(wheel.getCurrentTick()));
+
+        wheel.advanceTo(63L);
+        assertTrue(ticks.isEmpty());
+        wheel.advanceTo(64L);
+        assertEquals(List.of(64L), ticks);
+    }
+
+    @Test
+    void repeatingTimerCanCancelItselfWhileRunning() {
+        int[] runs = { 0 };
+        ClockTask[] task = new ClockTask[1];
+        task[0] = wheel.scheduleRepeating(1L, 1L, () -> {
+            if (++runs[0] == 3) {
+                task[0].cancel();
+            }
+        });
+
+        wheel.advanceTo(100L);
+
+        assertEquals(3, runs[0]);
+        assertTrue(task[0].isCancelled());
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    void oneShotTimerCancellingItselfWhileRunningIsHarmless() {
+        int[] runs = { 0 };
+        ClockTask[] task = new ClockTask[1];
+        task[0] = wheel.schedule(LEVEL_1 + 3, () -> {
+            runs[0]++;
+            task[0].cancel();
+        });
+        ClockTask other = wheel.schedule(LEVEL_1 + 3, () -> runs[0]++);
+
+        wheel.advanceTo(LEVEL_2);
+
+        assertEquals(2, runs[0]);
+        assertTrue(other.isCancelled());
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    void timerCancelledByAnotherInTheSameSlotDoesNotRun() {
+        List<String> ran = new ArrayList<>();
+        ClockTask[] second = new ClockTask[1];
+        wheel.schedule(LEVEL_2 + 1, () -> {
+            ran.add("first");
+            second[0].cancel();
+        });
+        second[0] = wheel.schedule(LEVEL_2 + 1, () -> ran.add("second"));
+
+        wheel.advanceTo(LEVEL_2 * 2);
+
+        assertEquals(List.of("first"), ran);
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    void timerCancelledInAnUpperLevelNeverRuns() {
+        int[] runs = { 0 };
+        ClockTask task = wheel.schedule(LEVEL_2 + 10, () -> runs[0]++);
+        wheel.advanceTo(LEVEL_1 * 2);
+        task.cancel();
+        task.cancel();
+
+        wheel.advanceTo(LEVEL_3);
+
+        assertEquals(0, runs[0]);
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    void failingTaskIsReportedAndKeepsRepeating() {
+        int[] runs = { 0 };
+        wheel.scheduleRepeating(1L, 1L, () -> {
+            runs[0]++;
+            throw new IllegalStateException("boom");
+        });
+
+        wheel.advanceTo(3L);
+
+        assertEquals(3, runs[0]);
+        assertEquals(3, errors.size());
+        assertEquals("boom", errors.get(0).getMessage());
+    }
+}
@@ -0,0 +1,127 @@
+package com.example.russianroulette.stats;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class LeaderboardTest {
+
+    private static final UUID ALICE = UUID.fromString("00000000-0000-0000-0000-00000000000a");
+    private static final UUID BOB = UUID.fromString("00000000-0000-0000-0000-00000000000b");
+    private static final UUID CAROL = UUID.fromString("00000000-0000-0000-0000-00000000000c");
+
+    @Test
+    void higherScoresRankFirst() {
+        Leaderboard board = new Leaderboard();
+        board.update(ALICE, 5);
+        board.update(BOB, 9);
+        board.update(CAROL, 7);
+
+        assertEquals(1, board.getRank(BOB));
+        assertEquals(2, board.getRank(CAROL));
+        assertEquals(3, board.getRank(ALICE));
+        assertEquals(BOB, board.getPlayerAt(1));
+        assertEquals(9.0, board.getScoreAt(1));
+    }
+
+    @Test
+    void tiesAreOrderedByUuid() {
+        Leaderboard board = new Leaderboard();
+        board.update(CAROL, 3);
+        board.update(ALICE, 3);
+        board.update(BOB, 3);
+
+        assertEquals(ALICE, board.getPlayerAt(1));
+        assertEquals(BOB, board.getPlayerAt(2));
+        assertEquals(CAROL, board.getPlayerAt(3));
+    }
+
+    @Test
+    void updateMovesAPlayer() {
+        Leaderboard board = new Leaderboard();
+        board.update(ALICE, 5);
+        board.update(BOB, 9);
+
+        board.update(ALICE, 10);
+
+        assertEquals(2, board.size());
+        assertEquals(1, board.getRank(ALICE));
+        assertEquals(2, board.getRank(BOB));
+        assertEquals(10.0, board.getScore(ALICE));
+    }
+
+    @Test
+    void missingPlayersAndRanksAreEmpty() {
+        Leaderboard board = new Leaderboard();
+        board.update(ALICE, 1);
+        board.remove(BOB);
+        board.remove(ALICE);
+        board.remove(ALICE);
+
+        assertEquals(0, board.size());
+        assertEquals(0, board.getRank(ALICE));
+        assertNull(board.getPlayerAt(0));
+        assertNull(board.getPlayerAt(1));
+        assertEquals(0.0, board.getScoreAt(1));
+        assertEquals(0.0, board.getScore(ALICE));
+    }
+
+    @Test
+    void matchesASortedListUnderRandomChanges() {
+        Random random = new Random(7L);
+        List<UUID> pool = new ArrayList<>();
+        for (int i = 0; i < 300; i++) {
+            pool.add(new UUID(random.nextLong(), random.nextLong()));
+        }
+
+        Leaderboard board = new Leaderboard();
+        Map<UUID, Double> scores = new HashMap<>();
+        for (int step = 0; step < 5000; step++) {
+            UUID playerId = pool.get(random.nextInt(pool.size()));
+            if (random.nextInt(4) == 0) {
+                board.remove(playerId);
+                scores.remove(playerId);
+            } else {
+                // Few distinct scores, so most players tie with someone
+                double score = random.nextInt(20) / 2.0;
+                board.update(playerId, score);
+                scores.put(playerId, score);
+            }
+
+            if (step % 50 == 0) {
+                assertMatches(board, scores, pool);
+            }
+        }
+        assertMatches(board, scores, pool);
+    }
+
+    private static void assertMatches(Leaderboard board, Map<UUID, Double> scores, List<UUID> pool) {
+        List<UUID> expected = new ArrayList<>(scores.keySet());
+        expected.sort(Comparator.<UUID>comparingDouble(scores::get).reversed()
+                .thenComparing(Comparator.naturalOrder()));
+
+        assertEquals(expected.size(), board.size());
+        for (int i = 0; i < expected.size(); i++) {
+            UUID playerId = expected.get(i);
+            assertEquals(playerId, board.getPlayerAt(i + 1));
+            assertEquals((double) scores.get(playerId), board.getScoreAt(i + 1));
+            assertEquals(i + 1, board.getRank(playerId));
+        }
+        assertNull(board.getPlayerAt(expected.size() + 1));
+
+        for (UUID playerId : pool) {
+            if (!scores.containsKey(playerId)) {
+                assertEquals(0, board.getRank(playerId));
+            }
+        }
+    }
+}